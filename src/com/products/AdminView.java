@@ -1,8 +1,9 @@
 package com.products;
-import com.products.Cart.Cart;
 import com.products.File.FileManager;
 import com.products.Order.OrderView;
 import com.products.Product.AdminProductCard;
+import com.products.Product.Catalog;
+import com.products.Product.ProductGrid;
 import com.products.Product.ProductView;
 import com.products.Product.Produs;
 import com.products.Report.ReportManagementView;
@@ -11,7 +12,6 @@ import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.Scene;
 import javafx.scene.control.*;
-import javafx.scene.effect.DropShadow;
 import javafx.scene.layout.*;
 import javafx.scene.paint.Color;
 import javafx.scene.text.Font;
@@ -34,16 +34,21 @@ public class AdminView {
     private final FileManager fileManager = FileManager.getInstance();
 
     /**
-     * Lista de produse gestionată în aplicație.
-     * Este actualizată din FileManager și menținută sincronizată cu starea aplicației.
+     * Catalogul de produse gestionat în aplicație.
+     * Grila de produse parcurge întotdeauna versiunea curentă, imuabilă, a acestuia.
      */
-    private List<Produs> produse = fileManager.getProduse();
+    private final Catalog catalog = fileManager.getCatalog();
 
     /**
-     * GridPane utilizat pentru afișarea produselor într-o grilă.
-     * Permite organizarea produselor într-un format vizual ușor de navigat.
+     * Grila virtualizată utilizată pentru afișarea produselor, câte trei pe rând.
+     * Doar cardurile vizibile există, iar acestea sunt refolosite la derulare.
      */
-    private GridPane productGrid = new GridPane();
+    private final ProductGrid productGrid;
+
+    /**
+     * Textul căutat în grila de produse; gol pentru afișarea tuturor produselor.
+     */
+    private String searchQuery = "";
 
     /**
      * Fereastra principală a aplicației.
@@ -83,19 +88,10 @@ public class AdminView {
      */
     public AdminView(Stage primaryStage) {
         this.primaryStage = primaryStage;
-        this.productView = new ProductView(produse, this);
-        this.orderView = new OrderView(new Cart());
-        this.reportManagementView = new ReportManagementView(produse, FileManager.loadOrders());
-    }
-
-    /**
-     * Actualizează lista de produse.
-     * Folosită când se modifică datele din exterior pentru a menține sincronizarea.
-     *
-     * @param produse Noua listă de produse care va înlocui lista existentă
-     */
-    public void setProduse(List<Produs> produse) {
-        this.produse = produse;
+        this.productView = new ProductView(catalog, this);
+        this.productGrid = new ProductGrid(3, () -> new AdminProductCard(this, productView));
+        this.orderView = new OrderView(Main.getOrderStore());
+        this.reportManagementView = new ReportManagementView(catalog, Main.getOrderStore());
     }
 
     /**
@@ -120,46 +116,12 @@ public class AdminView {
         adminMenuLayout.setPadding(new Insets(40));
         adminMenuLayout.setStyle("-fx-background-color: linear-gradient(to bottom right, #f8bbd0, #f48fb1);");
 
-        // Definire stiluri pentru butoane
-        String buttonStyle = """
-            -fx-background-color: white;
-            -fx-text-fill: #f50057;
-            -fx-font-size: 14px;
-            -fx-font-weight: bold;
-            -fx-padding: 15 30;
-            -fx-background-radius: 5;
-            -fx-min-width: 200px;
-            -fx-min-height: 50px;
-            """;
-
-        String buttonHoverStyle = """
-            -fx-background-color: #f8bbd0;
-            -fx-text-fill: #d5006d;
-            -fx-cursor: hand;
-            -fx-font-size: 14px;
-            -fx-font-weight: bold;
-            -fx-padding: 15 30;
-            -fx-background-radius: 5;
-            -fx-min-width: 200px;
-            -fx-min-height: 50px;
-            """;
-
-        // Creare efect umbră
-        DropShadow shadow = new DropShadow();
-        shadow.setRadius(10.0);
-        shadow.setColor(Color.rgb(0, 0, 0, 0.3));
-
         // Creare butoane cu stil
-        Button addProductButton = controllersManipulation.createStyledButton(
-                "Adaugă Produs", buttonStyle, buttonHoverStyle, shadow);
-        Button viewProductsButton = controllersManipulation.createStyledButton(
-                "Vizualizează Produse", buttonStyle, buttonHoverStyle, shadow);
-        Button viewOrdersButton = controllersManipulation.createStyledButton(
-                "Vezi Comenzi", buttonStyle, buttonHoverStyle, shadow);
-        Button exitApplication = controllersManipulation.createStyledButton(
-                "Închide aplicația", buttonStyle, buttonHoverStyle, shadow);
-        Button reportButton = controllersManipulation.createStyledButton(
-                "Gestionare Rapoarte", buttonStyle, buttonHoverStyle, shadow);
+        Button addProductButton = controllersManipulation.createStyledButton("Adaugă Produs");
+        Button viewProductsButton = controllersManipulation.createStyledButton("Vizualizează Produse");
+        Button viewOrdersButton = controllersManipulation.createStyledButton("Vezi Comenzi");
+        Button exitApplication = controllersManipulation.createStyledButton("Închide aplicația");
+        Button reportButton = controllersManipulation.createStyledButton("Gestionare Rapoarte");
 
         // Configurare acțiuni butoane
         reportButton.setOnAction(e -> reportManagementView.openReportManagementView());
@@ -191,49 +153,36 @@ public class AdminView {
      * Include funcționalități pentru navigare și administrare produse.
      */
     private void openAdminProductView() {
-        // Actualizare listă produse
-        produse = fileManager.getProduse();
-
         // Configurare fereastră
         Stage productStage = new Stage();
         productStage.setTitle("Produse Administrator");
         productStage.setMinHeight(600);
         productStage.setMinWidth(800);
 
-        // Configurare GridPane
-        productGrid = new GridPane();
-        productGrid.setHgap(10);
-        productGrid.setVgap(10);
-        productGrid.setStyle("-fx-background-color: linear-gradient(to bottom right, #f8bbd0, #f48fb1);");
-
-        // Configurare coloane responsive
-        for (int i = 0; i < 3; i++) {
-            ColumnConstraints columnConstraints = new ColumnConstraints();
-            columnConstraints.setPercentWidth(33.33);
-            productGrid.getColumnConstraints().add(columnConstraints);
-        }
+        // Populare grilă cu produse; grila urmărește apoi catalogul cât timp fereastra este deschisă
+        searchQuery = "";
+        productGrid.attach(catalog, this::currentProducts);
+        productStage.setOnHidden(e -> productGrid.detach());
 
-        // Populare grid cu produse
-        refreshProductGrid();
+        // Configurare câmp de căutare
+        TextField searchField = controllersManipulation.createSearchField(catalog.getSearchIndex(), query -> {
+            searchQuery = query;
+            productGrid.setProducts(currentProducts());
+        });
 
-        // Configurare ScrollPane
-        ScrollPane scrollPane = new ScrollPane(productGrid);
-        scrollPane.setFitToWidth(true);
+        ListView<?> gridView = productGrid.getNode();
+        VBox.setVgrow(gridView, Priority.ALWAYS);
 
         // Configurare buton înapoi
         Button backButton = new Button("Înapoi către meniu");
-        backButton.setStyle("-fx-background-color:pink;-fx-padding: 10; -fx-font-weight: bold;");
-        backButton.setOnMouseEntered(e ->
-                backButton.setStyle("-fx-background-color:white;-fx-padding: 10; -fx-font-weight: bold;"));
-        backButton.setOnMouseExited(e ->
-                backButton.setStyle("-fx-background-color:pink;-fx-padding: 10; -fx-font-weight: bold;"));
+        backButton.getStyleClass().add("nav-button");
         backButton.setOnAction(e -> {
             productStage.close();
             openAdminMenu();
         });
 
         // Configurare layout principal
-        VBox mainLayout = new VBox(10, scrollPane, backButton);
+        VBox mainLayout = new VBox(10, searchField, gridView, backButton);
         mainLayout.setPadding(new Insets(10));
         mainLayout.setAlignment(Pos.CENTER);
 
@@ -244,19 +193,15 @@ public class AdminView {
     }
 
     /**
-     * Reîmprospătează grila de produse.
-     * Actualizează afișarea produselor în interfață după modificări.
-     * Reorganizează cardurile produselor într-un grid de 3 coloane făcând interfața responsive.
+     * Calculează produsele afișate în grilă: întregul catalog sau rezultatele căutării curente.
+     * Grila compară lista cu cea afișată și actualizează doar rândurile care diferă.
+     *
+     * @return List<Produs> Produsele afișate
      */
-    public void refreshProductGrid() {
-        System.out.println("Refresh!");
-        productGrid.getChildren().clear();
-
-        for (int i = 0; i < produse.size(); i++) {
-            Produs produs = produse.get(i);
-            Pane productCard = AdminProductCard.createAdminProductCard(produs, this, productView);
-            productGrid.add(productCard, i % 3, i / 3);
-        }
+    private List<Produs> currentProducts() {
+        return searchQuery.isBlank()
+                ? catalog.snapshot()
+                : catalog.getSearchIndex().search(searchQuery, Integer.MAX_VALUE);
     }
 
     /**
@@ -265,6 +210,8 @@ public class AdminView {
      */
     private void closeApplication() {
         System.out.println("Buton apasat!");
+        // Comenzile aflate încă în coadă sunt salvate înainte de ieșire
+        Main.shutdownOrderPipeline();
         if (primaryStage != null) {
             primaryStage.close();
         }
@@ -3,37 +3,29 @@ package com.products;
 /**
  * Clasa utilitară pentru afișarea alertelor în aplicație.
  * Oferă metode statice pentru afișarea diferitelor tipuri de alerte către utilizator.
+ * Informările și erorile sunt afișate ca notificări nemodale prin {@link Toasts}, astfel încât
+ * operațiile repetate nu cer câte un clic pentru fiecare mesaj; doar confirmările rămân modale.
  */
 public class Alert {
 
     /**
      * Afișează o alertă către utilizator cu titlu, mesaj și tip specificate.
-     * Suportă trei tipuri de alerte: INFORMATION, ERROR și CONFIRMATION.
+     * Tipul ERROR produce o notificare de eroare, tipul CONFIRMATION o fereastră modală,
+     * iar orice alt tip o notificare de informare. Doar notificările identice sunt grupate.
      *
      * @param title Titlul alertei
      * @param message Mesajul alertei
      * @param type Tipul alertei ("INFORMATION", "ERROR" sau "CONFIRMATION")
      */
     public static void showAlert(String title, String message, String type) {
-        if(type.equals("INFORMATION")) {
-            javafx.scene.control.Alert alert = new javafx.scene.control.Alert(javafx.scene.control.Alert.AlertType.INFORMATION);
-            alert.setTitle(title);
-            alert.setHeaderText(null);
-            alert.setContentText(message);
-            alert.showAndWait();
-        } else if (type.equals("ERROR")) {
-            javafx.scene.control.Alert alert = new javafx.scene.control.Alert(javafx.scene.control.Alert.AlertType.ERROR);
-            alert.setTitle(title);
-            alert.setHeaderText(null);
-            alert.setContentText(message);
-            alert.showAndWait();
-        }
-        else {
+        if (type.equals("CONFIRMATION")) {
             javafx.scene.control.Alert alert = new javafx.scene.control.Alert(javafx.scene.control.Alert.AlertType.CONFIRMATION);
             alert.setTitle(title);
             alert.setHeaderText(null);
             alert.setContentText(message);
             alert.showAndWait();
+        } else {
+            Toasts.show(title, message, type.equals("ERROR"));
         }
     }
-}
\ No newline at end of file
+}
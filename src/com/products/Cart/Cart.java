@@ -2,34 +2,76 @@ package com.products.Cart;
 
 import com.products.Product.Produs;
 import com.products.Product.ProdusValidationException;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * Clasa Cart reprezintă coșul de cumpărături al aplicației.
- * Gestionează produsele și cantitățile acestora folosind un HashMap.
+ * Gestionează produsele și cantitățile acestora, în ordinea adăugării.
+ * Totalul coșului este actualizat la fiecare modificare, iar modificările sunt anunțate
+ * ascultătorilor înregistrați, astfel încât interfața actualizează doar linia afectată.
+ * Fiecare linie reține prețul unitar din momentul ultimei modificări; comanda trimisă din coș
+ * folosește aceleași prețuri, deci valoarea ei este totalul afișat al coșului.
  */
 
 public class Cart {
     /** Mapare care stochează perechile produs-cantitate din coș */
     private final Map<Produs, Integer> items;
+
+    /** Vedere nemodificabilă asupra perechilor din coș; modificările trec prin metodele coșului */
+    private final Map<Produs, Integer> itemsView;
+
+    /** Prețul unitar al fiecărei linii, în bani, reținut la ultima modificare a liniei */
+    private final Map<Produs, Long> linePretBani = new HashMap<>();
+
+    /** Cantitatea scoasă din stocul fiecărui produs de adăugările în coș, încă nevândută */
+    private final Map<Produs, Integer> rezervari = new HashMap<>();
+
+    /** Valoarea curentă a coșului, în bani, actualizată la fiecare modificare */
+    private long totalBani;
+
+    /** Ascultătorii modificărilor coșului */
+    private final List<CartListener> listeners = new CopyOnWriteArrayList<>();
+
     /**
      * Constructorul implicit al clasei Cart.
      * Inițializează o nouă mapare goală pentru produse.
      */
     public Cart() {
-
-        this.items = new HashMap<>();
+        this.items = new LinkedHashMap<>();
+        this.itemsView = Collections.unmodifiableMap(items);
     }
 
     /**
      * Returnează perechea curentă de produse și cantități din coș.
      *
-     * @return Map&lt;Produs, Integer&gt; Perechile produs-cantitate din coș
+     * @return Map&lt;Produs, Integer&gt; Perechile produs-cantitate din coș, nemodificabile
      */
     public Map<Produs, Integer> getItems() {
-        return items;
+        return itemsView;
+    }
+
+    /**
+     * Înregistrează un ascultător pentru modificările coșului.
+     *
+     * @param listener Ascultătorul înregistrat
+     */
+    public void addListener(CartListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Elimină un ascultător înregistrat anterior.
+     *
+     * @param listener Ascultătorul eliminat
+     */
+    public void removeListener(CartListener listener) {
+        listeners.remove(listener);
     }
 
     /**
@@ -41,11 +83,16 @@ public class Cart {
      * @throws ProdusValidationException dacă cantitatea cerută depășește stocul disponibil
      */
     public String addProduct(Produs produs, int quantity) throws ProdusValidationException {
-        if (quantity > produs.getCantitateDisponibila()) {
-            throw new ProdusValidationException("Stoc insuficient pentru produsul: " + produs.getNume() + ". Cantitate disponibilă: " + produs.getCantitateDisponibila());
+        // Stocul unui produs este partajat între toate sesiunile, deci verificarea și rezervarea sunt atomice
+        synchronized (produs) {
+            if (quantity > produs.getCantitateDisponibila()) {
+                throw new ProdusValidationException("Stoc insuficient pentru produsul: " + produs.getNume() + ". Cantitate disponibilă: " + produs.getCantitateDisponibila());
+            }
+            produs.setCantitateDisponibila(produs.getCantitateDisponibila()-quantity);
         }
-        items.put(produs, items.getOrDefault(produs, 0) + quantity);
-        produs.setCantitateDisponibila(produs.getCantitateDisponibila()-quantity);
+        rezervari.merge(produs, quantity, Integer::sum);
+        int vechi = items.getOrDefault(produs, 0);
+        setQuantity(produs, vechi, vechi + quantity);
         return "Produs adăugat: " + produs.getNume() + ", Cantitate: " + quantity;
     }
 
@@ -63,7 +110,7 @@ public class Cart {
         } else if (newQuantity > produs.getCantitateDisponibila()) {
             return "Cantitatea pentru " + produs.getNume().toUpperCase(Locale.ROOT) + " nu este disponibila. Sunt disponibile doar "+produs.getCantitateDisponibila()+" bucati.";
         } else {
-            items.put(produs, newQuantity);
+            setQuantity(produs, items.getOrDefault(produs, 0), newQuantity);
             return "Cantitatea pentru " + produs.getNume() + " a fost actualizată la " + newQuantity;
         }
     }
@@ -75,14 +122,93 @@ public class Cart {
      * @return String Mesaj de confirmare a eliminării produsului
      */
     public String removeProduct(Produs produs) {
-        items.remove(produs);
+        Integer vechi = items.get(produs);
+        if (vechi != null) {
+            setQuantity(produs, vechi, 0);
+        }
         return "Produsul " + produs.getNume() + " a fost șters din coș.";
     }
 
+    /**
+     * Actualizează prețul reținut pe linia produsului la prețul lui curent, de exemplu după ce
+     * administratorul a modificat prețul. Totalul este ajustat, iar ascultătorii sunt anunțați
+     * cu aceeași cantitate. Nu face nimic dacă produsul nu este în coș.
+     *
+     * @param produs Produsul al cărui preț s-a modificat
+     */
+    public void refreshPrice(Produs produs) {
+        Integer cantitate = items.get(produs);
+        if (cantitate != null && linePretBani.get(produs) != produs.getPretBani()) {
+            setQuantity(produs, cantitate, cantitate);
+        }
+    }
+
+    /**
+     * Returnează prețul unitar reținut pe linia produsului.
+     *
+     * @param produs Produsul căutat
+     * @return long Prețul unitar al liniei, în bani, sau prețul curent al produsului dacă nu este în coș
+     */
+    public long getPretBani(Produs produs) {
+        Long pret = linePretBani.get(produs);
+        return pret != null ? pret : produs.getPretBani();
+    }
+
+    /**
+     * Returnează valoarea exactă a produselor din coș, fără a parcurge liniile.
+     * Fiecare linie contribuie cu prețul unitar reținut pe ea.
+     *
+     * @return long Suma prețurilor înmulțite cu cantitățile, în bani
+     */
+    public long getTotalBani() {
+        return totalBani;
+    }
+
     /**
      * Golește coșul de cumpărături, eliminând toate produsele.
+     * Cantitățile rezervate sunt considerate vândute, deci nu revin în stoc.
      */
     public void clearCart(){
         items.clear();
+        linePretBani.clear();
+        rezervari.clear();
+        totalBani = 0;
+        for (CartListener listener : listeners) {
+            listener.onCleared();
+        }
+    }
+
+    /**
+     * Returnează în stocul produselor cantitățile rezervate de coș și golește coșul.
+     * Folosită când coșul este abandonat, fără ca o comandă să fi fost trimisă.
+     */
+    public void releaseReservations() {
+        for (Map.Entry<Produs, Integer> rezervare : rezervari.entrySet()) {
+            Produs produs = rezervare.getKey();
+            synchronized (produs) {
+                produs.setCantitateDisponibila(produs.getCantitateDisponibila() + rezervare.getValue());
+            }
+        }
+        clearCart();
+    }
+
+    /**
+     * Schimbă cantitatea unei linii, actualizează totalul și anunță ascultătorii.
+     * O cantitate nouă 0 elimină linia.
+     */
+    private void setQuantity(Produs produs, int vechi, int noua) {
+        long pret = produs.getPretBani();
+        Long pretVechi;
+        if (noua == 0) {
+            items.remove(produs);
+            pretVechi = linePretBani.remove(produs);
+        } else {
+            items.put(produs, noua);
+            pretVechi = linePretBani.put(produs, pret);
+        }
+        totalBani += pret * noua - (pretVechi == null ? 0 : pretVechi * vechi);
+        for (CartListener listener : listeners) {
+            listener.onItemChanged(produs, vechi, noua);
+        }
     }
 }
\ No newline at end of file
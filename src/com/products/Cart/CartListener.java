@@ -0,0 +1,26 @@
+package com.products.Cart;
+
+import com.products.Product.Produs;
+
+/**
+ * Ascultător pentru modificările coșului de cumpărături.
+ * Metodele sunt apelate pe firul care a modificat coșul, după modificare.
+ */
+public interface CartListener {
+    /**
+     * Apelată după schimbarea cantității unui produs din coș.
+     * O cantitate veche 0 înseamnă un produs nou în coș, iar o cantitate nouă 0 un produs eliminat.
+     *
+     * @param produs Produsul a cărui linie s-a schimbat
+     * @param cantitateVeche Cantitatea dinaintea modificării
+     * @param cantitateNoua Cantitatea de după modificare
+     */
+    default void onItemChanged(Produs produs, int cantitateVeche, int cantitateNoua) {
+    }
+
+    /**
+     * Apelată după golirea coșului.
+     */
+    default void onCleared() {
+    }
+}
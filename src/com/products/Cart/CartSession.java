@@ -0,0 +1,105 @@
+package com.products.Cart;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Clasa CartSession reprezintă sesiunea de cumpărături a unui singur client.
+ * Fiecare sesiune are propriul coș, propriul indicator de trimitere a comenzii
+ * și momentul ultimei activități, folosit pentru eliminarea sesiunilor inactive.
+ * O sesiune fixată, cum este cea a interfeței grafice, nu este eliminată niciodată.
+ */
+public class CartSession {
+    /** Identificatorul unic al sesiunii */
+    private final String sessionId;
+
+    /** Coșul de cumpărături al sesiunii */
+    private final Cart cart;
+
+    /** Indicator care arată dacă, pentru coșul curent, comanda a fost deja trimisă */
+    private final AtomicBoolean orderSent = new AtomicBoolean(false);
+
+    /** Indicator care arată dacă sesiunea poate fi eliminată pentru inactivitate */
+    private final boolean evictable;
+
+    /** Momentul ultimei activități în sesiune, în nanosecunde (System.nanoTime) */
+    private volatile long lastAccessNanos;
+
+    /**
+     * Constructorul clasei CartSession.
+     *
+     * @param sessionId Identificatorul unic al sesiunii
+     */
+    public CartSession(String sessionId) {
+        this(sessionId, true);
+    }
+
+    /**
+     * Constructorul clasei CartSession.
+     *
+     * @param sessionId Identificatorul unic al sesiunii
+     * @param evictable false pentru o sesiune fixată, care nu este eliminată pentru inactivitate
+     */
+    public CartSession(String sessionId, boolean evictable) {
+        this.sessionId = sessionId;
+        this.evictable = evictable;
+        this.cart = new Cart();
+        this.lastAccessNanos = System.nanoTime();
+    }
+
+    /** @return Identificatorul unic al sesiunii */
+    public String getSessionId() {
+        return sessionId;
+    }
+
+    /**
+     * Returnează coșul sesiunii și marchează sesiunea ca fiind activă.
+     *
+     * @return Cart Coșul de cumpărături al sesiunii
+     */
+    public Cart getCart() {
+        touch();
+        return cart;
+    }
+
+    /**
+     * Marchează comanda coșului curent ca trimisă.
+     *
+     * @return true dacă indicatorul a fost setat acum, false dacă comanda fusese deja trimisă
+     */
+    public boolean markOrderSent() {
+        touch();
+        return orderSent.compareAndSet(false, true);
+    }
+
+    /**
+     * Resetează indicatorul de trimitere, permițând o nouă comandă din această sesiune.
+     */
+    public void resetOrderSent() {
+        touch();
+        orderSent.set(false);
+    }
+
+    /** @return true dacă pentru coșul curent comanda a fost deja trimisă */
+    public boolean isOrderSent() {
+        return orderSent.get();
+    }
+
+    /**
+     * Actualizează momentul ultimei activități în sesiune.
+     */
+    public void touch() {
+        lastAccessNanos = System.nanoTime();
+    }
+
+    /**
+     * Verifică dacă sesiunea a fost inactivă mai mult decât limita dată.
+     * O sesiune fixată nu este considerată niciodată inactivă.
+     *
+     * @param nowNanos Momentul curent, în nanosecunde
+     * @param idleTimeoutNanos Durata maximă de inactivitate, în nanosecunde
+     * @return true dacă sesiunea este inactivă
+     */
+    boolean isIdle(long nowNanos, long idleTimeoutNanos) {
+        return evictable && nowNanos - lastAccessNanos > idleTimeoutNanos;
+    }
+}
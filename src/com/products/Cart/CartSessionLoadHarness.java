@@ -0,0 +1,119 @@
+package com.products.Cart;
+
+import com.products.Order.Comanda;
+import com.products.Product.Catalog;
+import com.products.Product.Produs;
+import com.products.Product.ProdusValidationException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntFunction;
+
+/**
+ * Program de încărcare care simulează, fără interfață grafică, mii de clienți simultani.
+ * Fiecare client deschide o sesiune, adaugă produse în coș, modifică o cantitate și fie
+ * trimite comanda, fie abandonează coșul, care este apoi eliminat pentru inactivitate.
+ * La final, stocul rămas trebuie să fie stocul inițial minus cantitățile comandate: rezervările
+ * coșurilor abandonate revin în stoc la eliminarea sesiunilor.
+ *
+ * Utilizare: {@code java com.products.Cart.CartSessionLoadHarness [clienti] [fire] [produse]}
+ */
+public class CartSessionLoadHarness {
+    private CartSessionLoadHarness() {
+    }
+
+    /**
+     * Punctul de intrare al simulării.
+     *
+     * @param args Numărul de clienți, numărul de fire de execuție și numărul de produse (opționale)
+     * @throws InterruptedException dacă simularea este întreruptă
+     */
+    public static void main(String[] args) throws InterruptedException {
+        int shoppers = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors() * 4;
+        int productCount = args.length > 2 ? Integer.parseInt(args[2]) : 200;
+        int initialStock = 1_000_000;
+
+        List<Produs> produse = new ArrayList<>();
+        for (int i = 0; i < productCount; i++) {
+            produse.add(new Produs(1 + i % 50, "Produs de test " + i, initialStock, "Produs" + i,
+                    "2024-01-01", "2030-01-01", 0, 0, 0));
+        }
+
+        // Catalogul atribuie identificatorii prin care comenzile își găsesc produsele
+        Catalog catalog = new Catalog(produse);
+        IntFunction<Produs> produsResolver = catalog::getById;
+
+        CartSessionManager manager = CartSessionManager.start(Duration.ofMillis(200));
+        AtomicInteger checkouts = new AtomicInteger();
+        AtomicInteger abandoned = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        AtomicLong sold = new AtomicLong();
+        AtomicInteger peakSessions = new AtomicInteger();
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        long start = System.nanoTime();
+        for (int s = 0; s < shoppers; s++) {
+            executor.execute(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                CartSession session = manager.openSession();
+                peakSessions.accumulateAndGet(manager.getActiveSessionCount(), Math::max);
+                Cart cart = session.getCart();
+
+                int lines = 1 + random.nextInt(8);
+                for (int i = 0; i < lines; i++) {
+                    Produs produs = produse.get(random.nextInt(produse.size()));
+                    int quantity = 1 + random.nextInt(3);
+                    try {
+                        cart.addProduct(produs, quantity);
+                    } catch (ProdusValidationException e) {
+                        rejected.incrementAndGet();
+                    }
+                }
+                if (!cart.getItems().isEmpty()) {
+                    Produs first = cart.getItems().keySet().iterator().next();
+                    cart.updateQuantity(first, cart.getItems().get(first));
+                }
+
+                if (random.nextInt(10) < 7 && !cart.getItems().isEmpty() && session.markOrderSent()) {
+                    new Comanda(cart, produsResolver);
+                    sold.addAndGet(cart.getItems().values().stream().mapToLong(Integer::longValue).sum());
+                    cart.clearCart();
+                    manager.closeSession(session.getSessionId());
+                    checkouts.incrementAndGet();
+                } else {
+                    abandoned.incrementAndGet();
+                }
+            });
+        }
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.MINUTES);
+        long elapsedNanos = System.nanoTime() - start;
+
+        int openAfterRun = manager.getActiveSessionCount();
+        Thread.sleep(500);
+        manager.evictIdleSessions();
+
+        long remainingStock = produse.stream().mapToLong(Produs::getCantitateDisponibila).sum();
+        long expectedStock = (long) initialStock * productCount - sold.get();
+
+        System.out.println("Simulare sesiuni coș");
+        System.out.println("========================");
+        System.out.printf("Clienți: %d, fire: %d, produse: %d%n", shoppers, threads, productCount);
+        System.out.printf("Durată: %.1f ms, %.0f sesiuni/s%n", elapsedNanos / 1e6, shoppers / (elapsedNanos / 1e9));
+        System.out.printf("Comenzi trimise: %d, coșuri abandonate: %d, adăugări respinse: %d%n",
+                checkouts.get(), abandoned.get(), rejected.get());
+        System.out.printf("Sesiuni active (maxim): %d, după rulare: %d, după eliminare: %d, eliminate: %d%n",
+                peakSessions.get(), openAfterRun, manager.getActiveSessionCount(), manager.getEvictedCount());
+        System.out.printf("Stoc rămas: %d, stoc așteptat: %d (%s)%n", remainingStock, expectedStock,
+                remainingStock == expectedStock ? "consistent" : "INCONSISTENT");
+
+        manager.shutdown();
+    }
+}
@@ -0,0 +1,178 @@
+package com.products.Cart;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Clasa CartSessionManager gestionează sesiunile de cumpărături ale tuturor clienților conectați.
+ * Sesiunile sunt păstrate într-o mapare concurentă, indexată după identificatorul sesiunii,
+ * iar sesiunile inactive sunt eliminate periodic de un fir de execuție de fundal, care returnează
+ * în stoc cantitățile rezervate de coșurile lor. Sesiunea interfeței grafice este fixată: coșul ei
+ * este folosit pe firul JavaFX și nu este golit de firul de fundal.
+ */
+public class CartSessionManager {
+    /** Durata implicită de inactivitate după care o sesiune este eliminată */
+    public static final Duration DEFAULT_IDLE_TIMEOUT = Duration.ofMinutes(30);
+
+    /** Instanța partajată folosită de interfața grafică */
+    private static volatile CartSessionManager instance;
+
+    /** Maparea concurentă a sesiunilor active, după identificator */
+    private final Map<String, CartSession> sessions = new ConcurrentHashMap<>();
+
+    /** Durata maximă de inactivitate a unei sesiuni, în nanosecunde */
+    private final long idleTimeoutNanos;
+
+    /** Planificatorul care rulează eliminarea sesiunilor inactive */
+    private final ScheduledExecutorService evictionScheduler;
+
+    /** Numărul total de sesiuni eliminate pentru inactivitate */
+    private final AtomicLong evictedCount = new AtomicLong();
+
+    /** Perioada verificării sesiunilor inactive, în milisecunde */
+    private final long evictionPeriodMillis;
+
+    /**
+     * Constructorul clasei CartSessionManager.
+     * Firul de fundal este pornit separat, prin {@link #start(Duration)}.
+     *
+     * @param idleTimeout Durata de inactivitate după care o sesiune este eliminată
+     */
+    private CartSessionManager(Duration idleTimeout) {
+        this.idleTimeoutNanos = idleTimeout.toNanos();
+        this.evictionPeriodMillis = Math.max(1, idleTimeout.toMillis() / 2);
+        this.evictionScheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "cart-session-eviction");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Creează un manager de sesiuni și pornește firul de fundal care verifică sesiunile inactive
+     * la jumătate din durata de expirare.
+     *
+     * @param idleTimeout Durata de inactivitate după care o sesiune este eliminată
+     * @return CartSessionManager Managerul pornit
+     */
+    public static CartSessionManager start(Duration idleTimeout) {
+        CartSessionManager manager = new CartSessionManager(idleTimeout);
+        manager.evictionScheduler.scheduleAtFixedRate(manager::evictIdleSessions,
+                manager.evictionPeriodMillis, manager.evictionPeriodMillis, TimeUnit.MILLISECONDS);
+        return manager;
+    }
+
+    /**
+     * Returnează instanța partajată a managerului de sesiuni.
+     *
+     * @return CartSessionManager Instanța unică folosită de aplicație
+     */
+    public static CartSessionManager getInstance() {
+        if (instance == null) {
+            synchronized (CartSessionManager.class) {
+                if (instance == null) {
+                    instance = start(DEFAULT_IDLE_TIMEOUT);
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Deschide o sesiune nouă, cu un coș gol.
+     *
+     * @return CartSession Sesiunea nou creată
+     */
+    public CartSession openSession() {
+        return register(new CartSession(UUID.randomUUID().toString()));
+    }
+
+    /**
+     * Deschide o sesiune fixată, cu un coș gol, care nu este eliminată pentru inactivitate.
+     * Folosită de interfața grafică, al cărei coș este modificat doar pe firul JavaFX.
+     *
+     * @return CartSession Sesiunea nou creată
+     */
+    public CartSession openPinnedSession() {
+        return register(new CartSession(UUID.randomUUID().toString(), false));
+    }
+
+    private CartSession register(CartSession session) {
+        sessions.put(session.getSessionId(), session);
+        return session;
+    }
+
+    /**
+     * Returnează sesiunea cu identificatorul dat și o marchează ca activă.
+     *
+     * @param sessionId Identificatorul sesiunii
+     * @return CartSession Sesiunea găsită sau null dacă nu există ori a expirat
+     */
+    public CartSession getSession(String sessionId) {
+        CartSession session = sessions.get(sessionId);
+        if (session != null) {
+            session.touch();
+        }
+        return session;
+    }
+
+    /**
+     * Închide o sesiune, returnează în stoc cantitățile rezervate de coșul ei și golește coșul.
+     * Coșul unei comenzi trimise a fost deja golit, deci cantitățile vândute nu revin în stoc.
+     *
+     * @param sessionId Identificatorul sesiunii
+     */
+    public void closeSession(String sessionId) {
+        CartSession session = sessions.remove(sessionId);
+        if (session != null) {
+            session.getCart().releaseReservations();
+        }
+    }
+
+    /**
+     * Elimină sesiunile care au depășit durata maximă de inactivitate.
+     * O sesiune este eliminată doar dacă este încă inactivă în momentul ștergerii,
+     * astfel încât o sesiune atinsă în paralel rămâne activă. Cantitățile rezervate de coșurile
+     * eliminate revin în stoc; sesiunile fixate nu sunt eliminate.
+     *
+     * @return int Numărul de sesiuni eliminate
+     */
+    public int evictIdleSessions() {
+        long now = System.nanoTime();
+        int evicted = 0;
+        Iterator<CartSession> iterator = sessions.values().iterator();
+        while (iterator.hasNext()) {
+            CartSession session = iterator.next();
+            if (session.isIdle(now, idleTimeoutNanos) && sessions.remove(session.getSessionId(), session)) {
+                session.getCart().releaseReservations();
+                evicted++;
+            }
+        }
+        evictedCount.addAndGet(evicted);
+        return evicted;
+    }
+
+    /** @return Numărul de sesiuni active */
+    public int getActiveSessionCount() {
+        return sessions.size();
+    }
+
+    /** @return Numărul total de sesiuni eliminate pentru inactivitate */
+    public long getEvictedCount() {
+        return evictedCount.get();
+    }
+
+    /**
+     * Oprește firul de fundal care elimină sesiunile inactive.
+     */
+    public void shutdown() {
+        evictionScheduler.shutdownNow();
+    }
+}
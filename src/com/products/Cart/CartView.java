@@ -1,9 +1,16 @@
 package com.products.Cart;
 import com.products.Alert;
 import com.products.ControllersManipulation;
+import com.products.Money;
+import com.products.Toasts;
 import com.products.Order.OrderView;
+import com.products.File.FileManager;
+import com.products.Product.CampProdus;
+import com.products.Product.Catalog;
+import com.products.Product.CatalogListener;
 import com.products.Product.Produs;
 import com.products.Product.ProdusValidationException;
+import javafx.application.Platform;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.Scene;
@@ -13,6 +20,10 @@ import javafx.scene.paint.Color;
 import javafx.stage.Stage;
 import javafx.scene.effect.DropShadow;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 import static com.products.ControllersManipulation.*;
 
 /**
@@ -21,8 +32,15 @@ import static com.products.ControllersManipulation.*;
  * actualizarea cantităților și calculul totalului.
  */
 public class CartView {
+    /** Cheia de grupare a notificărilor pentru adăugările în coș și modificările de cantitate */
+    private static final String CART_TOAST_KEY = "cart-update";
+
+    /** Titlul notificărilor grupate ale coșului */
+    private static final String CART_TOAST_TITLE = "Coș actualizat";
     /** Referință către vizualizarea comenzilor*/
     private OrderView orderView;
+    /** Referință către sesiunea de cumpărături care deține coșul */
+    private CartSession session;
     /** Referință către obiectul coș de cumpărături */
     private Cart cart;
     /** Container pentru lista de produse */
@@ -31,14 +49,42 @@ public class CartView {
     private Label totalLabel;
     /** Fereastra principală a coșului */
     private Stage cartStage;
+    /** Liniile afișate, după produs, în ordinea din coș */
+    private final Map<Produs, CartRow> rows = new LinkedHashMap<>();
+    /** Ascultătorul coșului, activ cât timp fereastra este deschisă */
+    private final CartListener cartListener = new CartListener() {
+        @Override
+        public void onItemChanged(Produs produs, int cantitateVeche, int cantitateNoua) {
+            onFxThread(() -> updateRow(produs, cantitateNoua));
+        }
+
+        @Override
+        public void onCleared() {
+            onFxThread(() -> {
+                rows.clear();
+                productsContainer.getChildren().clear();
+                updateTotal();
+            });
+        }
+    };
+    /** Ascultătorul catalogului, care actualizează prețurile liniilor cât timp fereastra este deschisă */
+    private final CatalogListener catalogListener = new CatalogListener() {
+        @Override
+        public void onProductChanged(Produs produs, CampProdus camp, Object valoareVeche) {
+            if (camp == CampProdus.PRET) {
+                onFxThread(() -> cart.refreshPrice(produs));
+            }
+        }
+    };
     private final ControllersManipulation controllersManipulation=new ControllersManipulation();
     /**
      * Constructorul clasei CartView
-     * @param cart Obiectul coș de cumpărături care va fi gestionat
+     * @param session Sesiunea de cumpărături al cărei coș va fi gestionat
      * @param orderView Referință către vizualizarea comenzii
      */
-    public CartView(Cart cart, OrderView orderView) {
-        this.cart = cart;
+    public CartView(CartSession session, OrderView orderView) {
+        this.session = session;
+        this.cart = session.getCart();
         this.orderView = orderView;
     }
 
@@ -49,7 +95,7 @@ public class CartView {
     public void openCartView() {
         cartStage = new Stage();
         cartStage.setTitle("Coșul de Cumpărături");
-        orderView.orderSent = false;
+        session.resetOrderSent();
 
         VBox mainContainer = new VBox(15);
         mainContainer.setAlignment(Pos.TOP_CENTER);
@@ -78,7 +124,7 @@ public class CartView {
         totalLabel.setStyle(totalLabel.getStyle() + "-fx-font-weight: bold;");
         totalBox.getChildren().add(totalLabel);
 
-        Button sendOrderButton = controllersManipulation.createCartStyledButton("Trimite Comanda", "shopping-cart");
+        Button sendOrderButton = controllersManipulation.createCartStyledButton("Trimite Comanda");
         sendOrderButton.setOnAction(e -> {
             orderView.sendOrder();
             cartStage.close();
@@ -91,7 +137,26 @@ public class CartView {
                 sendOrderButton
         );
 
-        updateCartDisplay();
+        rows.clear();
+        for (Map.Entry<Produs, Integer> item : cart.getItems().entrySet()) {
+            CartRow row = new CartRow(item.getKey(), item.getValue());
+            rows.put(item.getKey(), row);
+            productsContainer.getChildren().add(row.box);
+        }
+        Catalog catalog = FileManager.getInstance().getCatalog();
+        // Prețurile modificate cât timp fereastra era închisă sunt preluate la deschidere
+        for (Produs produs : List.copyOf(cart.getItems().keySet())) {
+            cart.refreshPrice(produs);
+        }
+        updateTotal();
+        cart.removeListener(cartListener);
+        cart.addListener(cartListener);
+        catalog.removeListener(catalogListener);
+        catalog.addListener(catalogListener);
+        cartStage.setOnHidden(e -> {
+            cart.removeListener(cartListener);
+            catalog.removeListener(catalogListener);
+        });
 
         Scene cartScene = new Scene(mainContainer, 500, 600);
         cartStage.setScene(cartScene);
@@ -100,45 +165,55 @@ public class CartView {
 
 
     /**
-     * Creează un container pentru afișarea unui produs în coș
-     *
-     * @param produs Produsul care va fi afișat
-     * @param quantity Cantitatea produsului
-     * @return HBox Container-ul cu informațiile produsului și controalele asociate
+     * Linia afișată a unui produs din coș. Nodurile sunt create o singură dată,
+     * iar la schimbarea cantității se actualizează doar câmpul cantității.
      */
-    private HBox createProductBox(Produs produs, int quantity) {
-        HBox productBox = new HBox(15);
-        productBox.setAlignment(Pos.CENTER_LEFT);
-        productBox.setPadding(new Insets(10));
-        productBox.setStyle("-fx-background-color: #fce4ec; -fx-background-radius: 5px;");
-
-        VBox productInfo = new VBox(5);
-        Label nameLabel = controllersManipulation.createStyledLabel(produs.getNume(), 16);
-        Label priceLabel = controllersManipulation.createStyledLabel(String.format("%.2f RON", produs.getPret()), 14);
-        productInfo.getChildren().addAll(nameLabel, priceLabel);
-
-        TextField quantityField = new TextField(String.valueOf(quantity));
-        quantityField.setPrefWidth(60);
-        quantityField.setStyle("-fx-background-radius: 5px;");
-
-        Button updateButton = controllersManipulation.createCartStyledButton("Actualizează", "refresh-cw");
-        updateButton.setOnAction(e -> updateCartQuantity(produs, Integer.parseInt(quantityField.getText())));
-
-        Button removeButton = controllersManipulation.createCartStyledButton("Șterge", "trash-2");
-        removeButton.setOnAction(e -> removeFromCart(produs));
-
-        Region spacer = new Region();
-        HBox.setHgrow(spacer, Priority.ALWAYS);
-
-        productBox.getChildren().addAll(
-                productInfo,
-                spacer,
-                quantityField,
-                updateButton,
-                removeButton
-        );
+    private final class CartRow {
+        private final HBox box = new HBox(15);
+        private final TextField quantityField = new TextField();
+        private final Label priceLabel = controllersManipulation.createStyledLabel("", 14);
+
+        /**
+         * Creează linia unui produs din coș.
+         *
+         * @param produs Produsul care va fi afișat
+         * @param quantity Cantitatea produsului
+         */
+        private CartRow(Produs produs, int quantity) {
+            box.setAlignment(Pos.CENTER_LEFT);
+            box.setPadding(new Insets(10));
+            box.setStyle("-fx-background-color: #fce4ec; -fx-background-radius: 5px;");
+
+            VBox productInfo = new VBox(5);
+            Label nameLabel = controllersManipulation.createStyledLabel(produs.getNume(), 16);
+            productInfo.getChildren().addAll(nameLabel, priceLabel);
+
+            update(produs, quantity);
+            quantityField.setPrefWidth(60);
+            quantityField.setStyle("-fx-background-radius: 5px;");
+
+            Button updateButton = controllersManipulation.createCartStyledButton("Actualizează");
+            updateButton.setOnAction(e -> updateCartQuantity(produs, Integer.parseInt(quantityField.getText())));
 
-        return productBox;
+            Button removeButton = controllersManipulation.createCartStyledButton("Șterge");
+            removeButton.setOnAction(e -> removeFromCart(produs));
+
+            Region spacer = new Region();
+            HBox.setHgrow(spacer, Priority.ALWAYS);
+
+            box.getChildren().addAll(
+                    productInfo,
+                    spacer,
+                    quantityField,
+                    updateButton,
+                    removeButton
+            );
+        }
+
+        private void update(Produs produs, int quantity) {
+            quantityField.setText(String.valueOf(quantity));
+            priceLabel.setText(Money.format(cart.getPretBani(produs)) + " RON");
+        }
     }
 
     /**
@@ -149,10 +224,8 @@ public class CartView {
      */
     public void addToCart(Produs produs, int quantity) {
         try {
-            Alert.showAlert("Information",cart.addProduct(produs, quantity),"INFROMATION");
-            if (cartStage != null && cartStage.isShowing()) {
-                updateCartDisplay();
-            }
+            // Adăugările și modificările repetate sunt grupate într-un singur toast, cu numărul lor
+            Toasts.show(CART_TOAST_KEY, CART_TOAST_TITLE, cart.addProduct(produs, quantity), false);
         } catch (ProdusValidationException e) {
             Alert.showAlert("Eroare", e.getMessage(), "ERROR");
         }
@@ -167,9 +240,7 @@ public class CartView {
      */
     private void updateCartQuantity(Produs produs, int newQuantity) {
         try {
-            String message = cart.updateQuantity(produs, newQuantity);
-            Alert.showAlert("Informare",message,"INFORMATION");
-            updateCartDisplay();
+            Toasts.show(CART_TOAST_KEY, CART_TOAST_TITLE, cart.updateQuantity(produs, newQuantity), false);
         } catch (IllegalArgumentException e) {
             Alert.showAlert("Eroare", e.getMessage(), "ERROR");
         }
@@ -183,29 +254,48 @@ public class CartView {
     private void removeFromCart(Produs produs) {
         String message = cart.removeProduct(produs);
         System.out.println(message);
-        updateCartDisplay();
     }
 
     /**
-     * Actualizează afișarea produselor din coș și recalculează totalul.
-     * Dacă coșul devine gol, închide fereastra.
+     * Actualizează linia produsului modificat: o adaugă, o elimină sau îi schimbă cantitatea.
+     * Celelalte linii nu sunt atinse. Dacă coșul devine gol, închide fereastra.
+     *
+     * @param produs Produsul modificat
+     * @param quantity Cantitatea nouă; 0 dacă produsul a fost eliminat
      */
-    private void updateCartDisplay() {
-        productsContainer.getChildren().clear();
-        double totalValue = 0.0;
-
-        for (Produs produs : cart.getItems().keySet()) {
-            int quantity = cart.getItems().get(produs);
-            totalValue += produs.getPret() * quantity;
-
-            HBox productBox = createProductBox(produs, quantity);
-            productsContainer.getChildren().add(productBox);
+    private void updateRow(Produs produs, int quantity) {
+        CartRow row = rows.get(produs);
+        if (quantity == 0) {
+            if (row != null) {
+                rows.remove(produs);
+                productsContainer.getChildren().remove(row.box);
+            }
+        } else if (row == null) {
+            row = new CartRow(produs, quantity);
+            rows.put(produs, row);
+            productsContainer.getChildren().add(row.box);
+        } else {
+            row.update(produs, quantity);
         }
+        updateTotal();
+    }
 
-        totalLabel.setText(String.format("Total: %.2f RON", totalValue));
+    /**
+     * Afișează totalul menținut de coș. Dacă coșul devine gol, închide fereastra.
+     */
+    private void updateTotal() {
+        totalLabel.setText("Total: " + Money.format(cart.getTotalBani()) + " RON");
 
         if (cart.getItems().isEmpty()) {
             cartStage.close();
         }
     }
-}
\ No newline at end of file
+
+    private static void onFxThread(Runnable action) {
+        if (Platform.isFxApplicationThread()) {
+            action.run();
+        } else {
+            Platform.runLater(action);
+        }
+    }
+}
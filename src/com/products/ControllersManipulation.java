@@ -1,12 +1,15 @@
 package com.products;
 
-import com.products.Product.AdminProductCard;
+import com.products.Product.ProductSearchIndex;
+import javafx.geometry.Side;
 import javafx.scene.control.Button;
+import javafx.scene.control.ContextMenu;
 import javafx.scene.control.Label;
-import javafx.scene.effect.DropShadow;
-import javafx.scene.image.Image;
-import javafx.scene.image.ImageView;
-import javafx.scene.paint.Color;
+import javafx.scene.control.MenuItem;
+import javafx.scene.control.TextField;
+
+import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Clasa ControllersManipulation este folosita pentru a gestiona actiunile controllerelor.
@@ -34,43 +37,16 @@ public class ControllersManipulation {
     }
 
 
-    public Button createStyledButton(String text, String normalStyle, String hoverStyle, DropShadow shadow) {
-        Button button = new Button(text);
-        button.setStyle(normalStyle);
-        button.setEffect(shadow);
-
-        button.setOnMouseEntered(e -> button.setStyle(hoverStyle));
-        button.setOnMouseExited(e -> button.setStyle(normalStyle));
-
-        return button;
-    }
-
-    /**
-     * Creează o umbră la hover pe un element.
-     *
-     * @return Efectul de umbră creat și stilizat
-     */
-    public static DropShadow createDefaultShadow() {
-        DropShadow shadow = new DropShadow();
-        shadow.setRadius(10.0);
-        shadow.setOffsetX(3.0);
-        shadow.setOffsetY(3.0);
-        shadow.setColor(Color.rgb(0, 0, 0, 0.2));
-        return shadow;
-    }
-
     /**
-     * Creează o umbră la hover pe un element.
+     * Creează un buton de meniu, stilizat de clasa menu-button a temei.
      *
-     * @return Efectul de umbră creat și stilizat
+     * @param text Textul butonului
+     * @return Button Butonul stilizat
      */
-    public static DropShadow createHoverShadow() {
-        DropShadow shadow = new DropShadow();
-        shadow.setRadius(15.0);
-        shadow.setOffsetX(5.0);
-        shadow.setOffsetY(5.0);
-        shadow.setColor(Color.rgb(0, 0, 0, 0.4));
-        return shadow;
+    public Button createStyledButton(String text) {
+        Button button = new Button(text);
+        button.getStyleClass().add("menu-button");
+        return button;
     }
 
     /**
@@ -87,24 +63,14 @@ public class ControllersManipulation {
     }
 
     /**
-     * Creează un buton stilizat cu text și icon pentru cart
+     * Creează un buton stilizat cu text pentru cart
      *
      * @param text Textul butonului
-     * @param iconName Numele iconului care va fi afișat
      * @return Button Butonul stilizat
      */
-    public Button createCartStyledButton(String text, String iconName) {
+    public Button createCartStyledButton(String text) {
         Button button = new Button(text);
-        button.setStyle("-fx-background-color: " + BUTTON_COLOR + ";"
-                + "-fx-text-fill: white;"
-                + "-fx-padding: 8 15;"
-                + "-fx-background-radius: 5;"
-                + "-fx-font-size: 13px;"
-                + "-fx-cursor: hand;");
-
-        button.setOnMouseEntered(e -> button.setStyle(button.getStyle().replace(BUTTON_COLOR, HOVER_COLOR)));
-        button.setOnMouseExited(e -> button.setStyle(button.getStyle().replace(HOVER_COLOR, BUTTON_COLOR)));
-
+        button.getStyleClass().addAll("accent-button", "cart-button");
         return button;
     }
 
@@ -116,69 +82,71 @@ public class ControllersManipulation {
     public static Button createShoppingCartButton() {
         Button addToCartButton = new Button("Adaugă în Coș");
 
-        ImageView cartIcon = new ImageView(new Image(AdminProductCard.class.getResourceAsStream("/cart-icon.png")));
-        cartIcon.setFitHeight(20);
-        cartIcon.setFitWidth(20);
-        addToCartButton.setGraphic(cartIcon);
-
-        String buttonStyle = """
-                -fx-background-color: %s;
-                -fx-text-fill: white;
-                -fx-font-weight: bold;
-                -fx-padding: 10 20 10 20;
-                -fx-background-radius: 20;
-                """.formatted(PINK_COLOR);
-
-        String buttonHoverStyle = """
-                -fx-background-color: %s;
-                -fx-text-fill: white;
-                -fx-font-weight: bold;
-                -fx-padding: 10 20 10 20;
-                -fx-background-radius: 20;
-                -fx-cursor: hand;
-                """.formatted(DARK_PINK);
-
-        addToCartButton.setStyle(buttonStyle);
-        addToCartButton.setOnMouseEntered(e -> addToCartButton.setStyle(buttonHoverStyle));
-        addToCartButton.setOnMouseExited(e -> addToCartButton.setStyle(buttonStyle));
+        addToCartButton.setGraphic(ResourceCache.icon("/cart-icon.png", 20));
+        addToCartButton.getStyleClass().add("card-button");
 
         return addToCartButton;
     }
 
 
     /**
-     * Creează un buton stilizat cu efecte de hover.
+     * Creează un câmp de căutare a produselor, cu sugestii de completare a cuvântului curent.
+     * La fiecare modificare a textului este apelată acțiunea de căutare.
+     *
+     * @param searchIndex Indexul de căutare din care provin sugestiile
+     * @param onSearch Acțiunea apelată cu textul curent al câmpului
+     * @return TextField Câmpul de căutare stilizat
+     */
+    public TextField createSearchField(ProductSearchIndex searchIndex, Consumer<String> onSearch) {
+        TextField searchField = new TextField();
+        searchField.setPromptText("Caută produse după nume sau descriere...");
+        searchField.setStyle("""
+                -fx-background-radius: 5;
+                -fx-border-radius: 5;
+                -fx-border-color: %s;
+                -fx-padding: 8;
+                -fx-font-size: 13px;
+                """.formatted(PINK_COLOR));
+
+        ContextMenu suggestions = new ContextMenu();
+        searchField.textProperty().addListener((observable, oldText, text) -> {
+            onSearch.accept(text);
+
+            List<String> terms = searchIndex.autocomplete(text, 8);
+            if (text.isBlank() || Character.isWhitespace(text.charAt(text.length() - 1)) || terms.isEmpty()) {
+                suggestions.hide();
+                return;
+            }
+            suggestions.getItems().clear();
+            for (String term : terms) {
+                MenuItem item = new MenuItem(term);
+                item.setOnAction(e -> {
+                    String current = searchField.getText();
+                    int wordStart = current.length();
+                    while (wordStart > 0 && !Character.isWhitespace(current.charAt(wordStart - 1))) {
+                        wordStart--;
+                    }
+                    searchField.setText(current.substring(0, wordStart) + term + " ");
+                    searchField.positionCaret(searchField.getText().length());
+                });
+                suggestions.getItems().add(item);
+            }
+            if (!suggestions.isShowing()) {
+                suggestions.show(searchField, Side.BOTTOM, 0, 0);
+            }
+        });
+        return searchField;
+    }
+
+    /**
+     * Creează un buton pentru rapoarte; efectul de hover este definit în temă.
      *
      * @param text Textul care va fi afișat pe buton
      * @return Butonul creat și stilizat
      */
     public Button createReportStyledButton(String text) {
         Button button = new Button(text);
-        button.setStyle("""
-            -fx-background-color: #f50057;
-            -fx-text-fill: white;
-            -fx-padding: 8 15;
-            -fx-background-radius: 5;
-            """);
-
-        button.setOnMouseEntered(e ->
-                button.setStyle("""
-                -fx-background-color: #c51162;
-                -fx-text-fill: white;
-                -fx-padding: 8 15;
-                -fx-background-radius: 5;
-                """)
-        );
-
-        button.setOnMouseExited(e ->
-                button.setStyle("""
-                -fx-background-color: #f50057;
-                -fx-text-fill: white;
-                -fx-padding: 8 15;
-                -fx-background-radius: 5;
-                """)
-        );
-
+        button.getStyleClass().add("accent-button");
         return button;
     }
 }
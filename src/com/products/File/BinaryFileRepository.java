@@ -0,0 +1,183 @@
+package com.products.File;
+
+import com.products.Order.Comanda;
+import com.products.Order.StatusComanda;
+import com.products.Product.Produs;
+import java.io.*;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+/**
+ * Persistența în format binar: câmpurile sunt scrise direct, fără text de formatat sau de parsat.
+ * Fișierul de produse începe cu un antet (semnătură, versiune, număr de produse); fișierul de comenzi
+ * este o succesiune de înregistrări fără antet, astfel încât loturile noi sunt doar adăugate la sfârșit.
+ * Produsele comenzilor sunt rezolvate după identificator.
+ */
+public class BinaryFileRepository implements DataRepository {
+    /** Calea implicită către fișierul binar cu produse */
+    public static final String DEFAULT_PRODUCTS_PATH = "data/Produse.bin";
+
+    /** Calea implicită către fișierul binar cu comenzi */
+    public static final String DEFAULT_ORDERS_PATH = "data/Orders.bin";
+
+    /** Semnătura fișierului de produse ("PRDS") */
+    private static final int PRODUCTS_MAGIC = 0x50524453;
+
+    /** Versiunea formatului */
+    private static final int VERSION = 1;
+
+    /** Valorile enumerării StatusComanda, după ordinal */
+    private static final StatusComanda[] STATUSES = StatusComanda.values();
+
+    /** Calea către fișierul binar cu produse */
+    private final String productsPath;
+
+    /** Calea către fișierul binar cu comenzi */
+    private final String ordersPath;
+
+    /**
+     * Construiește depozitul pentru fișierele date.
+     *
+     * @param productsPath Calea fișierului binar cu produse
+     * @param ordersPath Calea fișierului binar cu comenzi
+     */
+    public BinaryFileRepository(String productsPath, String ordersPath) {
+        this.productsPath = productsPath;
+        this.ordersPath = ordersPath;
+    }
+
+    @Override
+    public String getName() {
+        return "binary";
+    }
+
+    @Override
+    public List<Produs> loadProducts() throws FileOperationException {
+        List<Produs> produse = new ArrayList<>();
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(productsPath)))) {
+            if (in.readInt() != PRODUCTS_MAGIC || in.readInt() != VERSION) {
+                throw new FileOperationException("Fișierul " + productsPath + " nu este un fișier de produse valid.", null);
+            }
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                int id = in.readInt();
+                long pretBani = in.readLong();
+                Produs produs = new Produs(id, 0, in.readUTF(), in.readInt(), in.readUTF(), in.readUTF(), in.readUTF(),
+                        in.readDouble(), in.readInt(), in.readInt());
+                produs.setPretBani(pretBani);
+                produse.add(produs);
+            }
+        } catch (FileNotFoundException e) {
+            return produse;
+        } catch (IOException e) {
+            throw new FileOperationException("Eroare la citirea fișierului: " + e.getMessage(), e);
+        }
+        return produse;
+    }
+
+    @Override
+    public void saveProducts(List<Produs> produse) throws FileOperationException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(productsPath)))) {
+            out.writeInt(PRODUCTS_MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(produse.size());
+            for (Produs produs : produse) {
+                out.writeInt(produs.getId());
+                out.writeLong(produs.getPretBani());
+                out.writeUTF(nullToEmpty(produs.getDescriere()));
+                out.writeInt(produs.getCantitateDisponibila());
+                out.writeUTF(nullToEmpty(produs.getNume()));
+                out.writeUTF(nullToEmpty(produs.getDataAdaugarii()));
+                out.writeUTF(nullToEmpty(produs.getDataExpirare()));
+                out.writeDouble(produs.getRating());
+                out.writeInt(produs.getNumarCumparari());
+                out.writeInt(produs.getNrRatinguri());
+            }
+        } catch (IOException e) {
+            throw new FileOperationException("Eroare la salvarea fișierului: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public List<Comanda> loadOrders(List<Produs> produse) throws FileOperationException {
+        Map<Integer, Produs> produseDupaId = new HashMap<>();
+        for (Produs produs : produse) {
+            produseDupaId.put(produs.getId(), produs);
+        }
+        // O singură funcție de rezolvare, comună tuturor comenzilor citite
+        IntFunction<Produs> produsResolver = produseDupaId::get;
+        List<Comanda> orders = new ArrayList<>();
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(ordersPath)))) {
+            while (true) {
+                long id;
+                try {
+                    id = in.readLong();
+                } catch (EOFException e) {
+                    break;
+                }
+                orders.add(readOrder(in, id, produsResolver));
+            }
+        } catch (FileNotFoundException e) {
+            return orders;
+        } catch (IOException e) {
+            throw new FileOperationException("Eroare la citirea fișierului: " + e.getMessage(), e);
+        }
+        return orders;
+    }
+
+    @Override
+    public void saveAllOrders(List<Comanda> comenzi) throws FileOperationException {
+        writeOrders(comenzi, false);
+    }
+
+    @Override
+    public void appendOrders(List<Comanda> comenzi) throws FileOperationException {
+        writeOrders(comenzi, true);
+    }
+
+    private void writeOrders(List<Comanda> comenzi, boolean append) throws FileOperationException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(ordersPath, append)))) {
+            for (Comanda comanda : comenzi) {
+                LocalDateTime data = comanda.getOrderDateTime();
+                out.writeLong(comanda.getId());
+                out.writeLong(data.toEpochSecond(ZoneOffset.UTC));
+                out.writeInt(data.getNano());
+                out.writeByte(comanda.getStatus().ordinal());
+                out.writeLong(comanda.getTotalBani());
+                out.writeInt(comanda.getLineCount());
+                for (int i = 0; i < comanda.getLineCount(); i++) {
+                    out.writeInt(comanda.getLineProductId(i));
+                    out.writeInt(comanda.getLineQuantity(i));
+                    out.writeLong(comanda.getLinePretBani(i));
+                }
+            }
+        } catch (IOException e) {
+            throw new FileOperationException("Eroare la salvarea fișierului: " + e.getMessage(), e);
+        }
+    }
+
+    private static Comanda readOrder(DataInputStream in, long id, IntFunction<Produs> produsResolver) throws IOException {
+        LocalDateTime data = LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC);
+        StatusComanda status = STATUSES[in.readByte()];
+        long totalBani = in.readLong();
+        int count = in.readInt();
+        int[] productIds = new int[count];
+        int[] quantities = new int[count];
+        long[] prices = new long[count];
+        for (int i = 0; i < count; i++) {
+            productIds[i] = in.readInt();
+            quantities[i] = in.readInt();
+            prices[i] = in.readLong();
+        }
+        return new Comanda(id, produsResolver, productIds, quantities, prices, totalBani, data, status);
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+}
@@ -0,0 +1,110 @@
+package com.products.File;
+
+import com.products.Order.Comanda;
+import com.products.Order.OrderIngestionPipeline.OrderBatchSink;
+import com.products.Product.Produs;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Interfața comună a mecanismelor de persistență pentru produse și comenzi.
+ * FileManager folosește implementarea aleasă prin configurare: fișiere JSON și text,
+ * fișiere binare sau o bază de date SQL accesată prin JDBC.
+ */
+public interface DataRepository {
+
+    /** @return Numele scurt al implementării, folosit în configurare și în măsurători */
+    String getName();
+
+    /**
+     * Încarcă toate produsele.
+     *
+     * @return List&lt;Produs&gt; Produsele salvate
+     * @throws FileOperationException dacă citirea eșuează
+     */
+    List<Produs> loadProducts() throws FileOperationException;
+
+    /**
+     * Înlocuiește produsele salvate cu lista dată.
+     *
+     * @param produse Produsele ce vor fi salvate
+     * @throws FileOperationException dacă scrierea eșuează
+     */
+    void saveProducts(List<Produs> produse) throws FileOperationException;
+
+    /**
+     * Încarcă toate comenzile, rezolvând produsele lor din lista dată.
+     *
+     * @param produse Produsele din catalog
+     * @return List&lt;Comanda&gt; Comenzile salvate, în ordinea în care au fost salvate
+     * @throws FileOperationException dacă citirea eșuează
+     */
+    List<Comanda> loadOrders(List<Produs> produse) throws FileOperationException;
+
+    /**
+     * Încarcă comenzile plasate în intervalul [from, to).
+     * Implementarea implicită filtrează toate comenzile; implementările care pot citi doar intervalul o suprascriu.
+     *
+     * @param produse Produsele din catalog
+     * @param from Începutul intervalului, inclus
+     * @param to Sfârșitul intervalului, exclus
+     * @return List&lt;Comanda&gt; Comenzile din interval
+     * @throws FileOperationException dacă citirea eșuează
+     */
+    default List<Comanda> loadOrdersBetween(List<Produs> produse, LocalDateTime from, LocalDateTime to)
+            throws FileOperationException {
+        List<Comanda> result = new ArrayList<>();
+        for (Comanda comanda : loadOrders(produse)) {
+            LocalDateTime data = comanda.getOrderDateTime();
+            if (!data.isBefore(from) && data.isBefore(to)) {
+                result.add(comanda);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Parcurge comenzile salvate pe care loadOrders nu le încarcă, de exemplu segmentele vechi ale
+     * depozitului segmentat, fără a le păstra pe toate în memorie.
+     * Implementarea implicită nu face nimic, deoarece loadOrders încarcă toate comenzile.
+     *
+     * @param produse Produsele din catalog
+     * @param action Acțiunea aplicată fiecărei comenzi
+     * @throws FileOperationException dacă citirea eșuează
+     */
+    default void forEachUnloadedOrder(List<Produs> produse, Consumer<Comanda> action) throws FileOperationException {
+    }
+
+    /**
+     * Mută comenzile pe care loadOrders nu le încarcă și care îndeplinesc condiția: le predă destinației,
+     * apoi le șterge din depozit. Destinația este scrisă înaintea ștergerii, astfel încât o întrerupere nu pierde comenzi.
+     * Implementarea implicită nu face nimic, deoarece loadOrders încarcă toate comenzile.
+     *
+     * @param produse Produsele din catalog
+     * @param filter Condiția comenzilor mutate
+     * @param destination Destinația comenzilor mutate, de exemplu arhiva
+     * @throws FileOperationException dacă citirea, destinația sau rescrierea eșuează
+     */
+    default void moveUnloadedOrders(List<Produs> produse, Predicate<Comanda> filter, OrderBatchSink destination)
+            throws FileOperationException {
+    }
+
+    /**
+     * Înlocuiește comenzile salvate cu lista dată.
+     *
+     * @param comenzi Comenzile ce vor fi salvate
+     * @throws FileOperationException dacă scrierea eșuează
+     */
+    void saveAllOrders(List<Comanda> comenzi) throws FileOperationException;
+
+    /**
+     * Adaugă un lot de comenzi la cele salvate.
+     *
+     * @param comenzi Comenzile ce vor fi adăugate
+     * @throws FileOperationException dacă scrierea eșuează
+     */
+    void appendOrders(List<Comanda> comenzi) throws FileOperationException;
+}
@@ -3,46 +3,128 @@ package com.products.File;
 import com.products.Main;
 import com.products.Order.Comanda;
 import com.products.Order.StatusComanda;
+import com.products.Product.Catalog;
+import com.products.Product.CatalogListener;
 import com.products.Product.Produs;
-import org.json.JSONArray;
-import org.json.JSONObject;
-import java.io.*;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Predicate;
 
 /**
- * Clasa FileManager implementează un singleton pentru gestionarea operațiilor cu fișiere.
- * Aceasta se ocupă cu încărcarea și salvarea produselor în format JSON și a comenzilor în format text.
+ * Clasa FileManager implementează un singleton pentru gestionarea persistenței produselor și comenzilor.
+ * Operațiile sunt delegate implementării DataRepository alese prin proprietatea de sistem
+ * {@code products.storage}: "text" (implicit; produse în JSON, comenzi în format text), "binary",
+ * "jdbc" (bază de date SQL încorporată, cu URL-ul dat de {@code products.storage.url}) sau "segmented"
+ * (comenzi în segmente lunare, dintre care doar ultimele {@code products.storage.hotMonths} luni sunt încărcate la pornire).
+ * La prima utilizare a mecanismelor "binary" și "jdbc", produsele și comenzile existente sunt importate din fișierele text.
  */
 public class FileManager {
-    /** Calea către fișierul JSON cu produse */
-    private static final String FILE_PATH = "data/Produse.json";
+    /** Proprietatea de sistem care alege mecanismul de persistență */
+    public static final String STORAGE_PROPERTY = "products.storage";
+
+    /** Proprietatea de sistem cu URL-ul JDBC, pentru mecanismul "jdbc" */
+    public static final String STORAGE_URL_PROPERTY = "products.storage.url";
+
+    /** Proprietatea de sistem cu numărul de luni încărcate la pornire, pentru mecanismul "segmented" */
+    public static final String HOT_MONTHS_PROPERTY = "products.storage.hotMonths";
+
+    /**
+     * Proprietatea de sistem cu vechimea, în zile, după care comenzile finalizate sunt arhivate la pornire.
+     * Arhivarea este opțională: comenzile arhivate nu mai apar în vederea comenzilor.
+     */
+    public static final String ARCHIVE_DAYS_PROPERTY = "products.archive.days";
+
+    /** Vechimea implicită după care comenzile finalizate sunt arhivate; 0 înseamnă că arhivarea este dezactivată */
+    public static final int DEFAULT_ARCHIVE_DAYS = 0;
+
+    /**
+     * Fișierul cu următorul identificator de produs. Este salvat separat de produse, la fiecare produs nou,
+     * astfel încât identificatorul unui produs șters nu este atribuit din nou după repornire și comenzile
+     * vechi nu ajung să indice un alt produs.
+     */
+    public static final String PRODUCT_ID_MARK_PATH = "data/Produse.nextId";
 
     /** Instanța singleton a clasei FileManager */
     private static FileManager instance;
 
-    /** Lista de produse încărcată din fișier */
-    private List<Produs> produse;
+    /** Mecanismul de persistență folosit */
+    private final DataRepository repository;
 
-    /** Calea către fișierul text cu comenzi */
-    private static final String ORDER_FILE = "data/Orders.txt";
+    /** Arhiva comprimată a comenzilor finalizate */
+    private final OrderArchive archive = new OrderArchive(OrderArchive.DEFAULT_DIRECTORY);
+
+    /** Catalogul de produse încărcat din fișier */
+    private final Catalog catalog;
 
     /**
      * Constructor privat pentru implementarea pattern-ului Singleton.
      * Încarcă produsele din fișier la instanțiere.
      */
     private FileManager() {
-        produse = loadFromFile();
+        String storage = System.getProperty(STORAGE_PROPERTY, "text");
+        repository = createRepository(storage);
+        if (storage.equals("binary") || storage.equals("jdbc")) {
+            importTextData(repository, new TextFileRepository(TextFileRepository.DEFAULT_PRODUCTS_PATH,
+                    TextFileRepository.DEFAULT_ORDERS_PATH));
+        }
+        catalog = new Catalog(loadFromFile(), loadProductIdMark());
+        catalog.addListener(new CatalogListener() {
+            @Override
+            public void onProductAdded(Produs produs) {
+                try {
+                    saveProductIdMark();
+                } catch (FileOperationException e) {
+                    System.err.println(e.getMessage());
+                }
+            }
+        });
+    }
+
+    /**
+     * La prima utilizare a unui mecanism de persistență, copiază în el produsele și comenzile din fișierele text,
+     * astfel încât alegerea altui mecanism nu pornește aplicația cu un catalog gol.
+     * Importul are loc doar dacă mecanismul nu conține încă niciun produs și nicio comandă;
+     * fișierele text rămân neschimbate.
+     *
+     * @param target Mecanismul de persistență ales
+     * @param source Depozitul cu fișierele text existente
+     * @throws IllegalStateException dacă datele nu pot fi citite sau copiate
+     */
+    static void importTextData(DataRepository target, TextFileRepository source) {
+        try {
+            if (!target.loadProducts().isEmpty() || !target.loadOrders(List.of()).isEmpty()) {
+                return;
+            }
+            List<Produs> produse = source.loadProducts();
+            if (produse.isEmpty()) {
+                return;
+            }
+            // Produsele salvate fără identificator îl primesc acum, deoarece liniile comenzilor se referă la el
+            Catalog.assignIds(produse, loadProductIdMark());
+            List<Comanda> comenzi = source.loadOrders(produse);
+            target.saveProducts(produse);
+            target.saveAllOrders(comenzi);
+            System.out.println("Au fost importate " + produse.size() + " produse și " + comenzi.size()
+                    + " comenzi în mecanismul \"" + target.getName() + "\".");
+        } catch (FileOperationException e) {
+            throw new IllegalStateException("Importul datelor în mecanismul \"" + target.getName() + "\" a eșuat: "
+                    + e.getMessage(), e);
+        }
     }
 
     /**
      * Returnează instanța singleton a clasei FileManager.
+     * Prima apelare încarcă produsele și poate avea loc pe firul de încărcare de la pornire.
      *
      * @return FileManager Instanța unică a managerului de fișiere
      */
-    public static FileManager getInstance() {
+    public static synchronized FileManager getInstance() {
         if (instance == null) {
             instance = new FileManager();
         }
@@ -50,170 +132,202 @@ public class FileManager {
     }
 
     /**
-     * Returnează lista de produse încărcată.
+     * Creează mecanismul de persistență cu numele dat, folosind căile implicite.
+     *
+     * @param name Numele mecanismului: "text", "binary", "jdbc" sau "segmented"
+     * @return DataRepository Mecanismul de persistență
+     */
+    static DataRepository createRepository(String name) {
+        switch (name) {
+            case "binary":
+                return new BinaryFileRepository(BinaryFileRepository.DEFAULT_PRODUCTS_PATH, BinaryFileRepository.DEFAULT_ORDERS_PATH);
+            case "jdbc":
+                return new JdbcRepository(System.getProperty(STORAGE_URL_PROPERTY, JdbcRepository.DEFAULT_URL));
+            case "segmented":
+                return new SegmentedOrderRepository(
+                        new TextFileRepository(TextFileRepository.DEFAULT_PRODUCTS_PATH, TextFileRepository.DEFAULT_ORDERS_PATH),
+                        SegmentedOrderRepository.DEFAULT_DIRECTORY,
+                        Integer.getInteger(HOT_MONTHS_PROPERTY, SegmentedOrderRepository.DEFAULT_HOT_MONTHS));
+            case "text":
+                return new TextFileRepository(TextFileRepository.DEFAULT_PRODUCTS_PATH, TextFileRepository.DEFAULT_ORDERS_PATH);
+            default:
+                throw new IllegalArgumentException("Mecanism de persistență necunoscut: " + name);
+        }
+    }
+
+    /**
+     * Returnează versiunea curentă, imuabilă, a listei de produse.
      *
      * @return List&lt;Produs&gt; Lista curentă de produse
      */
     public List<Produs> getProduse() {
-        return produse;
+        return catalog.snapshot();
     }
 
     /**
-     * Încarcă produsele din fișierul JSON.
+     * Returnează catalogul de produse, prin care se adaugă și se șterg produse.
      *
-     * @return List<Produs> Lista de produse citită din fișier
+     * @return Catalog Catalogul de produse
      */
-    List<Produs> loadFromFile() {
-        List<Produs> produse = new ArrayList<>();
-        try (BufferedReader reader = new BufferedReader(new FileReader(FILE_PATH))) {
-            StringBuilder jsonBuilder = new StringBuilder();
-            String line;
+    public Catalog getCatalog() {
+        return catalog;
+    }
 
-            while ((line = reader.readLine()) != null) {
-                jsonBuilder.append(line);
-            }
+    /**
+     * Returnează mecanismul de persistență folosit.
+     *
+     * @return DataRepository Mecanismul de persistență
+     */
+    public DataRepository getRepository() {
+        return repository;
+    }
 
-            JSONArray jsonArray = new JSONArray(jsonBuilder.toString());
-            for (int i = 0; i < jsonArray.length(); i++) {
-                JSONObject jsonObject = jsonArray.getJSONObject(i);
-                Produs produs = new Produs(
-                        jsonObject.getDouble("pret"),
-                        jsonObject.getString("descriere"),
-                        jsonObject.getInt("cantitateDisponibila"),
-                        jsonObject.getString("nume"),
-                        jsonObject.optString("dataAdaugarii", ""),
-                        jsonObject.optString("dataExpirare", ""),
-                        jsonObject.optDouble("rating", 0.0),
-                        jsonObject.optInt("numarCumparari", 0),
-                        jsonObject.getInt("nrRatinguri")
-                );
-                produse.add(produs);
-            }
-        } catch (IOException e) {
-            System.err.println("Eroare la citirea fișierului: " + e.getMessage());
-        } catch (Exception e) {
-            System.err.println("Eroare la procesarea fișierului JSON: " + e.getMessage());
-        }
-        return produse;
+    /**
+     * Returnează arhiva comenzilor finalizate.
+     *
+     * @return OrderArchive Arhiva comprimată a comenzilor
+     */
+    public OrderArchive getArchive() {
+        return archive;
     }
 
     /**
-     * Salvează lista de produse în fișierul JSON.
+     * Mută în arhivă comenzile finalizate mai vechi de numărul de zile dat și salvează restul comenzilor.
+     * Sunt arhivate și comenzile salvate pe care loadOrders nu le încarcă (segmentele vechi ale depozitului segmentat).
+     * Arhiva este scrisă înaintea comenzilor rămase, astfel încât o întrerupere nu pierde comenzi.
      *
-     * @param produse Lista de produse ce va fi salvată
-     * @throws FileOperationException dacă apare o eroare la salvarea în fișier
+     * @param comenzi Comenzile încărcate
+     * @param retentionDays Vechimea, în zile, după care o comandă finalizată este arhivată (0 dezactivează arhivarea)
+     * @return List&lt;Comanda&gt; Comenzile rămase, în ordinea inițială
+     * @throws FileOperationException dacă arhiva sau comenzile rămase nu pot fi scrise
      */
-    public void saveToFile(List<Produs> produse) throws FileOperationException {
-        JSONArray jsonArray = new JSONArray();
-        for (Produs produs : produse) {
-            JSONObject jsonObject = new JSONObject();
-            jsonObject.put("pret", produs.getPret());
-            jsonObject.put("descriere", produs.getDescriere());
-            jsonObject.put("cantitateDisponibila", produs.getCantitateDisponibila());
-            jsonObject.put("nume", produs.getNume());
-            jsonObject.put("dataAdaugarii", produs.getDataAdaugarii());
-            jsonObject.put("dataExpirare", produs.getDataExpirare());
-            jsonObject.put("rating", produs.getRating());
-            jsonObject.put("nrRatinguri", produs.getNrRatinguri());
-            jsonObject.put("numarCumparari", produs.getNumarCumparari());
-            jsonArray.put(jsonObject);
+    public List<Comanda> archiveFinalizedOrders(List<Comanda> comenzi, int retentionDays) throws FileOperationException {
+        if (retentionDays <= 0) {
+            return comenzi;
         }
+        LocalDateTime limit = LocalDateTime.now().minusDays(retentionDays);
+        Predicate<Comanda> archivable = comanda ->
+                comanda.getStatus() == StatusComanda.FINALIZATA && comanda.getOrderDateTime().isBefore(limit);
+        repository.moveUnloadedOrders(catalog.snapshot(), archivable, archive::archive);
 
-        try (BufferedWriter writer = new BufferedWriter(new FileWriter(FILE_PATH))) {
-            writer.write(jsonArray.toString(4));
-        } catch (IOException e) {
-            throw new FileOperationException("Eroare la salvarea fișierului: " + e.getMessage(), e);
+        List<Comanda> archived = new ArrayList<>();
+        List<Comanda> remaining = new ArrayList<>(comenzi.size());
+        for (Comanda comanda : comenzi) {
+            if (archivable.test(comanda)) {
+                archived.add(comanda);
+            } else {
+                remaining.add(comanda);
+            }
+        }
+        if (archived.isEmpty()) {
+            return comenzi;
         }
+        archive.archive(archived);
+        repository.saveAllOrders(remaining);
+        return remaining;
     }
 
     /**
-     * Salvează toate comenzile în fișierul text.
+     * Încarcă produsele salvate.
      *
-     * @param comenzi Lista de comenzi ce va fi salvată
-     * @throws FileOperationException dacă apare o eroare la salvarea în fișier
+     * @return List<Produs> Lista de produse citită (goală dacă citirea eșuează)
      */
-    public void saveAllOrders(List<Comanda> comenzi) throws FileOperationException {
-        try (BufferedWriter writer = new BufferedWriter(new FileWriter(ORDER_FILE))) {
-            for (Comanda comanda : comenzi) {
-                writer.write(formatOrderData(comanda));
-                writer.write(System.lineSeparator());
-            }
-        } catch (IOException e) {
-            throw new FileOperationException("Eroare la salvarea fișierului: " + e.getMessage(), e);
+    List<Produs> loadFromFile() {
+        try {
+            return repository.loadProducts();
+        } catch (FileOperationException e) {
+            System.err.println(e.getMessage());
+            return new ArrayList<>();
         }
     }
 
     /**
-     * Încarcă toate comenzile din fișierul text.
+     * Citește următorul identificator de produs salvat.
      *
-     * @return ListC&lt;omanda&gt; Lista comenzilor citite din fișier
+     * @return int Identificatorul salvat sau 1 dacă fișierul nu există ori nu poate fi citit
      */
-    public static List<Comanda> loadOrders() {
-        List<Comanda> orders = new ArrayList<>();
+    private static int loadProductIdMark() {
+        Path mark = Paths.get(PRODUCT_ID_MARK_PATH);
+        if (!Files.exists(mark)) {
+            return 1;
+        }
         try {
-            FileReader reader = new FileReader(ORDER_FILE);
-            BufferedReader bufferedReader = new BufferedReader(reader);
-            String line;
-            while ((line = bufferedReader.readLine()) != null) {
-                Comanda comanda = parseOrderData(line);
-                orders.add(comanda);
-            }
-            reader.close();
+            return Integer.parseInt(Files.readString(mark).trim());
+        } catch (IOException | NumberFormatException e) {
+            System.err.println("Eroare la citirea identificatorului de produs: " + e.getMessage());
+            return 1;
+        }
+    }
+
+    /**
+     * Salvează următorul identificator de produs al catalogului, printr-o înlocuire atomică a fișierului.
+     *
+     * @throws FileOperationException dacă fișierul nu poate fi scris
+     */
+    private synchronized void saveProductIdMark() throws FileOperationException {
+        Path mark = Paths.get(PRODUCT_ID_MARK_PATH);
+        Path temporary = mark.resolveSibling(mark.getFileName() + ".tmp");
+        try {
+            Files.writeString(temporary, Integer.toString(catalog.getNextId()));
+            Files.move(temporary, mark, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
         } catch (IOException e) {
-            e.printStackTrace();
+            throw new FileOperationException("Eroare la salvarea identificatorului de produs: " + e.getMessage(), e);
         }
-        return orders;
     }
 
     /**
-     * Formatează datele unei comenzi pentru salvare în fișier.
+     * Salvează lista de produse, precedată de următorul identificator de produs.
      *
-     * @param comanda Comanda ce va fi formatată
-     * @return String Date formatate ale comenzii
+     * @param produse Lista de produse ce va fi salvată
+     * @throws FileOperationException dacă apare o eroare la salvare
      */
-    private static String formatOrderData(Comanda comanda) {
-        StringBuilder sb = new StringBuilder();
-        sb.append("Data comenzii:" + comanda.getOrderDateTime().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")));        sb.append(",");
-        sb.append("Numarul produselor comandate:" + comanda.getProducts().size());
-        sb.append(",");
-        sb.append("Suma totala a comenzii:" + comanda.getTotalValue());
-        sb.append(",");
-        sb.append("Produsele comandate:" + String.join("|", comanda.getProducts().stream()
-                .map(Produs::getNume)
-                .toArray(String[]::new)));
-        sb.append(",");
-        sb.append("Statusul comenzii: " + comanda.getStatus());
-        return sb.toString();
+    public void saveToFile(List<Produs> produse) throws FileOperationException {
+        saveProductIdMark();
+        repository.saveProducts(produse);
     }
 
     /**
-     * Parsează o linie din fișierul de comenzi în obiectul Comanda.
+     * Salvează toate comenzile, înlocuindu-le pe cele existente.
      *
-     * @param line Linia ce va fi parsată
-     * @return Comanda Obiectul comandă creat din datele parsate
+     * @param comenzi Lista de comenzi ce va fi salvată
+     * @throws FileOperationException dacă apare o eroare la salvare
      */
-    private static Comanda parseOrderData(String line) {
-        String[] parts = line.split(",");
+    public void saveAllOrders(List<Comanda> comenzi) throws FileOperationException {
+        repository.saveAllOrders(comenzi);
+    }
 
-        String orderDateText = parts[0].replace("Data comenzii:", "").trim();
-        LocalDateTime orderDateTime = LocalDateTime.parse(orderDateText, DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
+    /**
+     * Adaugă un lot de comenzi la cele salvate, printr-o singură scriere.
+     *
+     * @param comenzi Comenzile ce vor fi adăugate
+     * @throws FileOperationException dacă apare o eroare la scriere
+     */
+    public void appendOrders(List<Comanda> comenzi) throws FileOperationException {
+        repository.appendOrders(comenzi);
+    }
 
-        int productCount = Integer.parseInt(parts[1].replace("Numarul produselor comandate:", "").trim());
-        double totalValue = Double.parseDouble(parts[2].replace("Suma totala a comenzii:", "").trim());
-        String[] productNames = parts[3].replace("Produsele comandate:", "").split("\\|");
-        StatusComanda status = StatusComanda.valueOf(parts[4].replace("Statusul comenzii:", "").trim());
+    /**
+     * Adaugă un lot de comenzi la sfârșitul unui fișier de comenzi în format text, printr-o singură scriere.
+     *
+     * @param comenzi Comenzile ce vor fi adăugate
+     * @param filePath Calea fișierului de comenzi
+     * @throws FileOperationException dacă apare o eroare la scrierea în fișier
+     */
+    public static void appendOrders(List<Comanda> comenzi, String filePath) throws FileOperationException {
+        TextFileRepository.appendOrders(comenzi, filePath);
+    }
 
-        List<Produs> products = new ArrayList<>();
-        for (String productName : productNames) {
-            Produs product = Main.getProduse().stream()
-                    .filter(p -> p.getNume().equals(productName))
-                    .findFirst()
-                    .orElse(null);
-            if (product != null) {
-                products.add(product);
-            }
+    /**
+     * Încarcă toate comenzile salvate.
+     *
+     * @return ListC&lt;omanda&gt; Lista comenzilor citite
+     */
+    public static List<Comanda> loadOrders() {
+        try {
+            return getInstance().repository.loadOrders(Main.getProduse());
+        } catch (FileOperationException e) {
+            e.printStackTrace();
+            return new ArrayList<>();
         }
-
-        return new Comanda(products, totalValue, orderDateTime, status);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,290 @@
+package com.products.File;
+
+import com.products.Order.Comanda;
+import com.products.Order.StatusComanda;
+import com.products.Product.Produs;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+/**
+ * Persistența într-o bază de date SQL încorporată în proces (de exemplu H2 sau SQLite), accesată prin JDBC.
+ * Driverul nu face parte din aplicație: jar-ul lui trebuie adăugat la rulare, iar baza este aleasă prin URL
+ * (de exemplu {@code jdbc:h2:./data/produse} sau {@code jdbc:sqlite:data/produse.db}).
+ * Lipsa driverului este semnalată la construire, nu printr-un catalog gol.
+ * Tabelele sunt create la prima utilizare, cu SQL portabil între cele două motoare.
+ * Interogările pe interval de timp sunt executate de baza de date, folosind un index pe data comenzii.
+ */
+public class JdbcRepository implements DataRepository {
+    /** URL-ul JDBC implicit */
+    public static final String DEFAULT_URL = "jdbc:h2:./data/produse";
+
+    /** Dimensiunea loturilor de inserare */
+    private static final int BATCH_SIZE = 1000;
+
+    /** Valorile enumerării StatusComanda, după ordinal */
+    private static final StatusComanda[] STATUSES = StatusComanda.values();
+
+    /** URL-ul JDBC al bazei de date */
+    private final String url;
+
+    /** Indicator că tabelele au fost create */
+    private boolean schemaReady;
+
+    /**
+     * Construiește depozitul pentru baza de date dată.
+     *
+     * @param url URL-ul JDBC al bazei de date
+     * @throws IllegalStateException dacă niciun driver JDBC disponibil la rulare nu acceptă URL-ul
+     */
+    public JdbcRepository(String url) {
+        try {
+            DriverManager.getDriver(url);
+        } catch (SQLException e) {
+            throw new IllegalStateException("Niciun driver JDBC pentru " + url
+                    + ". Adăugați jar-ul driverului (de exemplu H2 sau SQLite) la rulare.", e);
+        }
+        this.url = url;
+    }
+
+    @Override
+    public String getName() {
+        return "jdbc";
+    }
+
+    private Connection connect() throws SQLException {
+        Connection connection = DriverManager.getConnection(url);
+        if (!schemaReady) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("CREATE TABLE IF NOT EXISTS produse (id INTEGER PRIMARY KEY, pret_bani BIGINT,"
+                        + " descriere VARCHAR(4000), cantitate INTEGER, nume VARCHAR(255), data_adaugarii VARCHAR(10),"
+                        + " data_expirare VARCHAR(10), rating DOUBLE PRECISION, numar_cumparari INTEGER, nr_ratinguri INTEGER)");
+                statement.execute("CREATE TABLE IF NOT EXISTS comenzi (id BIGINT PRIMARY KEY, secunda_epoca BIGINT,"
+                        + " nano INTEGER, status INTEGER, total_bani BIGINT)");
+                statement.execute("CREATE TABLE IF NOT EXISTS linii_comanda (comanda_id BIGINT, pozitie INTEGER,"
+                        + " produs_id INTEGER, cantitate INTEGER, pret_bani BIGINT, PRIMARY KEY (comanda_id, pozitie))");
+                statement.execute("CREATE INDEX IF NOT EXISTS comenzi_data ON comenzi (secunda_epoca)");
+            }
+            schemaReady = true;
+        }
+        return connection;
+    }
+
+    @Override
+    public List<Produs> loadProducts() throws FileOperationException {
+        List<Produs> produse = new ArrayList<>();
+        try (Connection connection = connect();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT id, pret_bani, descriere, cantitate, nume, data_adaugarii,"
+                     + " data_expirare, rating, numar_cumparari, nr_ratinguri FROM produse ORDER BY id")) {
+            while (rs.next()) {
+                Produs produs = new Produs(rs.getInt(1), 0, rs.getString(3), rs.getInt(4), rs.getString(5),
+                        rs.getString(6), rs.getString(7), rs.getDouble(8), rs.getInt(9), rs.getInt(10));
+                produs.setPretBani(rs.getLong(2));
+                produse.add(produs);
+            }
+        } catch (SQLException e) {
+            throw new FileOperationException("Eroare la citirea produselor din baza de date: " + e.getMessage(), e);
+        }
+        return produse;
+    }
+
+    @Override
+    public void saveProducts(List<Produs> produse) throws FileOperationException {
+        try (Connection connection = connect()) {
+            connection.setAutoCommit(false);
+            try (Statement delete = connection.createStatement();
+                 PreparedStatement insert = connection.prepareStatement("INSERT INTO produse (id, pret_bani, descriere,"
+                         + " cantitate, nume, data_adaugarii, data_expirare, rating, numar_cumparari, nr_ratinguri)"
+                         + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)")) {
+                delete.executeUpdate("DELETE FROM produse");
+                int pending = 0;
+                for (Produs produs : produse) {
+                    insert.setInt(1, produs.getId());
+                    insert.setLong(2, produs.getPretBani());
+                    insert.setString(3, produs.getDescriere());
+                    insert.setInt(4, produs.getCantitateDisponibila());
+                    insert.setString(5, produs.getNume());
+                    insert.setString(6, produs.getDataAdaugarii());
+                    insert.setString(7, produs.getDataExpirare());
+                    insert.setDouble(8, produs.getRating());
+                    insert.setInt(9, produs.getNumarCumparari());
+                    insert.setInt(10, produs.getNrRatinguri());
+                    insert.addBatch();
+                    if (++pending == BATCH_SIZE) {
+                        insert.executeBatch();
+                        pending = 0;
+                    }
+                }
+                insert.executeBatch();
+                connection.commit();
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            }
+        } catch (SQLException e) {
+            throw new FileOperationException("Eroare la salvarea produselor în baza de date: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public List<Comanda> loadOrders(List<Produs> produse) throws FileOperationException {
+        return queryOrders(produse, null, null);
+    }
+
+    @Override
+    public List<Comanda> loadOrdersBetween(List<Produs> produse, LocalDateTime from, LocalDateTime to)
+            throws FileOperationException {
+        return queryOrders(produse, from, to);
+    }
+
+    private List<Comanda> queryOrders(List<Produs> produse, LocalDateTime from, LocalDateTime to)
+            throws FileOperationException {
+        Map<Integer, Produs> produseDupaId = new HashMap<>();
+        for (Produs produs : produse) {
+            produseDupaId.put(produs.getId(), produs);
+        }
+        // O singură funcție de rezolvare, comună tuturor comenzilor citite
+        IntFunction<Produs> produsResolver = produseDupaId::get;
+        String range = from == null ? "" : " WHERE c.secunda_epoca >= ? AND c.secunda_epoca < ?";
+        String sql = "SELECT c.id, c.secunda_epoca, c.nano, c.status, c.total_bani, l.produs_id, l.cantitate, l.pret_bani"
+                + " FROM comenzi c LEFT JOIN linii_comanda l ON l.comanda_id = c.id" + range
+                + " ORDER BY c.secunda_epoca, c.id, l.pozitie";
+        List<Comanda> orders = new ArrayList<>();
+        try (Connection connection = connect();
+             PreparedStatement query = connection.prepareStatement(sql)) {
+            if (from != null) {
+                query.setLong(1, from.toEpochSecond(ZoneOffset.UTC));
+                query.setLong(2, to.toEpochSecond(ZoneOffset.UTC));
+            }
+            try (ResultSet rs = query.executeQuery()) {
+                OrderRows rows = null;
+                while (rs.next()) {
+                    long id = rs.getLong(1);
+                    if (rows == null || rows.id != id) {
+                        if (rows != null) {
+                            orders.add(rows.toComanda(produsResolver));
+                        }
+                        rows = new OrderRows(id, LocalDateTime.ofEpochSecond(rs.getLong(2), rs.getInt(3), ZoneOffset.UTC),
+                                STATUSES[rs.getInt(4)], rs.getLong(5));
+                    }
+                    int productId = rs.getInt(6);
+                    if (!rs.wasNull()) {
+                        rows.add(productId, rs.getInt(7), rs.getLong(8));
+                    }
+                }
+                if (rows != null) {
+                    orders.add(rows.toComanda(produsResolver));
+                }
+            }
+        } catch (SQLException e) {
+            throw new FileOperationException("Eroare la citirea comenzilor din baza de date: " + e.getMessage(), e);
+        }
+        return orders;
+    }
+
+    @Override
+    public void saveAllOrders(List<Comanda> comenzi) throws FileOperationException {
+        writeOrders(comenzi, true);
+    }
+
+    @Override
+    public void appendOrders(List<Comanda> comenzi) throws FileOperationException {
+        writeOrders(comenzi, false);
+    }
+
+    private void writeOrders(List<Comanda> comenzi, boolean replace) throws FileOperationException {
+        try (Connection connection = connect()) {
+            connection.setAutoCommit(false);
+            try (Statement delete = connection.createStatement();
+                 PreparedStatement insertOrder = connection.prepareStatement(
+                         "INSERT INTO comenzi (id, secunda_epoca, nano, status, total_bani) VALUES (?, ?, ?, ?, ?)");
+                 PreparedStatement insertLine = connection.prepareStatement(
+                         "INSERT INTO linii_comanda (comanda_id, pozitie, produs_id, cantitate, pret_bani) VALUES (?, ?, ?, ?, ?)")) {
+                if (replace) {
+                    delete.executeUpdate("DELETE FROM linii_comanda");
+                    delete.executeUpdate("DELETE FROM comenzi");
+                }
+                int pending = 0;
+                for (Comanda comanda : comenzi) {
+                    LocalDateTime data = comanda.getOrderDateTime();
+                    insertOrder.setLong(1, comanda.getId());
+                    insertOrder.setLong(2, data.toEpochSecond(ZoneOffset.UTC));
+                    insertOrder.setInt(3, data.getNano());
+                    insertOrder.setInt(4, comanda.getStatus().ordinal());
+                    insertOrder.setLong(5, comanda.getTotalBani());
+                    insertOrder.addBatch();
+                    for (int i = 0; i < comanda.getLineCount(); i++) {
+                        insertLine.setLong(1, comanda.getId());
+                        insertLine.setInt(2, i);
+                        insertLine.setInt(3, comanda.getLineProductId(i));
+                        insertLine.setInt(4, comanda.getLineQuantity(i));
+                        insertLine.setLong(5, comanda.getLinePretBani(i));
+                        insertLine.addBatch();
+                    }
+                    if (++pending == BATCH_SIZE) {
+                        insertOrder.executeBatch();
+                        insertLine.executeBatch();
+                        pending = 0;
+                    }
+                }
+                insertOrder.executeBatch();
+                insertLine.executeBatch();
+                connection.commit();
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            }
+        } catch (SQLException e) {
+            throw new FileOperationException("Eroare la salvarea comenzilor în baza de date: " + e.getMessage(), e);
+        }
+    }
+
+    /** Rândurile unei comenzi citite din rezultatul interogării, până la construirea obiectului Comanda */
+    private static final class OrderRows {
+        private final long id;
+        private final LocalDateTime data;
+        private final StatusComanda status;
+        private final long totalBani;
+        private int count;
+        private int[] productIds = new int[4];
+        private int[] quantities = new int[4];
+        private long[] prices = new long[4];
+
+        private OrderRows(long id, LocalDateTime data, StatusComanda status, long totalBani) {
+            this.id = id;
+            this.data = data;
+            this.status = status;
+            this.totalBani = totalBani;
+        }
+
+        private void add(int productId, int quantity, long pretBani) {
+            if (count == productIds.length) {
+                productIds = Arrays.copyOf(productIds, count * 2);
+                quantities = Arrays.copyOf(quantities, count * 2);
+                prices = Arrays.copyOf(prices, count * 2);
+            }
+            productIds[count] = productId;
+            quantities[count] = quantity;
+            prices[count] = pretBani;
+            count++;
+        }
+
+        private Comanda toComanda(IntFunction<Produs> produsResolver) {
+            return new Comanda(id, produsResolver, Arrays.copyOf(productIds, count),
+                    Arrays.copyOf(quantities, count), Arrays.copyOf(prices, count),
+                    totalBani, data, status);
+        }
+    }
+}
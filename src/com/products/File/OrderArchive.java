@@ -0,0 +1,275 @@
+package com.products.File;
+
+import com.products.Order.Comanda;
+import com.products.Order.StatusComanda;
+import com.products.Product.Produs;
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+import java.util.stream.Stream;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Arhiva comprimată a comenzilor finalizate. Fiecare arhivare scrie un fișier nou, cu structura:
+ * antet (semnătură, versiune, dicționarul identificatorilor de produs), blocuri comprimate
+ * de câte cel mult {@link #BLOCK_ORDERS} comenzi, indexul blocurilor și, la final, poziția indexului.
+ * În interiorul unui bloc, comenzile sunt sortate după dată și codificate compact: momentele și
+ * identificatorii ca diferențe față de comanda anterioară, produsele ca poziții în dicționar,
+ * toate numerele ca întregi de lungime variabilă. Citirea parcurge doar blocurile al căror
+ * interval atinge intervalul cerut și le decomprimă în flux, comandă cu comandă,
+ * fără a ține arhiva în memorie.
+ */
+public class OrderArchive {
+    /** Directorul implicit al arhivei */
+    public static final String DEFAULT_DIRECTORY = "data/archive";
+
+    /** Numărul maxim de comenzi dintr-un bloc */
+    public static final int BLOCK_ORDERS = 4096;
+
+    /** Semnătura fișierelor de arhivă ("ARHV") */
+    private static final int MAGIC = 0x41524856;
+
+    /** Versiunea formatului */
+    private static final int VERSION = 1;
+
+    /** Directorul fișierelor de arhivă */
+    private final Path directory;
+
+    /**
+     * Construiește arhiva din directorul dat.
+     *
+     * @param directory Directorul fișierelor de arhivă
+     */
+    public OrderArchive(String directory) {
+        this.directory = Paths.get(directory);
+    }
+
+    /**
+     * Scrie comenzile date într-un fișier nou de arhivă. Comenzile trebuie să fie finalizate.
+     *
+     * @param comenzi Comenzile arhivate
+     * @throws FileOperationException dacă fișierul nu poate fi scris
+     */
+    public synchronized void archive(List<Comanda> comenzi) throws FileOperationException {
+        if (comenzi.isEmpty()) {
+            return;
+        }
+        List<Comanda> sorted = new ArrayList<>(comenzi);
+        sorted.sort(Comparator.comparing(Comanda::getOrderDateTime));
+        int[] dictionary = sorted.stream()
+                .flatMapToInt(c -> Arrays.stream(lineProductIds(c)))
+                .distinct().sorted().toArray();
+
+        try {
+            Files.createDirectories(directory);
+            long stamp = System.currentTimeMillis();
+            while (Files.exists(directory.resolve("arhiva-" + stamp + ".bin"))) {
+                stamp++;
+            }
+            Path file = directory.resolve("arhiva-" + stamp + ".bin");
+            Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeInt(dictionary.length);
+                for (int productId : dictionary) {
+                    out.writeInt(productId);
+                }
+                long position = 12 + 4L * dictionary.length;
+
+                int blocks = (sorted.size() + BLOCK_ORDERS - 1) / BLOCK_ORDERS;
+                long[] offsets = new long[blocks];
+                int[] lengths = new int[blocks];
+                for (int b = 0; b < blocks; b++) {
+                    List<Comanda> block = sorted.subList(b * BLOCK_ORDERS, Math.min(sorted.size(), (b + 1) * BLOCK_ORDERS));
+                    byte[] compressed = encodeBlock(block, dictionary);
+                    out.write(compressed);
+                    offsets[b] = position;
+                    lengths[b] = compressed.length;
+                    position += compressed.length;
+                }
+
+                long indexPosition = position;
+                out.writeInt(blocks);
+                for (int b = 0; b < blocks; b++) {
+                    List<Comanda> block = sorted.subList(b * BLOCK_ORDERS, Math.min(sorted.size(), (b + 1) * BLOCK_ORDERS));
+                    out.writeLong(offsets[b]);
+                    out.writeInt(lengths[b]);
+                    out.writeInt(block.size());
+                    out.writeLong(epochSecond(block.get(0)));
+                    out.writeLong(epochSecond(block.get(block.size() - 1)));
+                }
+                out.writeLong(indexPosition);
+            }
+            Files.move(temporary, file, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new FileOperationException("Eroare la scrierea arhivei de comenzi: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Parcurge comenzile arhivate din intervalul [from, to), decomprimând doar blocurile care îl ating.
+     *
+     * @param produsResolver Funcția care găsește produsul din catalog după identificator
+     * @param from Începutul intervalului, inclus, sau null pentru toată arhiva
+     * @param to Sfârșitul intervalului, exclus, sau null pentru toată arhiva
+     * @param action Acțiunea aplicată fiecărei comenzi
+     * @throws FileOperationException dacă arhiva nu poate fi citită
+     */
+    public void forEach(IntFunction<Produs> produsResolver, LocalDateTime from, LocalDateTime to,
+                        Consumer<Comanda> action) throws FileOperationException {
+        long fromSecond = from == null ? Long.MIN_VALUE : from.toEpochSecond(ZoneOffset.UTC);
+        long toSecond = to == null ? Long.MAX_VALUE : to.toEpochSecond(ZoneOffset.UTC);
+        for (Path file : archiveFiles()) {
+            try (RandomAccessFile in = new RandomAccessFile(file.toFile(), "r")) {
+                if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                    throw new FileOperationException("Fișierul " + file + " nu este o arhivă de comenzi validă.", null);
+                }
+                int[] dictionary = new int[in.readInt()];
+                for (int i = 0; i < dictionary.length; i++) {
+                    dictionary[i] = in.readInt();
+                }
+                in.seek(in.length() - 8);
+                in.seek(in.readLong());
+                int blocks = in.readInt();
+                long[] index = new long[blocks * 4];
+                for (int b = 0; b < blocks; b++) {
+                    index[b * 4] = in.readLong();
+                    index[b * 4 + 1] = in.readInt();
+                    in.readInt();
+                    index[b * 4 + 2] = in.readLong();
+                    index[b * 4 + 3] = in.readLong();
+                }
+                for (int b = 0; b < blocks; b++) {
+                    if (index[b * 4 + 3] < fromSecond || index[b * 4 + 2] >= toSecond) {
+                        continue;
+                    }
+                    byte[] compressed = new byte[(int) index[b * 4 + 1]];
+                    in.seek(index[b * 4]);
+                    in.readFully(compressed);
+                    decodeBlock(compressed, dictionary, produsResolver, fromSecond, toSecond, action);
+                }
+            } catch (IOException e) {
+                throw new FileOperationException("Eroare la citirea arhivei " + file + ": " + e.getMessage(), e);
+            }
+        }
+    }
+
+    private List<Path> archiveFiles() throws FileOperationException {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(f -> f.getFileName().toString().endsWith(".bin")).sorted().toList();
+        } catch (IOException e) {
+            throw new FileOperationException("Eroare la citirea directorului arhivei: " + e.getMessage(), e);
+        }
+    }
+
+    private static byte[] encodeBlock(List<Comanda> block, int[] dictionary) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(block.size() * 16);
+        try (DataOutputStream out = new DataOutputStream(new DeflaterOutputStream(bytes))) {
+            out.writeInt(block.size());
+            long previousSecond = epochSecond(block.get(0));
+            long previousId = 0;
+            out.writeLong(previousSecond);
+            for (Comanda comanda : block) {
+                long second = epochSecond(comanda);
+                writeVarLong(out, second - previousSecond);
+                writeVarLong(out, comanda.getOrderDateTime().getNano());
+                writeVarLong(out, zigZag(comanda.getId() - previousId));
+                writeVarLong(out, comanda.getTotalBani());
+                writeVarLong(out, comanda.getLineCount());
+                for (int i = 0; i < comanda.getLineCount(); i++) {
+                    writeVarLong(out, Arrays.binarySearch(dictionary, comanda.getLineProductId(i)));
+                    writeVarLong(out, comanda.getLineQuantity(i));
+                    writeVarLong(out, comanda.getLinePretBani(i));
+                }
+                previousSecond = second;
+                previousId = comanda.getId();
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    private static void decodeBlock(byte[] compressed, int[] dictionary, IntFunction<Produs> produsResolver,
+                                    long fromSecond, long toSecond, Consumer<Comanda> action) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+                new InflaterInputStream(new ByteArrayInputStream(compressed))))) {
+            int count = in.readInt();
+            long second = in.readLong();
+            long id = 0;
+            for (int o = 0; o < count; o++) {
+                second += readVarLong(in);
+                int nano = (int) readVarLong(in);
+                id += unZigZag(readVarLong(in));
+                long totalBani = readVarLong(in);
+                int lines = (int) readVarLong(in);
+                int[] productIds = new int[lines];
+                int[] quantities = new int[lines];
+                long[] prices = new long[lines];
+                for (int i = 0; i < lines; i++) {
+                    productIds[i] = dictionary[(int) readVarLong(in)];
+                    quantities[i] = (int) readVarLong(in);
+                    prices[i] = readVarLong(in);
+                }
+                if (second < fromSecond || second >= toSecond) {
+                    continue;
+                }
+                action.accept(new Comanda(id, produsResolver, productIds, quantities, prices, totalBani,
+                        LocalDateTime.ofEpochSecond(second, nano, ZoneOffset.UTC), StatusComanda.FINALIZATA));
+            }
+        }
+    }
+
+    private static int[] lineProductIds(Comanda comanda) {
+        int[] ids = new int[comanda.getLineCount()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = comanda.getLineProductId(i);
+        }
+        return ids;
+    }
+
+    private static long epochSecond(Comanda comanda) {
+        return comanda.getOrderDateTime().toEpochSecond(ZoneOffset.UTC);
+    }
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /** Scrie un întreg fără semn pe câte 7 biți pe octet, cel mai semnificativ bit marcând continuarea */
+    private static void writeVarLong(DataOutput out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static long readVarLong(DataInput in) throws IOException {
+        long value = 0;
+        for (int shift = 0; ; shift += 7) {
+            byte b = in.readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+    }
+}
@@ -0,0 +1,273 @@
+package com.products.File;
+
+import java.io.*;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+
+/**
+ * Indexul fișierului text de comenzi: pentru fiecare linie, poziția ei în octeți și momentul comenzii.
+ * Indexul este păstrat lângă fișier (de exemplu "Orders.txt.idx"), împreună cu lungimea fișierului
+ * la momentul indexării; la fiecare aducere la zi sunt citiți doar octeții noi,
+ * iar dacă fișierul a fost rescris sau scurtat, indexul este reconstruit.
+ * Astfel, comenzile dintr-un interval sunt citite direct din fișier, fără a-l parcurge de la început.
+ */
+class OrderLineIndex {
+    /** Semnătura fișierului index ("OIDX") */
+    private static final int MAGIC = 0x4F494458;
+
+    /** Versiunea formatului */
+    private static final int VERSION = 1;
+
+    /** Dimensiunea antetului: semnătura, versiunea și lungimea fișierului indexat */
+    private static final int HEADER_BYTES = 16;
+
+    /** Dimensiunea unei intrări: poziția liniei și secunda comenzii */
+    private static final int ENTRY_BYTES = 16;
+
+    /** Prefixul primei coloane a unei linii de comandă */
+    private static final String DATE_PREFIX = "Data comenzii:";
+
+    /** Fișierul de comenzi indexat */
+    private final File ordersFile;
+
+    /** Fișierul index */
+    private final File indexFile;
+
+    /** Pozițiile liniilor, în octeți */
+    private long[] offsets = new long[0];
+
+    /** Momentele comenzilor, în secunde UTC */
+    private long[] seconds = new long[0];
+
+    /** Numărul de linii indexate */
+    private int count;
+
+    /** Lungimea fișierului de comenzi acoperită de index */
+    private long indexedLength;
+
+    /** Indicator că momentele sunt în ordine crescătoare, caz în care intervalele sunt căutate binar */
+    private boolean sorted = true;
+
+    /** Indicator că indexul a fost citit de pe disc */
+    private boolean loaded;
+
+    /**
+     * Construiește indexul pentru fișierul de comenzi dat.
+     *
+     * @param ordersPath Calea fișierului de comenzi
+     */
+    OrderLineIndex(String ordersPath) {
+        this.ordersFile = new File(ordersPath);
+        this.indexFile = new File(ordersPath + ".idx");
+    }
+
+    /**
+     * Aduce indexul la zi cu fișierul de comenzi, citind doar octeții adăugați de la ultima indexare.
+     *
+     * @throws IOException dacă fișierele nu pot fi citite sau scrise
+     */
+    void refresh() throws IOException {
+        if (!loaded) {
+            load();
+        }
+        long length = ordersFile.length();
+        if (length == indexedLength) {
+            return;
+        }
+        int previousCount = count;
+        if (length < indexedLength) {
+            reset();
+            previousCount = 0;
+        }
+        scan(indexedLength, length);
+        save(previousCount);
+    }
+
+    /**
+     * Golește indexul; următorul apel refresh îl reconstruiește din fișier.
+     */
+    void invalidate() {
+        reset();
+        loaded = true;
+        indexFile.delete();
+    }
+
+    /** @return Numărul de linii indexate */
+    int size() {
+        return count;
+    }
+
+    /**
+     * Returnează poziția în octeți a liniei date sau lungimea indexată, pentru poziția de după ultima linie.
+     *
+     * @param line Numărul liniei, între 0 și size()
+     * @return long Poziția liniei în fișier
+     */
+    long offset(int line) {
+        return line < count ? offsets[line] : indexedLength;
+    }
+
+    /**
+     * Returnează momentul comenzii de pe linia dată.
+     *
+     * @param line Numărul liniei
+     * @return long Secunda UTC a comenzii
+     */
+    long second(int line) {
+        return seconds[line];
+    }
+
+    /** @return true dacă momentele sunt în ordine crescătoare */
+    boolean isSorted() {
+        return sorted;
+    }
+
+    /**
+     * Returnează prima linie al cărei moment nu este mai mic decât secunda dată, într-un index sortat.
+     *
+     * @param second Secunda UTC căutată
+     * @return int Numărul liniei, între 0 și size()
+     */
+    int lowerBound(long second) {
+        int low = 0;
+        int high = count;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (seconds[middle] < second) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private void reset() {
+        count = 0;
+        indexedLength = 0;
+        sorted = true;
+    }
+
+    private void load() throws IOException {
+        loaded = true;
+        reset();
+        if (!indexFile.exists()) {
+            return;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(indexFile)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                return;
+            }
+            long length = in.readLong();
+            int entries = (int) ((indexFile.length() - HEADER_BYTES) / ENTRY_BYTES);
+            ensureCapacity(entries);
+            for (int i = 0; i < entries; i++) {
+                add(in.readLong(), in.readLong());
+            }
+            // O intrare scrisă după ultima actualizare a antetului face indexul nesigur
+            if (count > 0 && offsets[count - 1] >= length || length > ordersFile.length()) {
+                reset();
+                return;
+            }
+            indexedLength = length;
+        } catch (EOFException e) {
+            reset();
+        }
+    }
+
+    private void scan(long from, long to) throws IOException {
+        try (FileInputStream file = new FileInputStream(ordersFile)) {
+            file.getChannel().position(from);
+            BufferedInputStream in = new BufferedInputStream(file, 1 << 16);
+            byte[] head = new byte[DATE_PREFIX.length() + 19];
+            int headLength = 0;
+            long lineStart = from;
+            long position = from;
+            int b;
+            while (position < to && (b = in.read()) != -1) {
+                position++;
+                if (b == '\n') {
+                    if (headLength > 0) {
+                        add(lineStart, parseSecond(head, headLength));
+                    }
+                    lineStart = position;
+                    headLength = 0;
+                } else if (headLength < head.length && b != '\r') {
+                    head[headLength++] = (byte) b;
+                }
+            }
+            // O ultimă linie fără terminator rămâne neindexată până este completată
+            indexedLength = lineStart;
+        }
+    }
+
+    /**
+     * Citește momentul din prefixul "Data comenzii:yyyy-MM-dd HH:mm:ss" direct din octeți, fără formatter.
+     */
+    private static long parseSecond(byte[] head, int length) {
+        int p = DATE_PREFIX.length();
+        if (length < p + 19) {
+            return Long.MIN_VALUE;
+        }
+        LocalDateTime data = LocalDateTime.of(digits(head, p, 4), digits(head, p + 5, 2), digits(head, p + 8, 2),
+                digits(head, p + 11, 2), digits(head, p + 14, 2), digits(head, p + 17, 2));
+        return data.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    private static int digits(byte[] bytes, int from, int count) {
+        int value = 0;
+        for (int i = from; i < from + count; i++) {
+            int digit = bytes[i] - '0';
+            if (digit < 0 || digit > 9) {
+                throw new IllegalArgumentException("Dată invalidă în fișierul de comenzi");
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    private void add(long offset, long second) {
+        ensureCapacity(count + 1);
+        if (count > 0 && second < seconds[count - 1]) {
+            sorted = false;
+        }
+        offsets[count] = offset;
+        seconds[count] = second;
+        count++;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > offsets.length) {
+            int newCapacity = Math.max(capacity, Math.max(1024, offsets.length * 2));
+            offsets = Arrays.copyOf(offsets, newCapacity);
+            seconds = Arrays.copyOf(seconds, newCapacity);
+        }
+    }
+
+    /**
+     * Scrie intrările noi la sfârșitul fișierului index și apoi lungimea indexată în antet.
+     */
+    private void save(int firstNew) throws IOException {
+        try (RandomAccessFile out = new RandomAccessFile(indexFile, "rw")) {
+            if (firstNew == 0) {
+                out.setLength(0);
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeLong(0);
+            } else {
+                out.setLength(HEADER_BYTES + (long) firstNew * ENTRY_BYTES);
+            }
+            out.seek(HEADER_BYTES + (long) firstNew * ENTRY_BYTES);
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream((count - firstNew) * ENTRY_BYTES);
+            DataOutputStream entries = new DataOutputStream(bytes);
+            for (int i = firstNew; i < count; i++) {
+                entries.writeLong(offsets[i]);
+                entries.writeLong(seconds[i]);
+            }
+            out.write(bytes.toByteArray());
+            out.seek(8);
+            out.writeLong(indexedLength);
+        }
+    }
+}
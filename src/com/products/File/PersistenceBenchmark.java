@@ -0,0 +1,198 @@
+package com.products.File;
+
+import com.products.Order.Comanda;
+import com.products.Order.StatusComanda;
+import com.products.Product.Produs;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.function.IntFunction;
+import java.util.stream.Stream;
+
+/**
+ * Program care compară mecanismele de persistență pe aceleași date generate:
+ * salvarea și încărcarea produselor, salvarea completă și adăugarea în loturi a comenzilor,
+ * încărcarea tuturor comenzilor și interogarea comenzilor din ultimele 30 de zile.
+ * Mecanismul "jdbc" este inclus doar dacă driverul pentru URL-ul dat este disponibil la rulare.
+ *
+ * Utilizare: {@code java com.products.File.PersistenceBenchmark [produse] [comenzi] [url-jdbc]}
+ */
+public class PersistenceBenchmark {
+    private PersistenceBenchmark() {
+    }
+
+    /** Dimensiunea unui lot de comenzi adăugat */
+    private static final int APPEND_BATCH = 512;
+
+    /** Numărul de loturi adăugate în măsurătoarea de adăugare */
+    private static final int APPEND_BATCHES = 20;
+
+    /**
+     * Punctul de intrare al măsurătorii.
+     *
+     * @param args Numărul de produse, numărul de comenzi și URL-ul JDBC (opționale)
+     * @throws IOException dacă directorul temporar nu poate fi creat sau șters
+     */
+    public static void main(String[] args) throws IOException {
+        int productCount = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        int orderCount = args.length > 1 ? Integer.parseInt(args[1]) : 200_000;
+        Path directory = Files.createTempDirectory("persistence-benchmark");
+        String jdbcUrl = args.length > 2 ? args[2] : "jdbc:h2:" + directory.resolve("bench").toAbsolutePath();
+
+        Random random = new Random(42);
+        List<Produs> produse = generateProducts(productCount, random);
+        List<Comanda> comenzi = generateOrders(orderCount, produse, random);
+
+        List<DataRepository> repositories = new ArrayList<>();
+        repositories.add(new TextFileRepository(directory.resolve("Produse.json").toString(), directory.resolve("Orders.txt").toString()));
+        repositories.add(new BinaryFileRepository(directory.resolve("Produse.bin").toString(), directory.resolve("Orders.bin").toString()));
+        try {
+            DriverManager.getDriver(jdbcUrl);
+            repositories.add(new JdbcRepository(jdbcUrl));
+        } catch (SQLException e) {
+            System.out.println("Niciun driver JDBC pentru " + jdbcUrl + "; mecanismul \"jdbc\" este omis.");
+        }
+
+        System.out.printf("Produse: %d, comenzi: %d, director: %s%n%n", productCount, orderCount, directory);
+        System.out.printf("%-8s %12s %12s %12s %12s %12s %12s %12s%n", "Mecanism", "salv. prod", "înc. prod",
+                "salv. com.", "adăug. com.", "înc. com.", "ult. 30 zile", "pe disc");
+        try {
+            for (DataRepository repository : repositories) {
+                run(repository, produse, comenzi, directory);
+            }
+        } finally {
+            try (Stream<Path> files = Files.walk(directory)) {
+                files.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+            }
+        }
+    }
+
+    private static void run(DataRepository repository, List<Produs> produse, List<Comanda> comenzi, Path directory) {
+        try {
+            IntFunction<Produs> produsResolver = resolver(produse);
+            long saveProducts = time(() -> repository.saveProducts(produse));
+            List<Produs> loaded = new ArrayList<>();
+            long loadProducts = time(() -> loaded.addAll(repository.loadProducts()));
+            long saveOrders = time(() -> repository.saveAllOrders(comenzi));
+            long appendOrders = time(() -> {
+                for (int b = 0; b < APPEND_BATCHES; b++) {
+                    int from = b * APPEND_BATCH % Math.max(1, comenzi.size() - APPEND_BATCH);
+                    repository.appendOrders(renumber(comenzi.subList(from, Math.min(comenzi.size(), from + APPEND_BATCH)), b, produsResolver));
+                }
+            });
+            int[] loadedOrders = new int[1];
+            long loadOrders = time(() -> loadedOrders[0] = repository.loadOrders(loaded).size());
+            LocalDateTime now = LocalDateTime.now();
+            int[] recentOrders = new int[1];
+            long queryRecent = time(() -> recentOrders[0] = repository.loadOrdersBetween(loaded, now.minusDays(30), now).size());
+
+            System.out.printf("%-8s %10.1f ms %10.1f ms %10.1f ms %10.1f ms %10.1f ms %10.1f ms %9d KiB%n", repository.getName(),
+                    saveProducts / 1e6, loadProducts / 1e6, saveOrders / 1e6, appendOrders / 1e6,
+                    loadOrders / 1e6, queryRecent / 1e6, diskUsage(directory, repository) / 1024);
+            if (loaded.size() != produse.size() || loadedOrders[0] != comenzi.size() + APPEND_BATCHES * APPEND_BATCH) {
+                System.out.printf("  atenție: %d produse și %d comenzi citite%n", loaded.size(), loadedOrders[0]);
+            }
+        } catch (FileOperationException e) {
+            System.out.printf("%-8s eroare: %s%n", repository.getName(), e.getMessage());
+        }
+    }
+
+    /** Operație măsurată, care poate arunca FileOperationException */
+    @FunctionalInterface
+    private interface Operation {
+        void run() throws FileOperationException;
+    }
+
+    private static long time(Operation operation) throws FileOperationException {
+        long start = System.nanoTime();
+        operation.run();
+        return System.nanoTime() - start;
+    }
+
+    private static long diskUsage(Path directory, DataRepository repository) {
+        String extensions = repository instanceof TextFileRepository ? ".json .txt"
+                : repository instanceof BinaryFileRepository ? ".bin" : ".db";
+        long total = 0;
+        File[] files = directory.toFile().listFiles();
+        if (files != null) {
+            for (File file : files) {
+                String name = file.getName();
+                String extension = name.contains(".") ? name.substring(name.lastIndexOf('.')) : "";
+                if (!extension.isEmpty() && extensions.contains(extension)) {
+                    total += file.length();
+                }
+            }
+        }
+        return total;
+    }
+
+    private static List<Produs> generateProducts(int count, Random random) {
+        List<Produs> produse = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            produse.add(new Produs(i, 1 + random.nextInt(20_000) / 100.0, "Produs de test numărul " + i,
+                    random.nextInt(500), "Produs" + i, "2024-01-01", "2030-01-01",
+                    random.nextInt(50) / 10.0, random.nextInt(1000), random.nextInt(100)));
+        }
+        return produse;
+    }
+
+    /**
+     * Produsele generate au identificatorii 1..n, în ordine, deci sunt găsite direct după poziție.
+     */
+    private static IntFunction<Produs> resolver(List<Produs> produse) {
+        return id -> id >= 1 && id <= produse.size() ? produse.get(id - 1) : null;
+    }
+
+    private static List<Comanda> generateOrders(int count, List<Produs> produse, Random random) {
+        IntFunction<Produs> produsResolver = resolver(produse);
+        List<Comanda> comenzi = new ArrayList<>(count);
+        LocalDateTime start = LocalDateTime.now().minusYears(3).withNano(0);
+        long spanSeconds = 3L * 365 * 24 * 3600;
+        StatusComanda[] statuses = StatusComanda.values();
+        for (int i = 0; i < count; i++) {
+            int lines = 1 + random.nextInt(5);
+            int[] ids = new int[lines];
+            int[] quantities = new int[lines];
+            long[] prices = new long[lines];
+            long total = 0;
+            for (int l = 0; l < lines; l++) {
+                Produs produs = produse.get(random.nextInt(produse.size()));
+                ids[l] = produs.getId();
+                quantities[l] = 1 + random.nextInt(3);
+                prices[l] = produs.getPretBani();
+                total += prices[l] * quantities[l];
+            }
+            LocalDateTime data = start.plusSeconds(spanSeconds * i / count);
+            comenzi.add(new Comanda(i + 1, produsResolver, ids, quantities, prices, total, data,
+                    statuses[random.nextInt(statuses.length)]));
+        }
+        return comenzi;
+    }
+
+    private static List<Comanda> renumber(List<Comanda> batch, int round, IntFunction<Produs> produsResolver) {
+        List<Comanda> copy = new ArrayList<>(batch.size());
+        long base = 1_000_000_000L * (round + 1);
+        for (Comanda comanda : batch) {
+            int lines = comanda.getLineCount();
+            int[] ids = new int[lines];
+            int[] quantities = new int[lines];
+            long[] prices = new long[lines];
+            for (int l = 0; l < lines; l++) {
+                ids[l] = comanda.getLineProductId(l);
+                quantities[l] = comanda.getLineQuantity(l);
+                prices[l] = comanda.getLinePretBani(l);
+            }
+            copy.add(new Comanda(base + comanda.getId(), produsResolver, ids, quantities, prices,
+                    comanda.getTotalBani(), comanda.getOrderDateTime(), comanda.getStatus()));
+        }
+        return copy;
+    }
+}
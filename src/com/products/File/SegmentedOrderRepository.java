@@ -0,0 +1,448 @@
+package com.products.File;
+
+import com.products.Money;
+import com.products.Order.Comanda;
+import com.products.Order.OrderIngestionPipeline.OrderBatchSink;
+import com.products.Product.Produs;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
+
+/**
+ * Persistența comenzilor în segmente lunare: fiecare lună are propriul fișier text ("2024-05.txt"),
+ * în același format ca Orders.txt, iar un manifest păstrează pentru fiecare segment intervalul de timp,
+ * numărul de comenzi și suma lor. La pornire sunt încărcate doar segmentele "calde" (ultimele luni);
+ * segmentele mai vechi sunt citite doar când o interogare pe interval le atinge și sunt păstrate
+ * într-un cache mic, astfel încât pornirea și memoria depind de volumul recent, nu de tot istoricul.
+ * Produsele sunt delegate depozitului text. La prima utilizare, comenzile din Orders.txt sunt
+ * împărțite în segmente, fără a modifica fișierul original.
+ */
+public class SegmentedOrderRepository implements DataRepository {
+    /** Directorul implicit al segmentelor */
+    public static final String DEFAULT_DIRECTORY = "data/orders";
+
+    /** Numărul implicit de luni încărcate la pornire */
+    public static final int DEFAULT_HOT_MONTHS = 3;
+
+    /** Numele fișierului manifest */
+    private static final String MANIFEST = "manifest.txt";
+
+    /** Numărul de segmente vechi păstrate în memorie */
+    private static final int COLD_CACHE_SIZE = 6;
+
+    /** Formatul datei din prima coloană a unei linii de comandă */
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    /** Depozitul text, folosit pentru produse și ca sursă la migrarea comenzilor */
+    private final TextFileRepository base;
+
+    /** Directorul segmentelor */
+    private final Path directory;
+
+    /** Numărul de luni, inclusiv luna curentă, ale căror segmente sunt încărcate la pornire */
+    private final int hotMonths;
+
+    /** Rezumatele segmentelor, după lună; null până la prima citire a manifestului */
+    private TreeMap<YearMonth, Segment> manifest;
+
+    /** Segmentele vechi citite recent, în ordinea accesului */
+    private final LinkedHashMap<YearMonth, List<Comanda>> coldCache = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<YearMonth, List<Comanda>> eldest) {
+            return size() > COLD_CACHE_SIZE;
+        }
+    };
+
+    /** Lista de produse după care au fost rezolvate comenzile din cache */
+    private List<Produs> cachedFor;
+
+    /**
+     * Construiește depozitul segmentat.
+     *
+     * @param base Depozitul text pentru produse; fișierul lui de comenzi este migrat la prima utilizare
+     * @param directory Directorul segmentelor
+     * @param hotMonths Numărul de luni încărcate la pornire (cel puțin 1)
+     */
+    public SegmentedOrderRepository(TextFileRepository base, String directory, int hotMonths) {
+        this.base = base;
+        this.directory = Paths.get(directory);
+        this.hotMonths = Math.max(1, hotMonths);
+    }
+
+    @Override
+    public String getName() {
+        return "segmented";
+    }
+
+    @Override
+    public List<Produs> loadProducts() throws FileOperationException {
+        return base.loadProducts();
+    }
+
+    @Override
+    public void saveProducts(List<Produs> produse) throws FileOperationException {
+        base.saveProducts(produse);
+    }
+
+    /**
+     * Încarcă doar comenzile din segmentele calde; comenzile mai vechi sunt accesibile prin loadOrdersBetween
+     * și forEachUnloadedOrder.
+     */
+    @Override
+    public synchronized List<Comanda> loadOrders(List<Produs> produse) throws FileOperationException {
+        ensureManifest();
+        ProductMaps maps = new ProductMaps(produse);
+        List<Comanda> orders = new ArrayList<>();
+        for (YearMonth month : manifest.tailMap(firstHotMonth(), true).keySet()) {
+            orders.addAll(readSegment(month, maps));
+        }
+        return orders;
+    }
+
+    /**
+     * Citește doar segmentele al căror interval se suprapune cu [from, to); segmentele vechi trec prin cache.
+     */
+    @Override
+    public synchronized List<Comanda> loadOrdersBetween(List<Produs> produse, LocalDateTime from, LocalDateTime to)
+            throws FileOperationException {
+        ensureManifest();
+        if (cachedFor != produse) {
+            coldCache.clear();
+            cachedFor = produse;
+        }
+        long fromSecond = from.toEpochSecond(ZoneOffset.UTC);
+        long toSecond = to.toEpochSecond(ZoneOffset.UTC);
+        YearMonth firstHot = firstHotMonth();
+        ProductMaps maps = null;
+        List<Comanda> result = new ArrayList<>();
+        for (Map.Entry<YearMonth, Segment> entry : manifest.entrySet()) {
+            Segment segment = entry.getValue();
+            if (segment.lastSecond < fromSecond || segment.firstSecond >= toSecond) {
+                continue;
+            }
+            YearMonth month = entry.getKey();
+            List<Comanda> orders = month.isBefore(firstHot) ? coldCache.get(month) : null;
+            if (orders == null) {
+                if (maps == null) {
+                    maps = new ProductMaps(produse);
+                }
+                orders = readSegment(month, maps);
+                if (month.isBefore(firstHot)) {
+                    coldCache.put(month, orders);
+                }
+            }
+            for (Comanda comanda : orders) {
+                LocalDateTime data = comanda.getOrderDateTime();
+                if (!data.isBefore(from) && data.isBefore(to)) {
+                    result.add(comanda);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Parcurge segmentele vechi, în ordine cronologică, câte unul: fiecare segment este citit sub blocarea
+     * depozitului, iar acțiunea este aplicată după eliberarea ei, ca adăugările de comenzi să nu aștepte raportul.
+     */
+    @Override
+    public void forEachUnloadedOrder(List<Produs> produse, Consumer<Comanda> action) throws FileOperationException {
+        List<YearMonth> months;
+        synchronized (this) {
+            ensureManifest();
+            months = new ArrayList<>(manifest.headMap(firstHotMonth(), false).keySet());
+        }
+        ProductMaps maps = new ProductMaps(produse);
+        for (YearMonth month : months) {
+            List<Comanda> orders;
+            synchronized (this) {
+                if (!manifest.containsKey(month)) {
+                    continue;
+                }
+                orders = cachedFor == produse ? coldCache.get(month) : null;
+                if (orders == null) {
+                    orders = readSegment(month, maps);
+                }
+            }
+            orders.forEach(action);
+        }
+    }
+
+    /**
+     * Rescrie, prin înlocuire atomică, doar segmentele vechi din care au fost mutate comenzi.
+     */
+    @Override
+    public synchronized void moveUnloadedOrders(List<Produs> produse, Predicate<Comanda> filter, OrderBatchSink destination)
+            throws FileOperationException {
+        ensureManifest();
+        ProductMaps maps = new ProductMaps(produse);
+        boolean changed = false;
+        try {
+            for (YearMonth month : new ArrayList<>(manifest.headMap(firstHotMonth(), false).keySet())) {
+                List<Comanda> moved = new ArrayList<>();
+                List<Comanda> remaining = new ArrayList<>();
+                for (Comanda comanda : readSegment(month, maps)) {
+                    (filter.test(comanda) ? moved : remaining).add(comanda);
+                }
+                if (moved.isEmpty()) {
+                    continue;
+                }
+                destination.append(moved);
+                coldCache.remove(month);
+                changed = true;
+                if (remaining.isEmpty()) {
+                    Files.deleteIfExists(segmentFile(month));
+                    manifest.remove(month);
+                    continue;
+                }
+                writeSegment(month, remaining);
+            }
+        } catch (IOException e) {
+            throw new FileOperationException("Eroare la rescrierea segmentelor de comenzi: " + e.getMessage(), e);
+        } finally {
+            if (changed) {
+                try {
+                    writeManifest();
+                } catch (IOException e) {
+                    System.err.println("Eroare la salvarea manifestului: " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Rescrie segmentele lunilor prezente în listă și segmentele calde; segmentele vechi absente din listă
+     * rămân neatinse, deoarece lista primită de la aplicație conține doar comenzile încărcate.
+     */
+    @Override
+    public synchronized void saveAllOrders(List<Comanda> comenzi) throws FileOperationException {
+        ensureManifest();
+        TreeMap<YearMonth, List<Comanda>> byMonth = groupByMonth(comenzi);
+        for (YearMonth month : new ArrayList<>(manifest.tailMap(firstHotMonth(), true).keySet())) {
+            byMonth.putIfAbsent(month, new ArrayList<>());
+        }
+        try {
+            for (Map.Entry<YearMonth, List<Comanda>> entry : byMonth.entrySet()) {
+                YearMonth month = entry.getKey();
+                if (entry.getValue().isEmpty()) {
+                    Files.deleteIfExists(segmentFile(month));
+                    manifest.remove(month);
+                    continue;
+                }
+                writeSegment(month, entry.getValue());
+            }
+            coldCache.keySet().removeAll(byMonth.keySet());
+            writeManifest();
+        } catch (IOException e) {
+            throw new FileOperationException("Eroare la salvarea segmentelor de comenzi: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Adaugă comenzile la sfârșitul segmentelor lunilor lor și actualizează manifestul.
+     */
+    @Override
+    public synchronized void appendOrders(List<Comanda> comenzi) throws FileOperationException {
+        ensureManifest();
+        for (Map.Entry<YearMonth, List<Comanda>> entry : groupByMonth(comenzi).entrySet()) {
+            YearMonth month = entry.getKey();
+            TextFileRepository.appendOrders(entry.getValue(), segmentFile(month).toString());
+            Segment segment = manifest.computeIfAbsent(month, m -> new Segment());
+            for (Comanda comanda : entry.getValue()) {
+                segment.add(comanda.getOrderDateTime(), comanda.getTotalBani());
+            }
+            coldCache.remove(month);
+        }
+        try {
+            writeManifest();
+        } catch (IOException e) {
+            throw new FileOperationException("Eroare la salvarea manifestului: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Returnează rezumatele segmentelor, fără a citi comenzile.
+     *
+     * @return Map&lt;YearMonth, long[]&gt; Pentru fiecare lună: prima și ultima secundă (UTC), numărul de comenzi și suma în bani
+     * @throws FileOperationException dacă manifestul nu poate fi citit
+     */
+    public synchronized Map<YearMonth, long[]> getSegmentSummaries() throws FileOperationException {
+        ensureManifest();
+        Map<YearMonth, long[]> summaries = new LinkedHashMap<>();
+        for (Map.Entry<YearMonth, Segment> entry : manifest.entrySet()) {
+            Segment segment = entry.getValue();
+            summaries.put(entry.getKey(), new long[]{segment.firstSecond, segment.lastSecond, segment.count, segment.totalBani});
+        }
+        return summaries;
+    }
+
+    private YearMonth firstHotMonth() {
+        return YearMonth.now().minusMonths(hotMonths - 1);
+    }
+
+    private Path segmentFile(YearMonth month) {
+        return directory.resolve(month + ".txt");
+    }
+
+    private List<Comanda> readSegment(YearMonth month, ProductMaps maps) throws FileOperationException {
+        List<Comanda> orders = new ArrayList<>(Math.max(16, (int) manifest.get(month).count));
+        try (BufferedReader reader = Files.newBufferedReader(segmentFile(month), StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isEmpty()) {
+                    orders.add(TextFileRepository.parseOrderData(line, maps.dupaNume, maps.resolver));
+                }
+            }
+        } catch (FileNotFoundException | NoSuchFileException e) {
+            return orders;
+        } catch (IOException e) {
+            throw new FileOperationException("Eroare la citirea segmentului " + month + ": " + e.getMessage(), e);
+        }
+        return orders;
+    }
+
+    /** Rescrie segmentul lunii cu comenzile date și îi actualizează rezumatul din manifest */
+    private void writeSegment(YearMonth month, List<Comanda> comenzi) throws IOException {
+        Segment segment = new Segment();
+        StringBuilder sb = new StringBuilder(comenzi.size() * 160);
+        for (Comanda comanda : comenzi) {
+            segment.add(comanda.getOrderDateTime(), comanda.getTotalBani());
+            sb.append(TextFileRepository.formatOrderData(comanda)).append(System.lineSeparator());
+        }
+        writeAtomically(segmentFile(month), sb.toString());
+        manifest.put(month, segment);
+    }
+
+    private static TreeMap<YearMonth, List<Comanda>> groupByMonth(List<Comanda> comenzi) {
+        TreeMap<YearMonth, List<Comanda>> byMonth = new TreeMap<>();
+        for (Comanda comanda : comenzi) {
+            byMonth.computeIfAbsent(YearMonth.from(comanda.getOrderDateTime()), m -> new ArrayList<>()).add(comanda);
+        }
+        return byMonth;
+    }
+
+    /**
+     * Citește manifestul la prima utilizare. Dacă nu există, comenzile din fișierul text
+     * al depozitului de bază sunt copiate, linie cu linie, în segmentele lunilor lor.
+     */
+    private void ensureManifest() throws FileOperationException {
+        if (manifest != null) {
+            return;
+        }
+        TreeMap<YearMonth, Segment> segments = new TreeMap<>();
+        Path manifestFile = directory.resolve(MANIFEST);
+        try {
+            Files.createDirectories(directory);
+            if (Files.exists(manifestFile)) {
+                for (String line : Files.readAllLines(manifestFile, StandardCharsets.UTF_8)) {
+                    String[] fields = line.split(";");
+                    if (fields.length == 5) {
+                        Segment segment = new Segment();
+                        segment.firstSecond = Long.parseLong(fields[1]);
+                        segment.lastSecond = Long.parseLong(fields[2]);
+                        segment.count = Long.parseLong(fields[3]);
+                        segment.totalBani = Long.parseLong(fields[4]);
+                        segments.put(YearMonth.parse(fields[0]), segment);
+                    }
+                }
+                manifest = segments;
+                return;
+            }
+            manifest = segments;
+            migrate(Paths.get(base.getOrdersPath()));
+            writeManifest();
+        } catch (IOException | RuntimeException e) {
+            manifest = null;
+            throw new FileOperationException("Eroare la citirea manifestului de comenzi: " + e.getMessage(), e);
+        }
+    }
+
+    private void migrate(Path ordersFile) throws IOException {
+        if (!Files.exists(ordersFile)) {
+            return;
+        }
+        TreeMap<YearMonth, StringBuilder> contents = new TreeMap<>();
+        try (BufferedReader reader = Files.newBufferedReader(ordersFile, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty()) {
+                    continue;
+                }
+                // Data și suma sunt primele câmpuri; restul liniei este copiat neschimbat
+                String[] parts = line.split(",", 4);
+                LocalDateTime data = LocalDateTime.parse(parts[0].replace("Data comenzii:", "").trim(), DATE_FORMAT);
+                long totalBani = Money.parse(parts[2].replace("Suma totala a comenzii:", ""));
+                YearMonth month = YearMonth.from(data);
+                manifest.computeIfAbsent(month, m -> new Segment()).add(data, totalBani);
+                contents.computeIfAbsent(month, m -> new StringBuilder()).append(line).append(System.lineSeparator());
+            }
+        }
+        for (Map.Entry<YearMonth, StringBuilder> entry : contents.entrySet()) {
+            writeAtomically(segmentFile(entry.getKey()), entry.getValue().toString());
+        }
+    }
+
+    private void writeManifest() throws IOException {
+        StringBuilder sb = new StringBuilder();
+        for (Map.Entry<YearMonth, Segment> entry : manifest.entrySet()) {
+            Segment segment = entry.getValue();
+            sb.append(entry.getKey()).append(';').append(segment.firstSecond).append(';').append(segment.lastSecond)
+                    .append(';').append(segment.count).append(';').append(segment.totalBani).append(System.lineSeparator());
+        }
+        writeAtomically(directory.resolve(MANIFEST), sb.toString());
+    }
+
+    /** Scrie fișierul într-unul temporar și îl mută peste cel vechi, ca cititorii să nu vadă un fișier pe jumătate scris */
+    private static void writeAtomically(Path file, String content) throws IOException {
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        Files.writeString(temporary, content, StandardCharsets.UTF_8);
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /** Rezumatul unui segment lunar */
+    private static final class Segment {
+        private long firstSecond = Long.MAX_VALUE;
+        private long lastSecond = Long.MIN_VALUE;
+        private long count;
+        private long totalBani;
+
+        private void add(LocalDateTime data, long bani) {
+            long second = data.toEpochSecond(ZoneOffset.UTC);
+            firstSecond = Math.min(firstSecond, second);
+            lastSecond = Math.max(lastSecond, second);
+            count++;
+            totalBani += bani;
+        }
+    }
+
+    /** Produsele din catalog, indexate pentru parsarea liniilor de comandă */
+    private static final class ProductMaps {
+        private final Map<String, Produs> dupaNume = new HashMap<>();
+        private final Map<Integer, Produs> dupaId = new HashMap<>();
+        private final IntFunction<Produs> resolver = dupaId::get;
+
+        private ProductMaps(List<Produs> produse) {
+            for (Produs produs : produse) {
+                dupaNume.putIfAbsent(produs.getNume(), produs);
+                dupaId.put(produs.getId(), produs);
+            }
+        }
+    }
+}
@@ -0,0 +1,391 @@
+package com.products.File;
+
+import com.products.Money;
+import com.products.Order.Comanda;
+import com.products.Order.StatusComanda;
+import com.products.Product.Produs;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+/**
+ * Persistența în formatul text al aplicației: produsele într-un fișier JSON,
+ * iar comenzile într-un fișier text, câte o comandă pe linie.
+ * Un index alăturat fișierului de comenzi păstrează poziția fiecărei linii și momentul comenzii,
+ * astfel încât intervalele de timp sunt citite direct, fără a parcurge tot fișierul. Indexul este
+ * adus la zi doar de interogările pe interval, deci scrierea comenzilor nu îl recalculează.
+ */
+public class TextFileRepository implements DataRepository {
+    /** Calea implicită către fișierul JSON cu produse */
+    public static final String DEFAULT_PRODUCTS_PATH = "data/Produse.json";
+
+    /** Calea implicită către fișierul text cu comenzi */
+    public static final String DEFAULT_ORDERS_PATH = "data/Orders.txt";
+
+    /** Calea către fișierul JSON cu produse */
+    private final String productsPath;
+
+    /** Calea către fișierul text cu comenzi */
+    private final String ordersPath;
+
+    /** Indexul liniilor din fișierul de comenzi */
+    private final OrderLineIndex index;
+
+    /**
+     * Construiește depozitul pentru fișierele date.
+     *
+     * @param productsPath Calea fișierului JSON cu produse
+     * @param ordersPath Calea fișierului text cu comenzi
+     */
+    public TextFileRepository(String productsPath, String ordersPath) {
+        this.productsPath = productsPath;
+        this.ordersPath = ordersPath;
+        this.index = new OrderLineIndex(ordersPath);
+    }
+
+    @Override
+    public String getName() {
+        return "text";
+    }
+
+    /** @return Calea fișierului text cu comenzi */
+    public String getOrdersPath() {
+        return ordersPath;
+    }
+
+    /**
+     * Încarcă produsele din fișierul JSON.
+     * Erorile de citire sunt raportate, iar produsele citite până atunci sunt returnate.
+     *
+     * @return List&lt;Produs&gt; Lista de produse citită din fișier
+     */
+    @Override
+    public List<Produs> loadProducts() {
+        List<Produs> produse = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new FileReader(productsPath))) {
+            StringBuilder jsonBuilder = new StringBuilder();
+            String line;
+
+            while ((line = reader.readLine()) != null) {
+                jsonBuilder.append(line);
+            }
+
+            JSONArray jsonArray = new JSONArray(jsonBuilder.toString());
+            for (int i = 0; i < jsonArray.length(); i++) {
+                JSONObject jsonObject = jsonArray.getJSONObject(i);
+                Produs produs = new Produs(
+                        jsonObject.optInt("id", 0),
+                        jsonObject.getDouble("pret"),
+                        jsonObject.getString("descriere"),
+                        jsonObject.getInt("cantitateDisponibila"),
+                        jsonObject.getString("nume"),
+                        jsonObject.optString("dataAdaugarii", ""),
+                        jsonObject.optString("dataExpirare", ""),
+                        jsonObject.optDouble("rating", 0.0),
+                        jsonObject.optInt("numarCumparari", 0),
+                        jsonObject.getInt("nrRatinguri")
+                );
+                produse.add(produs);
+            }
+        } catch (IOException e) {
+            System.err.println("Eroare la citirea fișierului: " + e.getMessage());
+        } catch (Exception e) {
+            System.err.println("Eroare la procesarea fișierului JSON: " + e.getMessage());
+        }
+        return produse;
+    }
+
+    @Override
+    public void saveProducts(List<Produs> produse) throws FileOperationException {
+        JSONArray jsonArray = new JSONArray();
+        for (Produs produs : produse) {
+            JSONObject jsonObject = new JSONObject();
+            jsonObject.put("id", produs.getId());
+            jsonObject.put("pret", produs.getPret());
+            jsonObject.put("descriere", produs.getDescriere());
+            jsonObject.put("cantitateDisponibila", produs.getCantitateDisponibila());
+            jsonObject.put("nume", produs.getNume());
+            jsonObject.put("dataAdaugarii", produs.getDataAdaugarii());
+            jsonObject.put("dataExpirare", produs.getDataExpirare());
+            jsonObject.put("rating", produs.getRating());
+            jsonObject.put("nrRatinguri", produs.getNrRatinguri());
+            jsonObject.put("numarCumparari", produs.getNumarCumparari());
+            jsonArray.put(jsonObject);
+        }
+
+        try (BufferedWriter writer = new BufferedWriter(new FileWriter(productsPath))) {
+            writer.write(jsonArray.toString(4));
+        } catch (IOException e) {
+            throw new FileOperationException("Eroare la salvarea fișierului: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public synchronized List<Comanda> loadOrders(List<Produs> produse) throws FileOperationException {
+        List<Comanda> orders = new ArrayList<>();
+        Map<String, Produs> produseDupaNume = new HashMap<>();
+        Map<Integer, Produs> produseDupaId = new HashMap<>();
+        indexProducts(produse, produseDupaNume, produseDupaId);
+        IntFunction<Produs> produsResolver = produseDupaId::get;
+        try (BufferedReader bufferedReader = new BufferedReader(new FileReader(ordersPath))) {
+            String line;
+            while ((line = bufferedReader.readLine()) != null) {
+                orders.add(parseOrderData(line, produseDupaNume, produsResolver));
+            }
+        } catch (FileNotFoundException e) {
+            return orders;
+        } catch (IOException e) {
+            throw new FileOperationException("Eroare la citirea fișierului: " + e.getMessage(), e);
+        }
+        return orders;
+    }
+
+    /**
+     * Încarcă comenzile din interval folosind momentele din index: dacă fișierul este în ordine cronologică,
+     * intervalul este găsit prin căutare binară și citit dintr-o singură poziție; altfel sunt citite
+     * doar liniile ale căror momente cad în interval.
+     */
+    @Override
+    public synchronized List<Comanda> loadOrdersBetween(List<Produs> produse, LocalDateTime from, LocalDateTime to)
+            throws FileOperationException {
+        refreshIndex();
+        long fromSecond = from.toEpochSecond(ZoneOffset.UTC);
+        long toSecond = to.toEpochSecond(ZoneOffset.UTC);
+        Map<String, Produs> produseDupaNume = new HashMap<>();
+        Map<Integer, Produs> produseDupaId = new HashMap<>();
+        indexProducts(produse, produseDupaNume, produseDupaId);
+        IntFunction<Produs> produsResolver = produseDupaId::get;
+        List<Comanda> orders = new ArrayList<>();
+        if (index.isSorted()) {
+            // Fișierul păstrează doar secundele, deci limitele sunt comparate la nivel de secundă, apoi filtrate exact
+            readLines(index.lowerBound(fromSecond), index.lowerBound(toSecond + 1), produseDupaNume, produsResolver,
+                    fromSecond, toSecond, orders);
+        } else {
+            for (int line = 0; line < index.size(); line++) {
+                if (index.second(line) < fromSecond || index.second(line) > toSecond) {
+                    continue;
+                }
+                int end = line + 1;
+                while (end < index.size() && index.second(end) >= fromSecond && index.second(end) <= toSecond) {
+                    end++;
+                }
+                readLines(line, end, produseDupaNume, produsResolver, fromSecond, toSecond, orders);
+                line = end - 1;
+            }
+        }
+        orders.removeIf(c -> c.getOrderDateTime().isBefore(from) || !c.getOrderDateTime().isBefore(to));
+        return orders;
+    }
+
+    /**
+     * Scrie comenzile într-un fișier temporar și îl mută peste cel vechi, astfel încât o întrerupere
+     * în timpul scrierii lasă fișierul de comenzi neschimbat.
+     */
+    @Override
+    public synchronized void saveAllOrders(List<Comanda> comenzi) throws FileOperationException {
+        index.invalidate();
+        Path orders = Paths.get(ordersPath);
+        Path temporary = orders.resolveSibling(orders.getFileName() + ".tmp");
+        try {
+            try (BufferedWriter writer = new BufferedWriter(new FileWriter(temporary.toFile()))) {
+                for (Comanda comanda : comenzi) {
+                    writer.write(formatOrderData(comanda));
+                    writer.write(System.lineSeparator());
+                }
+            }
+            Files.move(temporary, orders, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new FileOperationException("Eroare la salvarea fișierului: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Adaugă comenzile la sfârșitul fișierului; liniile noi sunt indexate la următoarea interogare pe interval.
+     */
+    @Override
+    public synchronized void appendOrders(List<Comanda> comenzi) throws FileOperationException {
+        appendOrders(comenzi, ordersPath);
+    }
+
+    private void refreshIndex() throws FileOperationException {
+        try {
+            index.refresh();
+        } catch (IOException | RuntimeException e) {
+            index.invalidate();
+            throw new FileOperationException("Eroare la indexarea fișierului de comenzi: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Citește liniile [from, to) printr-o singură poziționare în fișier și le parsează pe cele
+     * ale căror momente din index se află în [fromSecond, toSecond].
+     */
+    private void readLines(int from, int to, Map<String, Produs> produseDupaNume, IntFunction<Produs> produsResolver,
+                           long fromSecond, long toSecond, List<Comanda> orders) throws FileOperationException {
+        if (from >= to) {
+            return;
+        }
+        long start = index.offset(from);
+        byte[] bytes = new byte[(int) (index.offset(to) - start)];
+        try (RandomAccessFile file = new RandomAccessFile(ordersPath, "r")) {
+            file.seek(start);
+            file.readFully(bytes);
+        } catch (IOException e) {
+            throw new FileOperationException("Eroare la citirea fișierului: " + e.getMessage(), e);
+        }
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(new ByteArrayInputStream(bytes), StandardCharsets.UTF_8))) {
+            String line;
+            for (int i = from; i < to && (line = reader.readLine()) != null; ) {
+                if (line.isEmpty()) {
+                    continue;
+                }
+                if (index.second(i) >= fromSecond && index.second(i) <= toSecond) {
+                    orders.add(parseOrderData(line, produseDupaNume, produsResolver));
+                }
+                i++;
+            }
+        } catch (IOException e) {
+            throw new FileOperationException("Eroare la citirea fișierului: " + e.getMessage(), e);
+        }
+    }
+
+    private static void indexProducts(List<Produs> produse, Map<String, Produs> produseDupaNume,
+                                      Map<Integer, Produs> produseDupaId) {
+        for (Produs produs : produse) {
+            produseDupaNume.putIfAbsent(produs.getNume(), produs);
+            produseDupaId.put(produs.getId(), produs);
+        }
+    }
+
+    /**
+     * Adaugă un lot de comenzi la sfârșitul unui fișier de comenzi, printr-o singură scriere.
+     *
+     * @param comenzi Comenzile ce vor fi adăugate
+     * @param filePath Calea fișierului de comenzi
+     * @throws FileOperationException dacă apare o eroare la scrierea în fișier
+     */
+    public static void appendOrders(List<Comanda> comenzi, String filePath) throws FileOperationException {
+        StringBuilder sb = new StringBuilder(comenzi.size() * 160);
+        for (Comanda comanda : comenzi) {
+            sb.append(formatOrderData(comanda)).append(System.lineSeparator());
+        }
+        try (BufferedWriter writer = new BufferedWriter(new FileWriter(filePath, true))) {
+            writer.write(sb.toString());
+        } catch (IOException e) {
+            throw new FileOperationException("Eroare la salvarea fișierului: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Formatează datele unei comenzi pentru salvare în fișier.
+     *
+     * @param comanda Comanda ce va fi formatată
+     * @return String Date formatate ale comenzii
+     */
+    static String formatOrderData(Comanda comanda) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Data comenzii:" + comanda.getOrderDateTime().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")));        sb.append(",");
+        // Numărul și numele sunt scrise pentru fiecare linie, inclusiv pentru produsele șterse din catalog,
+        // astfel încât numele rămân aliniate cu liniile la citire
+        sb.append("Numarul produselor comandate:" + comanda.getLineCount());
+        sb.append(",");
+        sb.append("Suma totala a comenzii:");
+        Money.appendTo(sb, comanda.getTotalBani());
+        sb.append(",");
+        sb.append("Produsele comandate:");
+        for (int i = 0; i < comanda.getLineCount(); i++) {
+            if (i > 0) {
+                sb.append('|');
+            }
+            sb.append(comanda.getLineName(i));
+        }
+        sb.append(",");
+        sb.append("Statusul comenzii: " + comanda.getStatus());
+        sb.append(",");
+        sb.append("ID comenzii:" + comanda.getId());
+        sb.append(",");
+        sb.append("Liniile comenzii:");
+        for (int i = 0; i < comanda.getLineCount(); i++) {
+            if (i > 0) {
+                sb.append('|');
+            }
+            sb.append(comanda.getLineProductId(i)).append(':').append(comanda.getLineQuantity(i)).append(':')
+                    .append(comanda.getLinePretBani(i));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Parsează o linie din fișierul de comenzi în obiectul Comanda.
+     *
+     * @param line Linia ce va fi parsată
+     * @param produseDupaNume Produsele din catalog, după nume
+     * @param produsResolver Funcția care găsește produsele din catalog după identificator, comună comenzilor citite
+     * @return Comanda Obiectul comandă creat din datele parsate
+     */
+    static Comanda parseOrderData(String line, Map<String, Produs> produseDupaNume, IntFunction<Produs> produsResolver) {
+        String[] parts = line.split(",");
+
+        String orderDateText = parts[0].replace("Data comenzii:", "").trim();
+        LocalDateTime orderDateTime = LocalDateTime.parse(orderDateText, DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
+
+        int productCount = Integer.parseInt(parts[1].replace("Numarul produselor comandate:", "").trim());
+        // Sumele sunt citite exact, atât în formatul actual ("12.50"), cât și în cel vechi, scris ca double ("12.5", "1.0E7")
+        long totalBani = Money.parse(parts[2].replace("Suma totala a comenzii:", ""));
+        String[] productNames = parts[3].replace("Produsele comandate:", "").split("\\|");
+        StatusComanda status = StatusComanda.valueOf(parts[4].replace("Statusul comenzii:", "").trim());
+        // Liniile salvate înainte de introducerea identificatorilor nu au acest câmp
+        long id = parts.length > 5 ? Long.parseLong(parts[5].replace("ID comenzii:", "").trim()) : 0;
+
+        if (parts.length > 6) {
+            // Liniile conțin identificatorul produsului, cantitatea și prețul unitar în bani: "id:cantitate:pret|..."
+            String linesText = parts[6].replace("Liniile comenzii:", "").trim();
+            String[] lines = linesText.isEmpty() ? new String[0] : linesText.split("\\|");
+            int[] productIds = new int[lines.length];
+            int[] quantities = new int[lines.length];
+            long[] prices = new long[lines.length];
+            for (int i = 0; i < lines.length; i++) {
+                String[] fields = lines[i].split(":");
+                productIds[i] = Integer.parseInt(fields[0]);
+                quantities[i] = Integer.parseInt(fields[1]);
+                prices[i] = Long.parseLong(fields[2]);
+                if (produsResolver.apply(productIds[i]) == null && productNames.length == lines.length) {
+                    // Un produs cu alt identificator este regăsit după nume, iar linia este legată de el
+                    Produs product = produseDupaNume.get(productNames[i]);
+                    if (product != null) {
+                        productIds[i] = product.getId();
+                    }
+                }
+            }
+            String[] lineNames = productNames.length == lines.length ? productNames : null;
+            return new Comanda(id, produsResolver, productIds, quantities, prices, lineNames, totalBani, orderDateTime, status);
+        }
+
+        // Liniile salvate înainte de introducerea liniilor de comandă au doar numele produselor: fiecare nume
+        // devine o linie fără preț, legată de produsul cu același nume sau de niciun produs (identificatorul 0)
+        String[] lineNames = productCount == 0 ? new String[0] : productNames;
+        int[] productIds = new int[lineNames.length];
+        int[] quantities = new int[lineNames.length];
+        long[] prices = new long[lineNames.length];
+        for (int i = 0; i < lineNames.length; i++) {
+            Produs product = produseDupaNume.get(lineNames[i]);
+            productIds[i] = product != null ? product.getId() : 0;
+            quantities[i] = 1;
+            prices[i] = Comanda.PRET_NECUNOSCUT;
+        }
+        return new Comanda(id, produsResolver, productIds, quantities, prices, lineNames, totalBani, orderDateTime, status);
+    }
+}
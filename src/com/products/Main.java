@@ -3,24 +3,28 @@ package com.products;
 import com.products.File.FileManager;
 import com.products.File.FileOperationException;
 import com.products.Order.Comanda;
-import com.products.Product.AdminProductCard;
+import com.products.Order.OffHeapOrderLog;
+import com.products.Order.OrderIngestionPipeline;
+import com.products.Order.OrderStore;
+import com.products.Product.Catalog;
 import com.products.Product.Produs;
-import com.products.Product.UserProductCard;
 import com.products.Report.Raport;
 import javafx.application.Application;
+import javafx.application.Platform;
+import javafx.concurrent.Task;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.Scene;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
-import javafx.scene.image.Image;
+import javafx.scene.control.ProgressBar;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.*;
 import javafx.scene.paint.Color;
 import javafx.scene.text.Font;
 import javafx.scene.text.FontWeight;
 import javafx.stage.Stage;
-import javafx.scene.effect.DropShadow;
+import javafx.stage.WindowEvent;
 import java.util.List;
 
 /**
@@ -31,16 +35,30 @@ import java.util.List;
 public class Main extends Application {
 
     /**
-     * Lista statică de produse disponibile în aplicație.
-     * Este încărcată la pornirea aplicației din sistemul de fișiere.
+     * Depozitul static al comenzilor efectuate în aplicație, indexat după identificator.
+     * Este încărcat la pornirea aplicației din sistemul de fișiere, pe firul de încărcare.
      */
-    private static List<Produs> produse;
+    private static volatile OrderStore orderStore;
 
     /**
-     * Lista statică de comenzi efectuate în aplicație.
-     * Este încărcată la pornirea aplicației din sistemul de fișiere.
+     * Pipeline-ul care preia comenzile noi și le procesează în loturi, pe un fir separat.
      */
-    private static List<Comanda> comenzi;
+    private static volatile OrderIngestionPipeline orderPipeline;
+
+    /**
+     * Interfața administratorului, construită la prima deschidere.
+     */
+    private AdminView adminView;
+
+    /**
+     * Interfața utilizatorului, construită la prima deschidere.
+     */
+    private UserView userView;
+
+    /**
+     * Indicator că fereastra principală a fost închisă în timpul încărcării datelor.
+     */
+    private boolean closeAfterLoading;
 
     /**
      * Obiect pentru manipularea controalelor UI.
@@ -50,15 +68,15 @@ public class Main extends Application {
 
     /**
      * Metoda principală de inițializare a interfeței grafice.
-     * Configurează fereastra principală și elementele UI ale aplicației.
+     * Afișează imediat fereastra principală, cu progresul încărcării, iar datele sunt încărcate
+     * pe un fir separat; butoanele devin active la finalul încărcării.
      *
      * @param primaryStage Fereastra principală a aplicației
      */
     @Override
     public void start(Stage primaryStage) {
-        // Încărcare date
-        produse = FileManager.getInstance().getProduse();
-        comenzi = FileManager.getInstance().loadOrders();
+        // Tema se aplică automat fiecărei ferestre deschise
+        Theme.install();
 
         // Configurare container principal
         VBox mainContainer = new VBox(20);
@@ -80,38 +98,9 @@ public class Main extends Application {
         HBox buttonContainer = new HBox(30);
         buttonContainer.setAlignment(Pos.CENTER);
 
-        // Definire stiluri butoane
-        String buttonStyle = """
-            -fx-background-color: white;
-            -fx-text-fill: #f50057;
-            -fx-font-size: 14px;
-            -fx-font-weight: bold;
-            -fx-padding: 15 30;
-            -fx-background-radius: 5;
-            -fx-min-width: 200px;
-            -fx-min-height: 50px;
-            """;
-
-        String buttonHoverStyle = """
-            -fx-background-color: #f8bbd0;
-            -fx-text-fill: #d5006d;
-            -fx-cursor: hand;
-            -fx-font-size: 14px;
-            -fx-font-weight: bold;
-            -fx-padding: 15 30;
-            -fx-background-radius: 5;
-            -fx-min-width: 200px;
-            -fx-min-height: 50px;
-            """;
-
-        // Configurare efect umbră
-        DropShadow shadow = new DropShadow();
-        shadow.setRadius(10.0);
-        shadow.setColor(Color.rgb(0, 0, 0, 0.3));
-
         // Creare și configurare butoane
-        Button adminButton = controllersManipulation.createStyledButton("Administrator", buttonStyle, buttonHoverStyle, shadow);
-        Button userButton = controllersManipulation.createStyledButton("Utilizator", buttonStyle, buttonHoverStyle, shadow);
+        Button adminButton = controllersManipulation.createStyledButton("Administrator");
+        Button userButton = controllersManipulation.createStyledButton("Utilizator");
 
         // Configurare containere pentru butoane și iconițe
         VBox adminContainer = new VBox(15);
@@ -120,30 +109,39 @@ public class Main extends Application {
         userContainer.setAlignment(Pos.CENTER);
 
         // Configurare iconițe
-        ImageView adminIcon = new ImageView(new Image(AdminProductCard.class.getResourceAsStream("/admin.png")));
-        adminIcon.setFitHeight(70);
-        adminIcon.setFitWidth(70);
-
-        ImageView userIcon = new ImageView(new Image(UserProductCard.class.getResourceAsStream("/user.png")));
-        userIcon.setFitHeight(70);
-        userIcon.setFitWidth(70);
+        ImageView adminIcon = ResourceCache.icon("/admin.png", 70);
+        ImageView userIcon = ResourceCache.icon("/user.png", 70);
 
         // Asamblare containere
         adminContainer.getChildren().addAll(adminIcon, adminButton);
         userContainer.getChildren().addAll(userIcon, userButton);
 
-        // Configurare acțiuni butoane
-        AdminView adminView = new AdminView(primaryStage);
-        adminView.setProduse(produse);
-        adminButton.setOnAction(e -> adminView.openAdminMenu());
+        // Configurare acțiuni butoane; vederile sunt construite la prima utilizare
+        adminButton.setOnAction(e -> {
+            if (adminView == null) {
+                adminView = new AdminView(primaryStage);
+            }
+            adminView.openAdminMenu();
+        });
+        userButton.setOnAction(e -> {
+            if (userView == null) {
+                userView = new UserView(primaryStage);
+            }
+            userView.openUserMenu();
+        });
 
-        UserView userView = new UserView(primaryStage);
-        userView.setProduse(produse);
-        userButton.setOnAction(e -> userView.openUserMenu());
+        // Butoanele devin active după încărcarea datelor
+        buttonContainer.setDisable(true);
+        ProgressBar progressBar = new ProgressBar();
+        progressBar.setPrefWidth(300);
+        Label progressLabel = new Label();
+        progressLabel.setTextFill(Color.WHITE);
+        VBox progressBox = new VBox(8, progressBar, progressLabel);
+        progressBox.setAlignment(Pos.CENTER);
 
         // Asamblare layout final
         buttonContainer.getChildren().addAll(adminContainer, userContainer);
-        mainContainer.getChildren().addAll(titleLabel, subtitleLabel, buttonContainer);
+        mainContainer.getChildren().addAll(titleLabel, subtitleLabel, buttonContainer, progressBox);
 
         // Configurare scenă și fereastră
         Scene scene = new Scene(mainContainer, 800, 600);
@@ -152,14 +150,31 @@ public class Main extends Application {
         primaryStage.setMinWidth(800);
         primaryStage.setMinHeight(600);
 
+        // Datele sunt încărcate pe un fir separat, după afișarea ferestrei
+        Task<Void> loading = createLoadingTask();
+
         // Configurare handler de închidere
         primaryStage.setOnCloseRequest(e -> {
             e.consume();
+            if (!loading.isDone()) {
+                // Încărcarea poate rescrie fișierul de comenzi la arhivare, deci închiderea așteaptă finalul ei
+                closeAfterLoading = true;
+                primaryStage.setTitle("Se închide după încărcarea datelor...");
+                return;
+            }
+            if (orderPipeline == null) {
+                // Încărcarea a eșuat, deci nu există nimic de salvat
+                Platform.exit();
+                System.exit(0);
+            }
+            Catalog catalog = FileManager.getInstance().getCatalog();
             try {
-                FileManager.getInstance().saveToFile(produse);
-                FileManager.getInstance().saveAllOrders(comenzi);
+                orderPipeline.shutdown();
+                FileManager.getInstance().saveToFile(catalog.snapshot());
+                FileManager.getInstance().saveAllOrders(orderStore.getOrders());
 
-                Raport raport = new Raport("Raport Vânzări", produse, comenzi);
+                Raport raport = new Raport("Raport Vânzări", catalog, orderStore, FileManager.getInstance().getArchive(),
+                        FileManager.getInstance().getRepository());
 
                 raport.genereazaRaportFrecventaComenzi("genereazaRaportFrecventaComenzi.txt");
                 raport.genereazaRaportComenziFinalizate("genereazaRaportComenziFinalizate.txt");
@@ -174,29 +189,152 @@ public class Main extends Application {
                 primaryStage.close();
             } catch (FileOperationException ex) {
                 throw new RuntimeException(ex);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(ex);
             }
             System.out.println("Modificări salvate cu succes și rapoarte generate în directorul 'Rapoarte'!");
         });
 
         primaryStage.show();
+
+        progressBar.progressProperty().bind(loading.progressProperty());
+        progressLabel.textProperty().bind(loading.messageProperty());
+        loading.setOnSucceeded(e -> {
+            mainContainer.getChildren().remove(progressBox);
+            buttonContainer.setDisable(false);
+            closeIfRequested(primaryStage);
+        });
+        loading.setOnFailed(e -> {
+            progressLabel.textProperty().unbind();
+            progressLabel.setText("Încărcarea datelor a eșuat: " + loading.getException().getMessage());
+            loading.getException().printStackTrace();
+            closeIfRequested(primaryStage);
+        });
+        Thread loader = new Thread(loading, "startup-loader");
+        loader.setDaemon(true);
+        loader.start();
     }
 
     /**
-     * Returnează lista curentă de produse.
+     * Reia închiderea ferestrei principale cerută în timpul încărcării datelor.
+     *
+     * @param primaryStage Fereastra principală a aplicației
+     */
+    private void closeIfRequested(Stage primaryStage) {
+        if (closeAfterLoading) {
+            primaryStage.fireEvent(new WindowEvent(primaryStage, WindowEvent.WINDOW_CLOSE_REQUEST));
+        }
+    }
+
+    /**
+     * Creează sarcina de încărcare a datelor: produsele, comenzile, arhivarea comenzilor finalizate
+     * vechi (doar dacă este activată prin {@code products.archive.days}), depozitul de comenzi și pipeline-ul de procesare. Progresul este raportat pe etape.
+     *
+     * @return Task Sarcina de încărcare, care încă nu a fost pornită
+     */
+    private static Task<Void> createLoadingTask() {
+        return new Task<>() {
+            @Override
+            protected Void call() {
+                updateProgress(0, 4);
+                updateMessage("Se încarcă produsele...");
+                Catalog catalog = FileManager.getInstance().getCatalog();
+
+                updateProgress(1, 4);
+                updateMessage("Se încarcă comenzile...");
+                List<Comanda> comenziSalvate = FileManager.getInstance().loadOrders();
+
+                updateProgress(2, 4);
+                // Arhivarea scoate comenzile din fișierul principal și din vederea comenzilor, deci are loc doar la cerere
+                int archiveDays = Integer.getInteger(FileManager.ARCHIVE_DAYS_PROPERTY, FileManager.DEFAULT_ARCHIVE_DAYS);
+                if (archiveDays > 0) {
+                    updateMessage("Se arhivează comenzile finalizate...");
+                    try {
+                        comenziSalvate = FileManager.getInstance().archiveFinalizedOrders(comenziSalvate, archiveDays);
+                    } catch (FileOperationException e) {
+                        System.err.println("Arhivarea comenzilor finalizate a eșuat: " + e.getMessage());
+                    }
+                }
+
+                updateProgress(3, 4);
+                updateMessage("Se pregătește depozitul comenzilor...");
+                OrderStore store = OffHeapBuffer.isEnabled()
+                        ? new OrderStore(comenziSalvate, new OffHeapOrderLog(catalog::getById))
+                        : new OrderStore(comenziSalvate);
+                OrderIngestionPipeline pipeline = new OrderIngestionPipeline(store, FileManager.getInstance()::appendOrders);
+                pipeline.addListener(new OrderIngestionPipeline.SaveListener() {
+                    @Override
+                    public void onSaveFailed(int unsavedOrders, Exception cause) {
+                        Alert.showAlert("Eroare", "Comenzile trimise nu au putut fi salvate: " + cause.getMessage()
+                                + ". Salvarea este reîncercată automat.", "ERROR");
+                    }
+
+                    @Override
+                    public void onSaveRecovered(int savedOrders) {
+                        Alert.showAlert("Informare", "Comenzile rămase nesalvate au fost salvate.", "INFORMATION");
+                    }
+                });
+                orderStore = store;
+                orderPipeline = pipeline;
+
+                updateProgress(4, 4);
+                updateMessage("Gata");
+                return null;
+            }
+        };
+    }
+
+    /**
+     * Returnează versiunea curentă, imuabilă, a listei de produse.
      *
      * @return Lista de produse din aplicație
      */
     public static List<Produs> getProduse() {
-        return produse;
+        return FileManager.getInstance().getProduse();
     }
 
     /**
-     * Returnează lista curentă de comenzi.
+     * Returnează o copie a listei curente de comenzi.
      *
      * @return Lista de comenzi din aplicație
      */
     public static List<Comanda> getOrders() {
-        return comenzi;
+        return orderStore.getOrders();
+    }
+
+    /**
+     * Returnează depozitul de comenzi, indexat după identificator.
+     *
+     * @return Depozitul de comenzi al aplicației
+     */
+    public static OrderStore getOrderStore() {
+        return orderStore;
+    }
+
+    /**
+     * Returnează pipeline-ul prin care sunt trimise comenzile noi.
+     *
+     * @return Pipeline-ul de procesare a comenzilor
+     */
+    public static OrderIngestionPipeline getOrderPipeline() {
+        return orderPipeline;
+    }
+
+    /**
+     * Oprește pipeline-ul de comenzi după ce comenzile deja trimise au fost procesate și salvate.
+     * Folosită înainte de orice ieșire din aplicație; nu face nimic dacă încărcarea nu s-a terminat.
+     */
+    public static void shutdownOrderPipeline() {
+        OrderIngestionPipeline pipeline = orderPipeline;
+        if (pipeline == null) {
+            return;
+        }
+        try {
+            pipeline.shutdown();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
     }
 
     /**
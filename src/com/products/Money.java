@@ -0,0 +1,129 @@
+package com.products;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Clasa Money reunește operațiile pe sume de bani reprezentate exact, ca număr întreg de bani (1 leu = 100 de bani).
+ * Sumele sunt păstrate în variabile long, astfel încât adunarea a milioane de valori este exactă
+ * și nu alocă obiecte; conversia în lei (double) se face doar la afișare sau pentru compatibilitate.
+ */
+public final class Money {
+    /** Numărul de bani dintr-un leu */
+    public static final int BANI_PER_LEU = 100;
+
+    private Money() {
+    }
+
+    /**
+     * Transformă o sumă în lei în bani, rotunjind la cel mai apropiat ban.
+     *
+     * @param lei Suma în lei
+     * @return long Suma în bani
+     */
+    public static long fromLei(double lei) {
+        return Math.round(lei * BANI_PER_LEU);
+    }
+
+    /**
+     * Transformă o sumă în bani în lei.
+     *
+     * @param bani Suma în bani
+     * @return double Suma în lei
+     */
+    public static double toLei(long bani) {
+        return (double) bani / BANI_PER_LEU;
+    }
+
+    /**
+     * Parsează exact o sumă în lei scrisă zecimal (de exemplu "12", "12.5", "-0.99" sau "1.2345E7").
+     * Zecimalele de după a doua sunt rotunjite la cel mai apropiat ban.
+     *
+     * @param text Suma în lei, ca text
+     * @return long Suma în bani
+     * @throws NumberFormatException dacă textul nu reprezintă o sumă validă
+     */
+    public static long parse(String text) {
+        String s = text.trim();
+        int length = s.length();
+        int i = 0;
+        boolean negative = false;
+        if (i < length && (s.charAt(i) == '-' || s.charAt(i) == '+')) {
+            negative = s.charAt(i) == '-';
+            i++;
+        }
+        long lei = 0;
+        int digits = 0;
+        while (i < length && Character.isDigit(s.charAt(i))) {
+            lei = Math.addExact(Math.multiplyExact(lei, 10), s.charAt(i) - '0');
+            i++;
+            digits++;
+        }
+        long bani = 0;
+        int fractionDigits = 0;
+        boolean roundUp = false;
+        if (i < length && s.charAt(i) == '.') {
+            i++;
+            while (i < length && Character.isDigit(s.charAt(i))) {
+                int digit = s.charAt(i) - '0';
+                if (fractionDigits < 2) {
+                    bani = bani * 10 + digit;
+                } else if (fractionDigits == 2) {
+                    roundUp = digit >= 5;
+                }
+                fractionDigits++;
+                i++;
+            }
+        }
+        if (i < length) {
+            // Formatul științific (de exemplu "1.0E7", scris de Double.toString) trece prin BigDecimal
+            return parseSlow(s);
+        }
+        if (digits == 0 && fractionDigits == 0) {
+            throw new NumberFormatException("Sumă invalidă: \"" + text + "\"");
+        }
+        for (int f = fractionDigits; f < 2; f++) {
+            bani *= 10;
+        }
+        long total = Math.addExact(Math.multiplyExact(lei, BANI_PER_LEU), bani + (roundUp ? 1 : 0));
+        return negative ? -total : total;
+    }
+
+    private static long parseSlow(String text) {
+        try {
+            return new BigDecimal(text).movePointRight(2).setScale(0, RoundingMode.HALF_UP).longValueExact();
+        } catch (ArithmeticException e) {
+            throw new NumberFormatException("Sumă invalidă: \"" + text + "\"");
+        }
+    }
+
+    /**
+     * Formatează o sumă în bani ca lei, cu exact două zecimale (de exemplu 1250 devine "12.50").
+     *
+     * @param bani Suma în bani
+     * @return String Suma formatată
+     */
+    public static String format(long bani) {
+        return appendTo(new StringBuilder(24), bani).toString();
+    }
+
+    /**
+     * Adaugă o sumă în bani, formatată ca lei cu două zecimale, la un StringBuilder existent.
+     *
+     * @param sb StringBuilder-ul la care se adaugă suma
+     * @param bani Suma în bani
+     * @return StringBuilder Același StringBuilder, pentru înlănțuire
+     */
+    public static StringBuilder appendTo(StringBuilder sb, long bani) {
+        if (bani < 0) {
+            sb.append('-');
+        }
+        long lei = Math.abs(bani / BANI_PER_LEU);
+        int rest = (int) Math.abs(bani % BANI_PER_LEU);
+        sb.append(lei).append('.');
+        if (rest < 10) {
+            sb.append('0');
+        }
+        return sb.append(rest);
+    }
+}
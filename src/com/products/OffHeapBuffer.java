@@ -0,0 +1,151 @@
+package com.products;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Zonă de memorie din afara heap-ului Java, extensibilă, folosită de modul de stocare off-heap.
+ * Memoria este alocată printr-o arenă partajată (Foreign Memory API) sau, opțional, mapată dintr-un fișier,
+ * astfel încât datele nu sunt parcurse de colectorul de gunoi, iar pauzele acestuia nu cresc odată cu volumul lor.
+ *
+ * Modul off-heap se activează cu proprietatea de sistem {@code -Dproducts.offheap=true}; cu
+ * {@code -Dproducts.offheap.dir=<director>} zonele sunt mapate din fișiere de lucru în acel director.
+ * Fișierele sunt trunchiate la deschidere: ele extind memoria, nu înlocuiesc salvarea datelor.
+ * Clasa nu este sigură pentru fire de execuție; apelanții sincronizează accesul.
+ *
+ * Foreign Memory API este finală începând cu JDK 22, deci proiectul se compilează cu JDK 22 sau mai nou
+ * (nivelul de limbaj JDK_22 din {@code Proiect PPOO.iml}, cu JDK-ul 23 al proiectului); pe JDK 21 ar fi
+ * nevoie de {@code --enable-preview}.
+ */
+public final class OffHeapBuffer implements AutoCloseable {
+    /** Proprietatea de sistem care activează modul off-heap */
+    public static final String ENABLED_PROPERTY = "products.offheap";
+
+    /** Proprietatea de sistem cu directorul fișierelor mapate */
+    public static final String DIRECTORY_PROPERTY = "products.offheap.dir";
+
+    /** Fișierul din care este mapată zona sau null pentru memorie anonimă */
+    private final Path file;
+
+    /** Canalul fișierului mapat (null pentru memorie anonimă) */
+    private FileChannel channel;
+
+    /** Arena care deține segmentul curent */
+    private Arena arena;
+
+    /** Segmentul curent */
+    private MemorySegment segment;
+
+    /**
+     * Alocă o zonă off-heap.
+     *
+     * @param initialBytes Dimensiunea inițială, în octeți
+     * @param file Fișierul din care este mapată zona sau null pentru memorie anonimă
+     */
+    public OffHeapBuffer(long initialBytes, Path file) {
+        this.file = file;
+        try {
+            if (file != null) {
+                channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                        StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+            }
+            allocate(Math.max(64, initialBytes), 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Nu s-a putut aloca memoria off-heap: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Verifică dacă modul de stocare off-heap a fost activat.
+     *
+     * @return true dacă proprietatea {@value #ENABLED_PROPERTY} este "true"
+     */
+    public static boolean isEnabled() {
+        return Boolean.getBoolean(ENABLED_PROPERTY);
+    }
+
+    /**
+     * Returnează fișierul de lucru cu numele dat, dacă a fost configurat un director pentru maparea zonelor.
+     *
+     * @param name Numele fișierului
+     * @return Path Calea fișierului sau null dacă zonele sunt alocate în memorie anonimă
+     */
+    public static Path mappedFile(String name) {
+        String directory = System.getProperty(DIRECTORY_PROPERTY);
+        return directory == null || directory.isEmpty() ? null : Paths.get(directory, name);
+    }
+
+    /** @return Segmentul curent; devine invalid după o extindere */
+    public MemorySegment segment() {
+        return segment;
+    }
+
+    /** @return Dimensiunea curentă a zonei, în octeți */
+    public long byteSize() {
+        return segment.byteSize();
+    }
+
+    /**
+     * Extinde zona, dacă este necesar, astfel încât să aibă cel puțin dimensiunea cerută.
+     * Conținutul existent este păstrat, iar octeții noi sunt zero.
+     *
+     * @param requiredBytes Dimensiunea minimă, în octeți
+     */
+    public void ensureCapacity(long requiredBytes) {
+        long current = segment.byteSize();
+        if (requiredBytes <= current) {
+            return;
+        }
+        try {
+            allocate(Math.max(requiredBytes, current * 2), current);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Nu s-a putut extinde memoria off-heap: " + e.getMessage(), e);
+        }
+    }
+
+    private void allocate(long bytes, long preserved) throws IOException {
+        Arena next = Arena.ofShared();
+        MemorySegment grown;
+        if (channel != null) {
+            // Fișierul păstrează conținutul existent; noua mapare îl vede la aceleași poziții
+            grown = channel.map(FileChannel.MapMode.READ_WRITE, 0, bytes, next);
+        } else {
+            grown = next.allocate(bytes, Long.BYTES);
+            if (preserved > 0) {
+                MemorySegment.copy(segment, 0, grown, 0, preserved);
+            }
+            grown.asSlice(preserved).fill((byte) 0);
+        }
+        Arena previous = arena;
+        arena = next;
+        segment = grown;
+        if (previous != null) {
+            previous.close();
+        }
+    }
+
+    /**
+     * Eliberează memoria și închide fișierul mapat, dacă există.
+     */
+    @Override
+    public void close() {
+        if (arena != null) {
+            arena.close();
+            arena = null;
+        }
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                System.err.println("Eroare la închiderea fișierului " + file + ": " + e.getMessage());
+            }
+            channel = null;
+        }
+    }
+}
@@ -1,25 +1,60 @@
 package com.products.Order;
 import com.products.Cart.Cart;
+import com.products.Money;
 import com.products.Product.Produs;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.function.IntFunction;
 
 /**
  * Clasa care gestionează detaliile și procesarea unei comenzi în sistemul de vânzări.
  * Aceasta menține informații despre produsele comandate, valoarea totală, data comenzii
  * și statusul curent al comenzii.
+ * Liniile comenzii (identificatorul produsului, cantitatea și prețul unitar din momentul comenzii)
+ * sunt păstrate în vectori primitivi paraleli, astfel încât valorile istorice nu depind de catalogul curent.
+ * Comanda nu reține produsele: acestea sunt căutate după identificator, la cerere, prin funcția de rezolvare
+ * primită la construire (de regulă {@code Catalog::getById}, comună tuturor comenzilor).
+ * Comenzile salvate în formatul vechi, fără linii, nu au prețuri pe linii: acestea sunt marcate cu
+ * {@link #PRET_NECUNOSCUT}, iar valoarea lor este doar totalul salvat.
  */
 public class Comanda {
     /**
-     * Lista de produse incluse în comandă.
+     * Prețul unitar al liniilor unei comenzi salvate fără prețuri pe linii.
      */
-    private List<Produs> products;
+    public static final long PRET_NECUNOSCUT = -1;
 
     /**
-     * Valoarea totală a comenzii.
+     * Funcția care găsește produsul din catalog după identificator; returnează null pentru produsele șterse.
      */
-    private double totalValue;
+    private final IntFunction<Produs> produsResolver;
+
+    /**
+     * Identificatorul produsului de pe fiecare linie a comenzii.
+     */
+    private final int[] lineProductIds;
+
+    /**
+     * Cantitatea comandată de pe fiecare linie.
+     */
+    private final int[] lineQuantities;
+
+    /**
+     * Prețul unitar din momentul comenzii de pe fiecare linie, în bani.
+     */
+    private final long[] linePretBani;
+
+    /**
+     * Numele produsului de pe fiecare linie, reținut la construire, sau null dacă nu este cunoscut;
+     * folosit pentru produsele care nu mai există în catalog.
+     */
+    private final String[] lineNames;
+
+    /**
+     * Valoarea totală a comenzii, în bani.
+     */
+    private long totalBani;
 
     /**
      * Data și ora la care a fost plasată comanda.
@@ -30,67 +65,205 @@ public class Comanda {
      * Statusul curent al comenzii.
      */
     private StatusComanda status;
-    Cart cart;
 
     /**
-     * Construiește o nouă comandă cu lista specificată de produse.
-     * Calculează automat valoarea totală și setează data curentă.
+     * Identificatorul comenzii, atribuit la procesarea acesteia (0 dacă nu a fost încă atribuit).
+     */
+    private long id;
+
+    /**
+     * Construiește o nouă comandă din liniile unui coș.
+     * Liniile preiau prețurile unitare reținute de coș, deci valoarea comenzii este totalul afișat al coșului;
+     * calculează automat valoarea totală și setează data curentă.
      *
-     * @param products Lista de produse care vor fi incluse în comandă
+     * @param cart Coșul din care este trimisă comanda
+     * @param produsResolver Funcția care găsește produsele din catalog după identificator
      */
-    public Comanda(List<Produs> products,Cart cart) {
-        this.cart=cart;
-        this.products = products;
-        this.totalValue = calculateTotalValue(cart.getItems());
+    public Comanda(Cart cart, IntFunction<Produs> produsResolver) {
+        Map<Produs, Integer> items = cart.getItems();
+        this.produsResolver = produsResolver;
+        this.lineProductIds = new int[items.size()];
+        this.lineQuantities = new int[items.size()];
+        this.linePretBani = new long[items.size()];
+        this.lineNames = new String[items.size()];
+        long total = 0;
+        int i = 0;
+        for (Map.Entry<Produs, Integer> item : items.entrySet()) {
+            Produs produs = item.getKey();
+            lineProductIds[i] = produs.getId();
+            lineQuantities[i] = item.getValue();
+            linePretBani[i] = cart.getPretBani(produs);
+            lineNames[i] = produs.getNume();
+            total += linePretBani[i] * lineQuantities[i];
+            i++;
+        }
+        this.totalBani = total;
         this.orderDateTime = LocalDateTime.now();
         this.status = StatusComanda.IN_PROCESARE;
     }
+
     /**
-     * Construiește o nouă comandă cu parametri specificați.
+     * Construiește o comandă existentă, cu identificatorul și liniile ei.
+     * Vectorii de linii sunt preluați fără copiere și trebuie să aibă aceeași lungime.
      *
-     * @param products Lista de produse incluse în comandă
-     * @param totalValue Valoarea totală a comenzii
+     * @param id Identificatorul comenzii (0 dacă nu are încă unul)
+     * @param produsResolver Funcția care găsește produsele din catalog după identificator
+     * @param lineProductIds Identificatorul produsului de pe fiecare linie
+     * @param lineQuantities Cantitatea de pe fiecare linie
+     * @param linePretBani Prețul unitar de pe fiecare linie, în bani
+     * @param totalBani Valoarea totală a comenzii, în bani
      * @param orderDateTime Data și ora comenzii
-     * @param status Statusul inițial al comenzii
+     * @param status Statusul comenzii
      */
-    public Comanda(List<Produs> products, double totalValue, LocalDateTime orderDateTime, StatusComanda status) {
-        this.products = products;
-        this.totalValue = totalValue;
-        this.orderDateTime = orderDateTime;
-        this.status = StatusComanda.IN_PROCESARE;
+    public Comanda(long id, IntFunction<Produs> produsResolver, int[] lineProductIds, int[] lineQuantities, long[] linePretBani,
+                   long totalBani, LocalDateTime orderDateTime, StatusComanda status) {
+        this(id, produsResolver, lineProductIds, lineQuantities, linePretBani, null, totalBani, orderDateTime, status);
     }
 
     /**
-     * Calculează valoarea totală a comenzii bazată pe prețurile produselor.
+     * Construiește o comandă existentă, cu identificatorul, liniile și numele salvate ale produselor de pe linii.
+     * Vectorii de linii sunt preluați fără copiere și trebuie să aibă aceeași lungime.
      *
-     * @param products Lista de produse pentru care se calculează valoarea totală
-     * @return Suma totală a prețurilor produselor
+     * @param id Identificatorul comenzii (0 dacă nu are încă unul)
+     * @param produsResolver Funcția care găsește produsele din catalog după identificator
+     * @param lineProductIds Identificatorul produsului de pe fiecare linie
+     * @param lineQuantities Cantitatea de pe fiecare linie
+     * @param linePretBani Prețul unitar de pe fiecare linie, în bani, sau {@link #PRET_NECUNOSCUT}
+     * @param lineNames Numele salvat al produsului de pe fiecare linie sau null dacă nu este cunoscut
+     * @param totalBani Valoarea totală a comenzii, în bani
+     * @param orderDateTime Data și ora comenzii
+     * @param status Statusul comenzii
      */
-    private double calculateTotalValue(Map<Produs, Integer> products) {
-        double total = 0.0;
-        for (Map.Entry<Produs, Integer> entry : products.entrySet()) {
-            Produs product = entry.getKey();
-            Integer quantity = entry.getValue();
-
-            total += product.getPret() * quantity;
+    public Comanda(long id, IntFunction<Produs> produsResolver, int[] lineProductIds, int[] lineQuantities, long[] linePretBani,
+                   String[] lineNames, long totalBani, LocalDateTime orderDateTime, StatusComanda status) {
+        if (lineQuantities.length != lineProductIds.length || linePretBani.length != lineProductIds.length
+                || (lineNames != null && lineNames.length != lineProductIds.length)) {
+            throw new IllegalArgumentException("Vectorii de linii ai comenzii au lungimi diferite.");
         }
-        return total;
+        this.id = id;
+        this.produsResolver = produsResolver;
+        this.lineProductIds = lineProductIds;
+        this.lineQuantities = lineQuantities;
+        this.linePretBani = linePretBani;
+        this.lineNames = lineNames;
+        this.totalBani = totalBani;
+        this.orderDateTime = orderDateTime;
+        this.status = status;
     }
 
+    /**
+     * @return Identificatorul comenzii (0 dacă nu a fost încă atribuit)
+     */
+    public long getId() {
+        return id;
+    }
 
+    /**
+     * Setează identificatorul comenzii.
+     *
+     * @param id Identificatorul atribuit comenzii
+     */
+    void setId(long id) {
+        this.id = id;
+    }
 
     /**
+     * Caută în catalog produsele de pe liniile comenzii; produsele care nu mai există sunt omise.
+     *
      * @return Lista de produse din comandă
      */
     public List<Produs> getProducts() {
+        List<Produs> products = new ArrayList<>(lineProductIds.length);
+        for (int productId : lineProductIds) {
+            Produs produs = produsResolver.apply(productId);
+            if (produs != null) {
+                products.add(produs);
+            }
+        }
         return products;
     }
 
     /**
-     * @return Valoarea totală a comenzii
+     * @return Numărul de linii ale comenzii
+     */
+    public int getLineCount() {
+        return lineProductIds.length;
+    }
+
+    /**
+     * @param line Indexul liniei
+     * @return Identificatorul produsului de pe linie
+     */
+    public int getLineProductId(int line) {
+        return lineProductIds[line];
+    }
+
+    /**
+     * Returnează numele produsului de pe linie: numele curent din catalog, numele salvat
+     * dacă produsul nu mai există sau identificatorul, precedat de "#", dacă nici acesta nu este cunoscut.
+     *
+     * @param line Indexul liniei
+     * @return Numele produsului de pe linie
+     */
+    public String getLineName(int line) {
+        Produs produs = produsResolver.apply(lineProductIds[line]);
+        if (produs != null) {
+            return produs.getNume();
+        }
+        if (lineNames != null && lineNames[line] != null) {
+            return lineNames[line];
+        }
+        return "#" + lineProductIds[line];
+    }
+
+    /**
+     * @param line Indexul liniei
+     * @return Cantitatea comandată de pe linie
+     */
+    public int getLineQuantity(int line) {
+        return lineQuantities[line];
+    }
+
+    /**
+     * @param line Indexul liniei
+     * @return Prețul unitar din momentul comenzii, în bani, sau {@link #PRET_NECUNOSCUT}
+     */
+    public long getLinePretBani(int line) {
+        return linePretBani[line];
+    }
+
+    /**
+     * @param line Indexul liniei
+     * @return Valoarea liniei (preț unitar înmulțit cu cantitatea), în bani, sau {@link #PRET_NECUNOSCUT}
+     */
+    public long getLineTotalBani(int line) {
+        return linePretBani[line] == PRET_NECUNOSCUT ? PRET_NECUNOSCUT : linePretBani[line] * lineQuantities[line];
+    }
+
+    /**
+     * @return true dacă toate liniile au prețul din momentul comenzii, false pentru comenzile salvate fără prețuri
+     */
+    public boolean hasLinePrices() {
+        for (long pret : linePretBani) {
+            if (pret == PRET_NECUNOSCUT) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return Valoarea totală a comenzii, în lei
      */
     public double getTotalValue() {
-        return totalValue;
+        return Money.toLei(totalBani);
+    }
+
+    /**
+     * @return Valoarea totală exactă a comenzii, în bani
+     */
+    public long getTotalBani() {
+        return totalBani;
     }
 
     /**
@@ -118,17 +291,23 @@ public class Comanda {
 
     /**
      * Generează un string cu detaliile complete ale comenzii.
-     * Include data comenzii, valoarea totală și lista produselor cu prețurile lor.
+     * Include data comenzii, valoarea totală și liniile comenzii, cu prețurile din momentul comenzii.
      *
      * @return String formatat cu toate detaliile comenzii
      */
     public String getDetails() {
         StringBuilder details = new StringBuilder();
         details.append("Order Date: ").append(orderDateTime.toString()).append("\n");
-        details.append("Total Value: ").append(totalValue).append("\n");
+        details.append("Total Value: ");
+        Money.appendTo(details, totalBani).append("\n");
         details.append("Products: ");
-        for (Produs product : products) {
-            details.append(product.getNume()).append(" (Price: ").append(product.getPret()).append("), ");
+        for (int i = 0; i < lineProductIds.length; i++) {
+            details.append(getLineName(i)).append(" x").append(lineQuantities[i]).append(" (Price: ");
+            if (linePretBani[i] == PRET_NECUNOSCUT) {
+                details.append("necunoscut), ");
+            } else {
+                Money.appendTo(details, linePretBani[i]).append("), ");
+            }
         }
         return details.toString();
     }
@@ -0,0 +1,102 @@
+package com.products.Order;
+
+/**
+ * Histogramă compactă pentru latențe, cu găleți log-liniare (8 subdiviziuni pentru fiecare putere a lui 2).
+ * Eroarea relativă a percentilelor raportate este sub 12.5%, iar memoria ocupată este fixă,
+ * indiferent de numărul de valori înregistrate.
+ */
+public class LatencyHistogram {
+    /** Numărul de subdiviziuni pentru fiecare putere a lui 2 (2^SUB_BITS) */
+    private static final int SUB_BITS = 3;
+    /** Valorile sub acest prag (în microsecunde) au fiecare propria găleată */
+    private static final int LINEAR_LIMIT = 1 << (SUB_BITS + 1);
+    /** Numărul total de găleți, suficient pentru orice valoare long */
+    private static final int BUCKET_COUNT = LINEAR_LIMIT + (64 - SUB_BITS - 1) * (1 << SUB_BITS);
+
+    /** Numărul de valori din fiecare găleată */
+    private final long[] counts = new long[BUCKET_COUNT];
+    /** Numărul total de valori înregistrate */
+    private long totalCount;
+    /** Valoarea maximă înregistrată, în nanosecunde */
+    private long maxNanos;
+
+    /**
+     * Construiește o histogramă goală.
+     */
+    public LatencyHistogram() {
+    }
+
+    /**
+     * Înregistrează o latență.
+     *
+     * @param nanos Latența, în nanosecunde
+     */
+    public synchronized void record(long nanos) {
+        long micros = Math.max(0, nanos / 1_000);
+        counts[bucketIndex(micros)]++;
+        totalCount++;
+        maxNanos = Math.max(maxNanos, nanos);
+    }
+
+    /**
+     * Returnează latența sub care se află procentul dat din valorile înregistrate.
+     *
+     * @param percentile Percentila dorită, între 0 și 100
+     * @return long Latența aproximativă, în nanosecunde (0 dacă nu există valori)
+     */
+    public synchronized long percentileNanos(double percentile) {
+        if (totalCount == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(totalCount * percentile / 100.0);
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= Math.max(1, rank)) {
+                return Math.min(maxNanos, bucketUpperMicros(i) * 1_000);
+            }
+        }
+        return maxNanos;
+    }
+
+    /** @return Numărul total de valori înregistrate */
+    public synchronized long getCount() {
+        return totalCount;
+    }
+
+    /** @return Latența maximă înregistrată, în nanosecunde */
+    public synchronized long getMaxNanos() {
+        return maxNanos;
+    }
+
+    /**
+     * Formatează percentilele uzuale într-un rând de text.
+     *
+     * @return String Rezumatul latențelor, în milisecunde
+     */
+    public String summary() {
+        return String.format("p50=%.3f ms, p99=%.3f ms, p99.9=%.3f ms, max=%.3f ms",
+                percentileNanos(50) / 1e6, percentileNanos(99) / 1e6,
+                percentileNanos(99.9) / 1e6, getMaxNanos() / 1e6);
+    }
+
+    private static int bucketIndex(long micros) {
+        if (micros < LINEAR_LIMIT) {
+            return (int) micros;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(micros);
+        int sub = (int) (micros >>> (exponent - SUB_BITS)) & ((1 << SUB_BITS) - 1);
+        return LINEAR_LIMIT + (exponent - SUB_BITS - 1) * (1 << SUB_BITS) + sub;
+    }
+
+    private static long bucketUpperMicros(int index) {
+        if (index < LINEAR_LIMIT) {
+            return index;
+        }
+        int offset = index - LINEAR_LIMIT;
+        int exponent = offset / (1 << SUB_BITS) + SUB_BITS + 1;
+        int sub = offset % (1 << SUB_BITS);
+        long lower = (1L << exponent) + ((long) sub << (exponent - SUB_BITS));
+        return lower + (1L << (exponent - SUB_BITS)) - 1;
+    }
+}
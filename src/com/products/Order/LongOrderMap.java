@@ -0,0 +1,150 @@
+package com.products.Order;
+
+import java.util.Arrays;
+
+/**
+ * Tabelă de dispersie cu chei primitive long pentru comenzi, cu adresare deschisă și sondare liniară.
+ * Evită obiectele Long și intrările alocate pentru fiecare comandă. Cheia 0 este rezervată
+ * pentru pozițiile libere, deoarece identificatorii generați sunt întotdeauna pozitivi.
+ */
+class LongOrderMap {
+    /** Gradul maxim de încărcare înainte de redimensionare */
+    private static final double MAX_LOAD = 0.6;
+
+    /** Cheile tabelei; 0 marchează o poziție liberă */
+    private long[] keys;
+    /** Comenzile asociate cheilor */
+    private Comanda[] values;
+    /** Numărul de intrări ocupate */
+    private int size;
+    /** Pragul de ocupare la care tabela este redimensionată */
+    private int resizeThreshold;
+
+    /**
+     * Construiește o tabelă goală cu o capacitate inițială.
+     *
+     * @param expectedSize Numărul estimat de comenzi
+     */
+    LongOrderMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(16, (int) (expectedSize / MAX_LOAD)) - 1) << 1;
+        allocate(capacity);
+    }
+
+    /**
+     * Returnează comanda cu identificatorul dat.
+     *
+     * @param id Identificatorul comenzii
+     * @return Comanda găsită sau null
+     */
+    Comanda get(long id) {
+        int mask = keys.length - 1;
+        for (int i = slot(id, mask); keys[i] != 0; i = (i + 1) & mask) {
+            if (keys[i] == id) {
+                return values[i];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Asociază o comandă identificatorului dat, înlocuind asocierea anterioară.
+     *
+     * @param id Identificatorul comenzii (diferit de 0)
+     * @param comanda Comanda asociată
+     * @return Comanda înlocuită sau null
+     */
+    Comanda put(long id, Comanda comanda) {
+        if (id == 0) {
+            throw new IllegalArgumentException("Identificatorul comenzii nu poate fi 0.");
+        }
+        int mask = keys.length - 1;
+        int i = slot(id, mask);
+        while (keys[i] != 0) {
+            if (keys[i] == id) {
+                Comanda previous = values[i];
+                values[i] = comanda;
+                return previous;
+            }
+            i = (i + 1) & mask;
+        }
+        keys[i] = id;
+        values[i] = comanda;
+        if (++size > resizeThreshold) {
+            rehash(keys.length << 1);
+        }
+        return null;
+    }
+
+    /**
+     * Elimină comanda cu identificatorul dat, mutând înapoi intrările din același lanț de sondare.
+     *
+     * @param id Identificatorul comenzii
+     * @return Comanda eliminată sau null
+     */
+    Comanda remove(long id) {
+        int mask = keys.length - 1;
+        int i = slot(id, mask);
+        while (keys[i] != id) {
+            if (keys[i] == 0) {
+                return null;
+            }
+            i = (i + 1) & mask;
+        }
+        Comanda removed = values[i];
+        int gap = i;
+        for (int j = (gap + 1) & mask; keys[j] != 0; j = (j + 1) & mask) {
+            int home = slot(keys[j], mask);
+            if (((j - home) & mask) >= ((j - gap) & mask)) {
+                keys[gap] = keys[j];
+                values[gap] = values[j];
+                gap = j;
+            }
+        }
+        keys[gap] = 0;
+        values[gap] = null;
+        size--;
+        return removed;
+    }
+
+    /** @return Numărul de comenzi din tabelă */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Golește tabela, păstrând capacitatea.
+     */
+    void clear() {
+        Arrays.fill(keys, 0);
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+    private void rehash(int newCapacity) {
+        long[] oldKeys = keys;
+        Comanda[] oldValues = values;
+        allocate(newCapacity);
+        int mask = newCapacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != 0) {
+                int j = slot(oldKeys[i], mask);
+                while (keys[j] != 0) {
+                    j = (j + 1) & mask;
+                }
+                keys[j] = oldKeys[i];
+                values[j] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new Comanda[capacity];
+        resizeThreshold = (int) (capacity * MAX_LOAD);
+    }
+
+    private static int slot(long id, int mask) {
+        long h = id * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+}
@@ -0,0 +1,240 @@
+package com.products.Order;
+
+import com.products.OffHeapBuffer;
+import com.products.Product.Produs;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.function.IntFunction;
+
+/**
+ * Jurnal de comenzi păstrat în afara heap-ului, folosit de OrderStore în modul off-heap.
+ * Fiecare comandă ocupă o înregistrare de lungime fixă, iar liniile ei sunt păstrate consecutiv
+ * într-o a doua zonă; un tabel de dispersie, tot off-heap, găsește înregistrarea după identificator.
+ * Obiectele Comanda sunt construite doar la citire, ca vederi de scurtă durată asupra înregistrărilor,
+ * astfel încât istoricul comenzilor nu mărește heap-ul parcurs de colectorul de gunoi.
+ * Clasa nu este sigură pentru fire de execuție; OrderStore sincronizează accesul.
+ */
+public class OffHeapOrderLog implements AutoCloseable {
+    /** Deplasamentele câmpurilor unei înregistrări de comandă */
+    private static final long ID = 0;
+    private static final long EPOCH_SECOND = 8;
+    private static final long NANO = 16;
+    private static final long STATUS = 20;
+    private static final long TOTAL_BANI = 24;
+    private static final long FIRST_LINE = 32;
+    private static final long LINE_COUNT = 40;
+    /** Dimensiunea unei înregistrări de comandă, în octeți */
+    private static final long ORDER_BYTES = 48;
+
+    /** Deplasamentele câmpurilor unei linii de comandă */
+    private static final long LINE_PRODUCT_ID = 0;
+    private static final long LINE_QUANTITY = 4;
+    private static final long LINE_PRET_BANI = 8;
+    /** Dimensiunea unei linii de comandă, în octeți */
+    private static final long LINE_BYTES = 16;
+
+    /** Dimensiunea unei intrări din tabelul de dispersie: cheia (long) și poziția înregistrării (int) */
+    private static final long SLOT_BYTES = 16;
+
+    /** Capacitatea inițială, în comenzi */
+    private static final int INITIAL_CAPACITY = 1024;
+
+    /** Valorile enumerării StatusComanda, după ordinal */
+    private static final StatusComanda[] STATUSES = StatusComanda.values();
+
+    /** Înregistrările comenzilor, în ordinea adăugării */
+    private final OffHeapBuffer orders;
+    /** Liniile comenzilor, consecutive pentru fiecare comandă */
+    private final OffHeapBuffer lines;
+    /** Tabelul de dispersie de la identificator la poziția înregistrării */
+    private OffHeapBuffer index;
+    /** Numărul de intrări ale tabelului de dispersie (putere a lui 2) */
+    private int slots;
+
+    /** Funcția care rezolvă produsele din catalog după identificator, la construirea comenzilor */
+    private final IntFunction<Produs> produsResolver;
+
+    /** Numărul de comenzi din jurnal */
+    private int size;
+    /** Numărul total de linii din jurnal */
+    private long lineCount;
+
+    /**
+     * Construiește un jurnal gol. Dacă a fost configurat un director pentru modul off-heap,
+     * înregistrările și liniile sunt mapate din fișierele "orders.records" și "orders.lines".
+     *
+     * @param produsResolver Funcția care găsește produsul din catalog după identificator
+     */
+    public OffHeapOrderLog(IntFunction<Produs> produsResolver) {
+        this.produsResolver = produsResolver;
+        this.orders = new OffHeapBuffer(INITIAL_CAPACITY * ORDER_BYTES, OffHeapBuffer.mappedFile("orders.records"));
+        this.lines = new OffHeapBuffer(INITIAL_CAPACITY * 4 * LINE_BYTES, OffHeapBuffer.mappedFile("orders.lines"));
+        this.slots = INITIAL_CAPACITY * 2;
+        this.index = new OffHeapBuffer(slots * SLOT_BYTES, null);
+    }
+
+    /**
+     * Adaugă o comandă la sfârșitul jurnalului. Comanda trebuie să aibă deja un identificator.
+     *
+     * @param comanda Comanda adăugată
+     */
+    public void append(Comanda comanda) {
+        orders.ensureCapacity((size + 1) * ORDER_BYTES);
+        lines.ensureCapacity((lineCount + comanda.getLineCount()) * LINE_BYTES);
+
+        MemorySegment lineSegment = lines.segment();
+        for (int i = 0; i < comanda.getLineCount(); i++) {
+            long base = (lineCount + i) * LINE_BYTES;
+            lineSegment.set(ValueLayout.JAVA_INT, base + LINE_PRODUCT_ID, comanda.getLineProductId(i));
+            lineSegment.set(ValueLayout.JAVA_INT, base + LINE_QUANTITY, comanda.getLineQuantity(i));
+            lineSegment.set(ValueLayout.JAVA_LONG, base + LINE_PRET_BANI, comanda.getLinePretBani(i));
+        }
+
+        MemorySegment segment = orders.segment();
+        long base = size * ORDER_BYTES;
+        LocalDateTime orderDateTime = comanda.getOrderDateTime();
+        segment.set(ValueLayout.JAVA_LONG, base + ID, comanda.getId());
+        segment.set(ValueLayout.JAVA_LONG, base + EPOCH_SECOND, orderDateTime.toEpochSecond(ZoneOffset.UTC));
+        segment.set(ValueLayout.JAVA_INT, base + NANO, orderDateTime.getNano());
+        segment.set(ValueLayout.JAVA_INT, base + STATUS, comanda.getStatus().ordinal());
+        segment.set(ValueLayout.JAVA_LONG, base + TOTAL_BANI, comanda.getTotalBani());
+        segment.set(ValueLayout.JAVA_LONG, base + FIRST_LINE, lineCount);
+        segment.set(ValueLayout.JAVA_INT, base + LINE_COUNT, comanda.getLineCount());
+
+        if ((size + 1) * 2L > slots) {
+            rehash(slots * 2);
+        }
+        putIndex(comanda.getId(), size);
+        lineCount += comanda.getLineCount();
+        size++;
+    }
+
+    /** @return Numărul de comenzi din jurnal */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Construiește comanda de pe poziția dată.
+     *
+     * @param position Poziția comenzii, în ordinea adăugării
+     * @return Comanda O vedere nouă asupra înregistrării
+     */
+    public Comanda get(int position) {
+        MemorySegment segment = orders.segment();
+        long base = position * ORDER_BYTES;
+        long firstLine = segment.get(ValueLayout.JAVA_LONG, base + FIRST_LINE);
+        int count = segment.get(ValueLayout.JAVA_INT, base + LINE_COUNT);
+
+        MemorySegment lineSegment = lines.segment();
+        int[] productIds = new int[count];
+        int[] quantities = new int[count];
+        long[] prices = new long[count];
+        for (int i = 0; i < count; i++) {
+            long lineBase = (firstLine + i) * LINE_BYTES;
+            productIds[i] = lineSegment.get(ValueLayout.JAVA_INT, lineBase + LINE_PRODUCT_ID);
+            quantities[i] = lineSegment.get(ValueLayout.JAVA_INT, lineBase + LINE_QUANTITY);
+            prices[i] = lineSegment.get(ValueLayout.JAVA_LONG, lineBase + LINE_PRET_BANI);
+        }
+
+        LocalDateTime orderDateTime = LocalDateTime.ofEpochSecond(segment.get(ValueLayout.JAVA_LONG, base + EPOCH_SECOND),
+                segment.get(ValueLayout.JAVA_INT, base + NANO), ZoneOffset.UTC);
+        return new Comanda(segment.get(ValueLayout.JAVA_LONG, base + ID), produsResolver, productIds, quantities, prices,
+                segment.get(ValueLayout.JAVA_LONG, base + TOTAL_BANI), orderDateTime,
+                STATUSES[segment.get(ValueLayout.JAVA_INT, base + STATUS)]);
+    }
+
+    /**
+     * Returnează poziția comenzii cu identificatorul dat.
+     *
+     * @param id Identificatorul comenzii
+     * @return int Poziția comenzii sau -1 dacă nu există
+     */
+    public int find(long id) {
+        if (id == 0) {
+            return -1;
+        }
+        MemorySegment segment = index.segment();
+        int mask = slots - 1;
+        for (int slot = mix(id) & mask; ; slot = (slot + 1) & mask) {
+            long key = segment.get(ValueLayout.JAVA_LONG, slot * SLOT_BYTES);
+            if (key == 0) {
+                return -1;
+            }
+            if (key == id) {
+                return segment.get(ValueLayout.JAVA_INT, slot * SLOT_BYTES + 8);
+            }
+        }
+    }
+
+    /**
+     * Actualizează statusul comenzii de pe poziția dată.
+     *
+     * @param position Poziția comenzii
+     * @param status Noul status
+     */
+    public void setStatus(int position, StatusComanda status) {
+        orders.segment().set(ValueLayout.JAVA_INT, position * ORDER_BYTES + STATUS, status.ordinal());
+    }
+
+    /**
+     * Calculează valoarea exactă a tuturor comenzilor, fără a construi obiecte Comanda.
+     *
+     * @return long Suma valorilor comenzilor, în bani
+     */
+    public long totalBani() {
+        MemorySegment segment = orders.segment();
+        long total = 0;
+        for (long base = 0, end = size * ORDER_BYTES; base < end; base += ORDER_BYTES) {
+            total += segment.get(ValueLayout.JAVA_LONG, base + TOTAL_BANI);
+        }
+        return total;
+    }
+
+    private void putIndex(long id, int position) {
+        MemorySegment segment = index.segment();
+        int mask = slots - 1;
+        int slot = mix(id) & mask;
+        while (true) {
+            long key = segment.get(ValueLayout.JAVA_LONG, slot * SLOT_BYTES);
+            if (key == 0 || key == id) {
+                segment.set(ValueLayout.JAVA_LONG, slot * SLOT_BYTES, id);
+                segment.set(ValueLayout.JAVA_INT, slot * SLOT_BYTES + 8, position);
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    private void rehash(int newSlots) {
+        OffHeapBuffer previous = index;
+        MemorySegment old = previous.segment();
+        int oldSlots = slots;
+        index = new OffHeapBuffer(newSlots * SLOT_BYTES, null);
+        slots = newSlots;
+        for (int slot = 0; slot < oldSlots; slot++) {
+            long key = old.get(ValueLayout.JAVA_LONG, slot * SLOT_BYTES);
+            if (key != 0) {
+                putIndex(key, old.get(ValueLayout.JAVA_INT, slot * SLOT_BYTES + 8));
+            }
+        }
+        previous.close();
+    }
+
+    private static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    /**
+     * Eliberează memoria jurnalului.
+     */
+    @Override
+    public void close() {
+        orders.close();
+        lines.close();
+        index.close();
+    }
+}
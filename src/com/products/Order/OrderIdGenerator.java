@@ -0,0 +1,66 @@
+package com.products.Order;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generator fără blocare de identificatori pe 64 de biți pentru comenzi, ordonați în timp.
+ * Un identificator conține numărul de milisecunde trecute de la 2024-01-01 UTC, urmat de
+ * o secvență de 12 biți. Identificatorii sunt strict crescători chiar dacă ceasul sistemului
+ * dă înapoi sau dacă se cer mai mult de 4096 de identificatori într-o milisecundă.
+ */
+public class OrderIdGenerator {
+    /** Momentul de referință al identificatorilor: 2024-01-01T00:00:00Z */
+    private static final long EPOCH_MILLIS = 1_704_067_200_000L;
+
+    /** Numărul de biți rezervați secvenței din cadrul unei milisecunde */
+    private static final int SEQUENCE_BITS = 12;
+
+    /** Ultimul identificator generat sau observat */
+    private final AtomicLong lastId = new AtomicLong();
+
+    /**
+     * Construiește un generator care nu a observat încă niciun identificator.
+     */
+    public OrderIdGenerator() {
+    }
+
+    /**
+     * Generează un identificator nou, mai mare decât toți cei generați sau observați anterior.
+     *
+     * @return long Identificatorul nou
+     */
+    public long nextId() {
+        while (true) {
+            long previous = lastId.get();
+            long candidate = Math.max(System.currentTimeMillis() - EPOCH_MILLIS, 0) << SEQUENCE_BITS;
+            long next = Math.max(candidate, previous + 1);
+            if (lastId.compareAndSet(previous, next)) {
+                return next;
+            }
+        }
+    }
+
+    /**
+     * Înregistrează un identificator existent (de exemplu, citit din fișier),
+     * astfel încât identificatorii generați ulterior să fie mai mari decât acesta.
+     *
+     * @param id Identificatorul existent
+     */
+    public void observe(long id) {
+        lastId.accumulateAndGet(id, Math::max);
+    }
+
+    /**
+     * Extrage momentul în care a fost generat un identificator.
+     *
+     * @param id Identificatorul comenzii
+     * @return LocalDateTime Momentul generării, în fusul orar al sistemului
+     */
+    public static LocalDateTime timestampOf(long id) {
+        long millis = (id >>> SEQUENCE_BITS) + EPOCH_MILLIS;
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneId.systemDefault());
+    }
+}
@@ -0,0 +1,104 @@
+package com.products.Order;
+
+import com.products.Cart.Cart;
+import com.products.File.FileManager;
+import com.products.Product.Catalog;
+import com.products.Product.Produs;
+import com.products.Product.ProdusValidationException;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.IntFunction;
+
+/**
+ * Program care măsoară, fără interfață grafică, debitul și latența pipeline-ului de comenzi
+ * la o rată constantă de trimitere. Comenzile sunt salvate într-un fișier temporar.
+ *
+ * Utilizare: {@code java com.products.Order.OrderIngestionBenchmark [comenzi/s] [secunde] [producatori]}
+ */
+public class OrderIngestionBenchmark {
+    private OrderIngestionBenchmark() {
+    }
+
+
+    /**
+     * Punctul de intrare al măsurătorii.
+     *
+     * @param args Rata țintă (comenzi pe secundă), durata în secunde și numărul de fire producătoare (opționale)
+     * @throws IOException dacă fișierul temporar nu poate fi creat
+     * @throws InterruptedException dacă măsurătoarea este întreruptă
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int ratePerSecond = args.length > 0 ? Integer.parseInt(args[0]) : 20_000;
+        int seconds = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+        int producers = args.length > 2 ? Integer.parseInt(args[2]) : 4;
+
+        List<Produs> produse = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            produse.add(new Produs(1 + i % 20, "Produs de test " + i, Integer.MAX_VALUE, "Produs" + i,
+                    "2024-01-01", "2030-01-01", 0, 0, 0));
+        }
+
+        // Catalogul atribuie identificatorii prin care comenzile își găsesc produsele
+        Catalog catalog = new Catalog(produse);
+        IntFunction<Produs> produsResolver = catalog::getById;
+
+        File ordersFile = File.createTempFile("orders-benchmark", ".txt");
+        ordersFile.deleteOnExit();
+        String ordersPath = ordersFile.getPath();
+
+        OrderIngestionPipeline pipeline = new OrderIngestionPipeline(new OrderStore(),
+                batch -> FileManager.appendOrders(batch, ordersPath));
+
+        long intervalNanos = 1_000_000_000L * producers / ratePerSecond;
+        long ordersPerProducer = (long) ratePerSecond * seconds / producers;
+        List<Thread> threads = new ArrayList<>();
+        long start = System.nanoTime();
+        for (int p = 0; p < producers; p++) {
+            Thread producer = new Thread(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                long next = System.nanoTime();
+                for (long i = 0; i < ordersPerProducer; i++) {
+                    Cart cart = new Cart();
+                    int lines = 1 + random.nextInt(4);
+                    try {
+                        for (int l = 0; l < lines; l++) {
+                            cart.addProduct(produse.get(random.nextInt(produse.size())), 1 + random.nextInt(3));
+                        }
+                    } catch (ProdusValidationException e) {
+                        continue;
+                    }
+                    pipeline.submit(new Comanda(cart, produsResolver));
+
+                    next += intervalNanos;
+                    long wait = next - System.nanoTime();
+                    if (wait > 0) {
+                        LockSupport.parkNanos(wait);
+                    }
+                }
+            }, "order-producer-" + p);
+            threads.add(producer);
+            producer.start();
+        }
+        for (Thread producer : threads) {
+            producer.join();
+        }
+        pipeline.shutdown();
+        long elapsedNanos = System.nanoTime() - start;
+
+        long processed = pipeline.getProcessedOrders();
+        long batches = pipeline.getProcessedBatches();
+        System.out.println("Măsurătoare pipeline comenzi");
+        System.out.println("========================");
+        System.out.printf("Rată țintă: %d comenzi/s, durată: %d s, producători: %d%n", ratePerSecond, seconds, producers);
+        System.out.printf("Comenzi procesate: %d, respinse: %d, debit: %.0f comenzi/s%n",
+                processed, pipeline.getRejectedOrders(), processed / (elapsedNanos / 1e9));
+        System.out.printf("Loturi: %d, dimensiune medie lot: %.1f, loturi eșuate: %d%n",
+                batches, batches == 0 ? 0.0 : (double) processed / batches, pipeline.getFailedBatches());
+        System.out.println("Latență primire-salvare: " + pipeline.getLatency().summary());
+        System.out.printf("Fișier comenzi: %d octeți%n", ordersFile.length());
+    }
+}
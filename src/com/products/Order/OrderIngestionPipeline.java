@@ -0,0 +1,336 @@
+package com.products.Order;
+
+import com.products.File.FileOperationException;
+import com.products.Money;
+import com.products.Product.Produs;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Clasa OrderIngestionPipeline preia comenzile noi într-o coadă limitată și le procesează în loturi.
+ * Oricâte fire pot trimite comenzi, iar un singur fir consumator golește coada, atribuie identificatori,
+ * actualizează contoarele produselor și statisticile, apoi salvează întregul lot printr-o singură scriere.
+ * Comenzile a căror salvare eșuează rămân în așteptare și sunt salvate din nou, împreună cu loturile
+ * următoare sau periodic; eșecurile sunt anunțate ascultătorilor, iar firul consumator nu se oprește
+ * la nicio eroare de procesare.
+ */
+public class OrderIngestionPipeline {
+    /** Capacitatea implicită a cozii de comenzi */
+    public static final int DEFAULT_CAPACITY = 8192;
+
+    /** Dimensiunea maximă implicită a unui lot */
+    public static final int DEFAULT_MAX_BATCH = 512;
+
+    /**
+     * Destinația în care este salvat fiecare lot de comenzi.
+     */
+    @FunctionalInterface
+    public interface OrderBatchSink {
+        /**
+         * Salvează un lot de comenzi.
+         *
+         * @param batch Comenzile din lot, în ordinea primirii
+         * @throws FileOperationException dacă salvarea eșuează
+         */
+        void append(List<Comanda> batch) throws FileOperationException;
+    }
+
+    /**
+     * Ascultător pentru problemele de salvare ale pipeline-ului, anunțat pe firul consumator.
+     */
+    public interface SaveListener {
+        /**
+         * Apelată când salvarea comenzilor eșuează; comenzile rămân în așteptare și sunt salvate din nou.
+         *
+         * @param unsavedOrders Numărul de comenzi încă nesalvate
+         * @param cause Cauza eșecului
+         */
+        default void onSaveFailed(int unsavedOrders, Exception cause) {
+        }
+
+        /**
+         * Apelată când comenzile rămase nesalvate după un eșec au fost salvate.
+         *
+         * @param savedOrders Numărul de comenzi salvate
+         */
+        default void onSaveRecovered(int savedOrders) {
+        }
+    }
+
+    /** Intervalul minim dintre două reîncercări ale salvării, când nu sosesc comenzi noi */
+    private static final long RETRY_DELAY_NANOS = TimeUnit.SECONDS.toNanos(2);
+
+    /** O comandă din coadă, împreună cu momentul în care a fost primită */
+    private static final class PendingOrder {
+        private final Comanda comanda;
+        private final long enqueuedNanos;
+
+        private PendingOrder(Comanda comanda, long enqueuedNanos) {
+            this.comanda = comanda;
+            this.enqueuedNanos = enqueuedNanos;
+        }
+    }
+
+    /** Coada limitată în care producătorii depun comenzile */
+    private final BlockingQueue<PendingOrder> queue;
+
+    /** Depozitul de comenzi al aplicației, actualizat de firul consumator */
+    private final OrderStore orderStore;
+
+    /** Destinația loturilor de comenzi */
+    private final OrderBatchSink sink;
+
+    /** Dimensiunea maximă a unui lot */
+    private final int maxBatch;
+
+    /** Firul consumator */
+    private final Thread consumer;
+
+    /** Indicator pentru oprirea firului consumator */
+    private volatile boolean running = true;
+
+    /**
+     * Separă acceptarea comenzilor de oprire: producătorii depun comenzi sub blocarea de citire,
+     * iar oprirea ia blocarea de scriere, deci nicio comandă nu este acceptată după ce consumatorul
+     * poate observa oprirea.
+     */
+    private final ReadWriteLock acceptLock = new ReentrantReadWriteLock();
+
+    /** Numărul de comenzi procesate */
+    private final AtomicLong processedOrders = new AtomicLong();
+    /** Numărul de loturi procesate */
+    private final AtomicLong processedBatches = new AtomicLong();
+    /** Numărul de comenzi respinse deoarece coada era plină */
+    private final AtomicLong rejectedOrders = new AtomicLong();
+    /** Numărul de loturi a căror procesare sau salvare a eșuat */
+    private final AtomicLong failedBatches = new AtomicLong();
+    /** Suma exactă a valorilor comenzilor procesate, în bani; scrisă doar de firul consumator */
+    private volatile long totalBani;
+
+    /** Comenzile procesate a căror salvare a eșuat, în ordinea primirii; folosite doar de firul consumator */
+    private final List<Comanda> unsaved = new ArrayList<>();
+
+    /** Momentul după care salvarea comenzilor rămase poate fi reîncercată */
+    private long nextRetryNanos;
+
+    /** Indicator care arată dacă ultima încercare de salvare a eșuat */
+    private boolean saveFailing;
+
+    /** Ascultătorii problemelor de salvare */
+    private final List<SaveListener> listeners = new CopyOnWriteArrayList<>();
+
+    /** Latența de la primirea comenzii până la salvarea lotului din care face parte */
+    private final LatencyHistogram latency = new LatencyHistogram();
+
+    /**
+     * Construiește și pornește pipeline-ul cu capacitatea și dimensiunea de lot implicite.
+     *
+     * @param orderStore Depozitul în care sunt adăugate comenzile procesate
+     * @param sink Destinația în care este salvat fiecare lot
+     */
+    public OrderIngestionPipeline(OrderStore orderStore, OrderBatchSink sink) {
+        this(orderStore, sink, DEFAULT_CAPACITY, DEFAULT_MAX_BATCH);
+    }
+
+    /**
+     * Construiește și pornește pipeline-ul.
+     *
+     * @param orderStore Depozitul în care sunt adăugate comenzile procesate
+     * @param sink Destinația în care este salvat fiecare lot
+     * @param capacity Capacitatea cozii de comenzi
+     * @param maxBatch Dimensiunea maximă a unui lot
+     */
+    public OrderIngestionPipeline(OrderStore orderStore, OrderBatchSink sink, int capacity, int maxBatch) {
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.orderStore = orderStore;
+        this.sink = sink;
+        this.maxBatch = maxBatch;
+        this.consumer = new Thread(this::consumeLoop, "order-ingestion");
+        this.consumer.setDaemon(true);
+        this.consumer.start();
+    }
+
+    /**
+     * Înregistrează un ascultător pentru problemele de salvare.
+     *
+     * @param listener Ascultătorul înregistrat
+     */
+    public void addListener(SaveListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Depune o comandă în coadă și revine imediat.
+     *
+     * @param comanda Comanda nouă
+     * @return true dacă comanda a fost acceptată, false dacă coada este plină sau pipeline-ul este oprit
+     */
+    public boolean submit(Comanda comanda) {
+        boolean accepted;
+        acceptLock.readLock().lock();
+        try {
+            accepted = running && queue.offer(new PendingOrder(comanda, System.nanoTime()));
+        } finally {
+            acceptLock.readLock().unlock();
+        }
+        if (!accepted) {
+            rejectedOrders.incrementAndGet();
+        }
+        return accepted;
+    }
+
+    /**
+     * Oprește pipeline-ul după ce toate comenzile deja acceptate au fost procesate.
+     * Comenzile care nici atunci nu pot fi salvate sunt raportate ascultătorilor.
+     *
+     * @throws InterruptedException dacă așteptarea firului consumator este întreruptă
+     */
+    public void shutdown() throws InterruptedException {
+        acceptLock.writeLock().lock();
+        try {
+            running = false;
+        } finally {
+            acceptLock.writeLock().unlock();
+        }
+        consumer.interrupt();
+        consumer.join();
+    }
+
+    private void consumeLoop() {
+        List<PendingOrder> batch = new ArrayList<>(maxBatch);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingOrder first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    if (!unsaved.isEmpty() && System.nanoTime() - nextRetryNanos >= 0) {
+                        saveUnsaved();
+                    }
+                    continue;
+                }
+                batch.add(first);
+            } catch (InterruptedException e) {
+                // Oprirea este semnalată prin întrerupere; comenzile rămase sunt golite mai jos
+            }
+            queue.drainTo(batch, maxBatch - batch.size());
+            if (!batch.isEmpty()) {
+                try {
+                    processBatch(batch);
+                } catch (RuntimeException e) {
+                    // O eroare neprevăzută nu trebuie să oprească singurul consumator al cozii
+                    failedBatches.incrementAndGet();
+                    System.err.println("Eroare la procesarea lotului de comenzi: " + e);
+                }
+                batch.clear();
+            }
+        }
+        if (!unsaved.isEmpty()) {
+            saveUnsaved();
+        }
+    }
+
+    private void processBatch(List<PendingOrder> batch) {
+        List<Comanda> orders = new ArrayList<>(batch.size());
+        long batchBani = 0;
+        for (PendingOrder pending : batch) {
+            Comanda comanda = pending.comanda;
+            comanda.setId(orderStore.nextId());
+            batchBani += comanda.getTotalBani();
+            orders.add(comanda);
+        }
+        // Comenzile sunt reținute pentru salvare înaintea efectelor secundare, care pot eșua
+        unsaved.addAll(orders);
+
+        try {
+            for (Comanda comanda : orders) {
+                for (Produs produs : comanda.getProducts()) {
+                    produs.incrementNumarCumparari();
+                }
+            }
+            orderStore.addAll(orders);
+        } finally {
+            saveUnsaved();
+        }
+
+        long now = System.nanoTime();
+        for (PendingOrder pending : batch) {
+            latency.record(now - pending.enqueuedNanos);
+        }
+        totalBani += batchBani;
+        processedOrders.addAndGet(orders.size());
+        processedBatches.incrementAndGet();
+    }
+
+    /**
+     * Salvează comenzile rămase nesalvate, inclusiv lotul curent, printr-o singură scriere.
+     * La eșec, comenzile rămân în așteptare până la următoarea încercare.
+     */
+    private void saveUnsaved() {
+        try {
+            sink.append(unsaved);
+        } catch (FileOperationException | RuntimeException e) {
+            failedBatches.incrementAndGet();
+            nextRetryNanos = System.nanoTime() + RETRY_DELAY_NANOS;
+            saveFailing = true;
+            System.err.println("Eroare la salvarea comenzilor: " + e.getMessage());
+            for (SaveListener listener : listeners) {
+                listener.onSaveFailed(unsaved.size(), e);
+            }
+            return;
+        }
+        int saved = unsaved.size();
+        unsaved.clear();
+        if (saveFailing) {
+            saveFailing = false;
+            for (SaveListener listener : listeners) {
+                listener.onSaveRecovered(saved);
+            }
+        }
+    }
+
+    /** @return Numărul de comenzi procesate */
+    public long getProcessedOrders() {
+        return processedOrders.get();
+    }
+
+    /** @return Numărul de loturi procesate */
+    public long getProcessedBatches() {
+        return processedBatches.get();
+    }
+
+    /** @return Numărul de comenzi respinse deoarece coada era plină */
+    public long getRejectedOrders() {
+        return rejectedOrders.get();
+    }
+
+    /** @return Numărul de loturi a căror procesare sau salvare a eșuat */
+    public long getFailedBatches() {
+        return failedBatches.get();
+    }
+
+    /** @return Valoarea totală a comenzilor procesate, în lei */
+    public double getTotalValue() {
+        return Money.toLei(totalBani);
+    }
+
+    /** @return Valoarea totală exactă a comenzilor procesate, în bani */
+    public long getTotalBani() {
+        return totalBani;
+    }
+
+    /** @return Numărul de comenzi aflate în așteptare în coadă */
+    public int getQueuedOrders() {
+        return queue.size();
+    }
+
+    /** @return Histograma latențelor de la primire până la salvare */
+    public LatencyHistogram getLatency() {
+        return latency;
+    }
+}
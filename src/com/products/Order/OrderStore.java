@@ -0,0 +1,220 @@
+package com.products.Order;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Clasa OrderStore păstrează comenzile aplicației, indexate după identificator.
+ * Comenzile sunt reținute în ordinea primirii, iar o tabelă cu chei primitive long
+ * permite căutarea și actualizarea statusului unei comenzi în timp constant.
+ * În modul off-heap, comenzile sunt păstrate într-un OffHeapOrderLog, iar obiectele Comanda
+ * sunt construite doar la citire.
+ * Depozitul este unic în aplicație și partajat de toate vederile; acestea pot urmări
+ * comenzile noi și schimbările de status prin {@link OrderStoreListener}.
+ */
+public class OrderStore {
+    /** Generatorul de identificatori pentru comenzile noi */
+    private final OrderIdGenerator idGenerator = new OrderIdGenerator();
+
+    /** Comenzile, în ordinea primirii (null în modul off-heap) */
+    private final List<Comanda> orders;
+
+    /** Indexul comenzilor după identificator (null în modul off-heap) */
+    private final LongOrderMap byId;
+
+    /** Jurnalul off-heap al comenzilor (null în modul implicit) */
+    private final OffHeapOrderLog log;
+
+    /** Ascultătorii modificărilor depozitului */
+    private final List<OrderStoreListener> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Construiește un depozit de comenzi gol.
+     */
+    public OrderStore() {
+        this(new ArrayList<>());
+    }
+
+    /**
+     * Construiește un depozit pornind de la comenzile existente.
+     * Comenzile fără identificator (salvate în formatul vechi) primesc unul nou.
+     *
+     * @param comenzi Comenzile existente, de exemplu cele citite din fișier
+     */
+    public OrderStore(List<Comanda> comenzi) {
+        this(comenzi, null);
+    }
+
+    /**
+     * Construiește un depozit pornind de la comenzile existente, păstrate opțional în afara heap-ului.
+     *
+     * @param comenzi Comenzile existente, de exemplu cele citite din fișier
+     * @param log Jurnalul off-heap în care sunt păstrate comenzile sau null pentru păstrarea lor în heap
+     */
+    public OrderStore(List<Comanda> comenzi, OffHeapOrderLog log) {
+        this.log = log;
+        this.orders = log == null ? new ArrayList<>(comenzi.size()) : null;
+        this.byId = log == null ? new LongOrderMap(comenzi.size()) : null;
+        for (Comanda comanda : comenzi) {
+            if (comanda.getId() != 0) {
+                idGenerator.observe(comanda.getId());
+            }
+        }
+        // La construcție nu există ascultători, deci comenzile sunt doar memorate
+        for (Comanda comanda : comenzi) {
+            store(comanda);
+        }
+    }
+
+    /**
+     * Generează un identificator nou pentru o comandă. Metoda nu blochează.
+     *
+     * @return long Identificatorul nou
+     */
+    public long nextId() {
+        return idGenerator.nextId();
+    }
+
+    /**
+     * Adaugă o comandă în depozit, atribuindu-i un identificator dacă nu are deja unul.
+     *
+     * @param comanda Comanda ce va fi adăugată
+     */
+    public synchronized void add(Comanda comanda) {
+        store(comanda);
+        for (OrderStoreListener listener : listeners) {
+            listener.onOrderAdded(comanda);
+        }
+    }
+
+    /**
+     * Memorează o comandă, atribuindu-i un identificator dacă nu are deja unul, fără a anunța ascultătorii.
+     */
+    private void store(Comanda comanda) {
+        if (comanda.getId() == 0) {
+            comanda.setId(idGenerator.nextId());
+        }
+        if (log != null) {
+            log.append(comanda);
+        } else {
+            orders.add(comanda);
+            byId.put(comanda.getId(), comanda);
+        }
+    }
+
+    /**
+     * Adaugă mai multe comenzi în depozit, în ordinea dată.
+     *
+     * @param comenzi Comenzile ce vor fi adăugate
+     */
+    public synchronized void addAll(List<Comanda> comenzi) {
+        for (Comanda comanda : comenzi) {
+            add(comanda);
+        }
+    }
+
+    /**
+     * Returnează comanda cu identificatorul dat.
+     *
+     * @param id Identificatorul comenzii
+     * @return Comanda găsită sau null dacă nu există
+     */
+    public synchronized Comanda get(long id) {
+        if (log != null) {
+            int position = log.find(id);
+            return position < 0 ? null : log.get(position);
+        }
+        return byId.get(id);
+    }
+
+    /**
+     * Actualizează statusul comenzii cu identificatorul dat.
+     *
+     * @param id Identificatorul comenzii
+     * @param status Noul status al comenzii
+     * @return true dacă comanda a fost găsită
+     */
+    public synchronized boolean updateStatus(long id, StatusComanda status) {
+        if (log != null) {
+            int position = log.find(id);
+            if (position < 0) {
+                return false;
+            }
+            log.setStatus(position, status);
+        } else {
+            Comanda comanda = byId.get(id);
+            if (comanda == null) {
+                return false;
+            }
+            comanda.setStatus(status);
+        }
+        for (OrderStoreListener listener : listeners) {
+            listener.onStatusChanged(id, status);
+        }
+        return true;
+    }
+
+    /**
+     * Returnează o copie a listei de comenzi, în ordinea primirii.
+     * Copia nu este afectată de comenzile adăugate ulterior.
+     *
+     * @return List&lt;Comanda&gt; Comenzile din depozit
+     */
+    public synchronized List<Comanda> getOrders() {
+        if (log != null) {
+            List<Comanda> copy = new ArrayList<>(log.size());
+            for (int position = 0; position < log.size(); position++) {
+                copy.add(log.get(position));
+            }
+            return copy;
+        }
+        return new ArrayList<>(orders);
+    }
+
+    /**
+     * Returnează o pagină de comenzi, în ordinea primirii. În modul off-heap sunt construite
+     * doar comenzile din pagină.
+     *
+     * @param offset Poziția primei comenzi din pagină
+     * @param limit Numărul maxim de comenzi din pagină
+     * @return List&lt;Comanda&gt; Comenzile din pagină; goală dacă offset depășește numărul de comenzi
+     */
+    public synchronized List<Comanda> getPage(int offset, int limit) {
+        int end = (int) Math.min(size(), (long) offset + limit);
+        if (offset >= end) {
+            return new ArrayList<>();
+        }
+        if (log != null) {
+            List<Comanda> page = new ArrayList<>(end - offset);
+            for (int position = offset; position < end; position++) {
+                page.add(log.get(position));
+            }
+            return page;
+        }
+        return new ArrayList<>(orders.subList(offset, end));
+    }
+
+    /**
+     * Înregistrează un ascultător pentru modificările depozitului.
+     *
+     * @param listener Ascultătorul înregistrat
+     */
+    public void addListener(OrderStoreListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Elimină un ascultător înregistrat anterior.
+     *
+     * @param listener Ascultătorul eliminat
+     */
+    public void removeListener(OrderStoreListener listener) {
+        listeners.remove(listener);
+    }
+
+    /** @return Numărul de comenzi din depozit */
+    public synchronized int size() {
+        return log != null ? log.size() : orders.size();
+    }
+}
@@ -0,0 +1,25 @@
+package com.products.Order;
+
+/**
+ * Ascultător pentru modificările depozitului de comenzi: comenzi adăugate și statusuri schimbate.
+ * Metodele sunt apelate pe firul care a făcut modificarea, de exemplu firul pipeline-ului de comenzi,
+ * cât timp depozitul este blocat; implementările trebuie să fie scurte și să nu modifice depozitul.
+ */
+public interface OrderStoreListener {
+    /**
+     * Apelată după adăugarea unei comenzi în depozit.
+     *
+     * @param comanda Comanda adăugată, cu identificatorul atribuit
+     */
+    default void onOrderAdded(Comanda comanda) {
+    }
+
+    /**
+     * Apelată după schimbarea statusului unei comenzi.
+     *
+     * @param id Identificatorul comenzii
+     * @param status Noul status
+     */
+    default void onStatusChanged(long id, StatusComanda status) {
+    }
+}
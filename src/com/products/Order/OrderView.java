@@ -2,10 +2,14 @@ package com.products.Order;
 
 import com.products.Alert;
 import com.products.Cart.Cart;
+import com.products.Cart.CartSession;
+import com.products.File.FileManager;
 import com.products.Main;
 import com.products.Product.Produs;
-import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.beans.property.ReadOnlyStringWrapper;
 import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.Scene;
@@ -14,8 +18,7 @@ import javafx.scene.layout.HBox;
 import javafx.scene.layout.VBox;
 import javafx.stage.Stage;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.function.IntFunction;
 
 /**
  * Clasa care gestionează interfața de vizualizare și manipulare a comenzilor.
@@ -23,26 +26,41 @@ import java.util.List;
  */
 public class OrderView {
     /**
-     * Lista tuturor comenzilor din sistem.
+     * Depozitul tuturor comenzilor din sistem, indexat după identificator, comun tuturor vederilor.
      */
-    private List<Comanda> comenzi;
+    private final OrderStore orderStore;
     /**
-     * Indicator pentru a verifica dacă comanda curentă a fost trimisă.
+     * Sesiunea de cumpărături asociată, care conține coșul și indicatorul de trimitere a comenzii.
      */
-    public boolean orderSent = false;
+    private CartSession session;
     /**
-     * Referință către coșul de cumpărături asociat.
+     * Funcția prin care comenzile trimise își găsesc produsele în catalog, comună tuturor comenzilor.
      */
-    private Cart cart;
+    private final IntFunction<Produs> produsResolver = FileManager.getInstance().getCatalog()::getById;
+
+    /** Etichetele statusurilor, în ordinea afișată în tabel */
+    private static final ObservableList<String> STATUS_LABELS =
+            FXCollections.observableArrayList("În procesare", "Finalizată", "Expediată");
 
     /**
-     * Construiește o nouă vedere pentru comenzi cu un coș specificat.
+     * Construiește o nouă vedere pentru comenzi, fără sesiune de cumpărături asociată.
+     * Folosită de administrator doar pentru vizualizarea și actualizarea comenzilor.
      *
-     * @param cart Coșul de cumpărături asociat cu această vedere
+     * @param orderStore Depozitul comun al comenzilor
      */
-    public OrderView(Cart cart) {
-        this.comenzi = Main.getOrders();
-        this.cart = cart;
+    public OrderView(OrderStore orderStore) {
+        this.orderStore = orderStore;
+    }
+
+    /**
+     * Construiește o nouă vedere pentru comenzi cu o sesiune de cumpărături specificată.
+     *
+     * @param orderStore Depozitul comun al comenzilor
+     * @param session Sesiunea de cumpărături asociată cu această vedere
+     */
+    public OrderView(OrderStore orderStore, CartSession session) {
+        this.orderStore = orderStore;
+        this.session = session;
     }
 
     /**
@@ -53,34 +71,17 @@ public class OrderView {
         Stage ordersStage = new Stage();
         ordersStage.setTitle("Lista Comenzilor");
 
-        TableView<Comanda> ordersTableView = createOrdersTableView();
-
-        String buttonStyle = """
-                -fx-background-color: #ec407a;
-                -fx-text-fill: white;
-                -fx-font-weight: bold;
-                -fx-padding: 10 20;
-                -fx-background-radius: 5;
-                -fx-cursor: hand;
-                """;
-
-        String buttonHoverStyle = """
-                -fx-background-color: #d81b60;
-                -fx-effect: dropshadow(gaussian, rgba(0,0,0,0.2), 5, 0, 0, 1);
-                """;
+        PagedOrderList orders = new PagedOrderList(orderStore);
+        TableView<PagedOrderList.Row> ordersTableView = createOrdersTableView(orders);
+        ordersStage.setOnHidden(e -> orders.close());
 
         Button updateButton = new Button("Actualizează Statusul");
         Button closeButton = new Button("Închide");
 
-        updateButton.setStyle(buttonStyle);
-        closeButton.setStyle(buttonStyle);
+        updateButton.getStyleClass().add("form-button");
+        closeButton.getStyleClass().add("form-button");
 
-        updateButton.setOnMouseEntered(e -> updateButton.setStyle(buttonStyle + buttonHoverStyle));
-        updateButton.setOnMouseExited(e -> updateButton.setStyle(buttonStyle));
-        closeButton.setOnMouseEntered(e -> closeButton.setStyle(buttonStyle + buttonHoverStyle));
-        closeButton.setOnMouseExited(e -> closeButton.setStyle(buttonStyle));
-
-        updateButton.setOnAction(e -> updateOrderStatuses(ordersTableView));
+        updateButton.setOnAction(e -> updateOrderStatuses(orders));
         closeButton.setOnAction(e -> ordersStage.close());
 
         ordersTableView.setStyle("""
@@ -105,96 +106,110 @@ public class OrderView {
     }
 
     /**
-     * Procesează și trimite comanda curentă din coș.
-     * Verifică dacă comanda poate fi trimisă și actualizează starea sistemului corespunzător.
+     * Trimite comanda curentă din coș către pipeline-ul de procesare și revine imediat.
+     * Atribuirea identificatorului, actualizarea contoarelor și salvarea au loc în loturi, pe un fir separat.
      */
     public void sendOrder() {
-        if (orderSent) {
-            Alert.showAlert("Eroare", "Comanda a fost deja trimisă.", "ERROR");
+        Cart cart = session.getCart();
+        if (cart.getItems().isEmpty()) {
+            Alert.showAlert("Eroare", "Coșul este gol. Adaugă produse înainte de a trimite comanda.", "ERROR");
             return;
         }
 
-        if (cart.getItems().isEmpty()) {
-            Alert.showAlert("Eroare", "Coșul este gol. Adaugă produse înainte de a trimite comanda.", "EROARE");
+        if (!session.markOrderSent()) {
+            Alert.showAlert("Eroare", "Comanda a fost deja trimisă.", "ERROR");
             return;
         }
 
-        Comanda comanda = new Comanda(new ArrayList<>(cart.getItems().keySet()),cart);
-        comenzi.add(comanda);
-        for (Produs produs : cart.getItems().keySet()) {
-            produs.incrementNumarCumparari();
+        Comanda comanda = new Comanda(cart, produsResolver);
+        if (!Main.getOrderPipeline().submit(comanda)) {
+            session.resetOrderSent();
+            Alert.showAlert("Eroare", "Sistemul de comenzi este ocupat. Încearcă din nou în câteva momente.", "ERROR");
+            return;
         }
         cart.clearCart();
-        orderSent = true;
 
-        Alert.showAlert("Informare","Comanda a fost trimisă cu succes!","CONFIRMATION");
+        Alert.showAlert("Informare", "Comanda a fost trimisă cu succes!", "INFORMATION");
     }
     /**
      * Creează și configurează tabelul pentru afișarea comenzilor.
+     * Tabelul nu copiază comenzile: rândurile sunt citite din depozit pe pagini, pe un fir separat,
+     * iar textele afișate sunt calculate o singură dată pentru fiecare rând încărcat.
      *
+     * @param orders Lista paginată a comenzilor din depozit
      * @return TableView configurat pentru afișarea comenzilor
      */
-    private TableView<Comanda> createOrdersTableView() {
-        TableView<Comanda> ordersTableView = new TableView<>();
+    private TableView<PagedOrderList.Row> createOrdersTableView(PagedOrderList orders) {
+        TableView<PagedOrderList.Row> ordersTableView = new TableView<>();
 
-        TableColumn<Comanda, String> statusColumn = new TableColumn<>("Status");
-        statusColumn.setCellValueFactory(param -> new SimpleStringProperty(param.getValue().getStatus().toString()));
+        TableColumn<PagedOrderList.Row, PagedOrderList.Row> statusColumn = new TableColumn<>("Status");
+        statusColumn.setCellValueFactory(param -> new ReadOnlyObjectWrapper<>(param.getValue()));
         statusColumn.setCellFactory(column -> new TableCell<>() {
-            private final ComboBox<String> statusComboBox = new ComboBox<>();
+            private final ComboBox<String> statusComboBox = new ComboBox<>(STATUS_LABELS);
+            private PagedOrderList.Row row;
+
+            {
+                statusComboBox.setOnAction(e -> {
+                    StatusComanda selected = statusOf(statusComboBox.getValue());
+                    // Rândul este înlocuit de lista paginată, care urmărește depozitul
+                    if (row != null && selected != null && selected != row.getStatus()) {
+                        orderStore.updateStatus(row.getId(), selected);
+                    }
+                });
+            }
+
             @Override
-            protected void updateItem(String status, boolean empty) {
-                super.updateItem(status, empty);
-                if (empty) {
+            protected void updateItem(PagedOrderList.Row item, boolean empty) {
+                super.updateItem(item, empty);
+                row = null;
+                if (empty || item == null || item.isLoading()) {
                     setGraphic(null);
                 } else {
-                    statusComboBox.setItems(FXCollections.observableArrayList("În procesare", "Finalizată", "Expediată"));
-                    statusComboBox.setValue(status);
-
-                    statusComboBox.setOnAction(e -> {
-                        Comanda comanda = getTableView().getItems().get(getIndex());
-                        String selectedStatus = statusComboBox.getValue();
-
-                        if (selectedStatus.equals("În procesare")) {
-                            comanda.setStatus(StatusComanda.IN_PROCESARE);
-                        } else if (selectedStatus.equals("Expediată")) {
-                            comanda.setStatus(StatusComanda.EXPEDIATA);
-                        } else {
-                            comanda.setStatus(StatusComanda.FINALIZATA);
-                        }
-                    });
-
+                    statusComboBox.setValue(labelOf(item.getStatus()));
+                    row = item;
                     setGraphic(statusComboBox);
                 }
             }
         });
 
-        TableColumn<Comanda, String> detailsColumn = new TableColumn<>("Detalii Comandă");
-        detailsColumn.setCellValueFactory(param -> new SimpleStringProperty(param.getValue().getDetails()));
+        TableColumn<PagedOrderList.Row, String> detailsColumn = new TableColumn<>("Detalii Comandă");
+        detailsColumn.setCellValueFactory(param -> new ReadOnlyStringWrapper(param.getValue().getDetails()));
 
         ordersTableView.getColumns().addAll(statusColumn, detailsColumn);
-        ordersTableView.setItems(FXCollections.observableArrayList(Main.getOrders()));
+        ordersTableView.setItems(orders);
 
         return ordersTableView;
     }
 
     /**
-     * Actualizează statusul tuturor comenzilor din tabel conform selecțiilor utilizatorului.
+     * Aplică în depozit statusurile afișate în tabel și confirmă actualizarea.
+     * Doar rândurile din paginile încărcate pot fi modificate, deci doar acestea sunt parcurse.
      *
-     * @param ordersTableView Tabelul care conține comenzile de actualizat
+     * @param orders Lista paginată afișată în tabel
      */
-    private void updateOrderStatuses(TableView<Comanda> ordersTableView) {
-        for (Comanda comanda : ordersTableView.getItems()) {
-            int rowIndex = ordersTableView.getItems().indexOf(comanda);
-            String selectedStatus = (String) ordersTableView.getColumns().get(0).getCellObservableValue(rowIndex).getValue();
-
-            if ("În procesare".equals(selectedStatus)) {
-                comanda.setStatus(StatusComanda.IN_PROCESARE);
-            } else if ("Expediată".equals(selectedStatus)) {
-                comanda.setStatus(StatusComanda.EXPEDIATA);
-            } else if ("Finalizată".equals(selectedStatus)) {
-                comanda.setStatus(StatusComanda.FINALIZATA);
-            }
+    private void updateOrderStatuses(PagedOrderList orders) {
+        for (PagedOrderList.Row row : orders.loadedRows()) {
+            orderStore.updateStatus(row.getId(), row.getStatus());
         }
         Alert.showAlert("Notificare", "Statutul comenzilor a fost actualizat.", "INFORMATION");
     }
-}
\ No newline at end of file
+
+    private static String labelOf(StatusComanda status) {
+        return switch (status) {
+            case IN_PROCESARE -> "În procesare";
+            case EXPEDIATA -> "Expediată";
+            case FINALIZATA -> "Finalizată";
+        };
+    }
+
+    private static StatusComanda statusOf(String label) {
+        if (label == null) {
+            return null;
+        }
+        return switch (label) {
+            case "În procesare" -> StatusComanda.IN_PROCESARE;
+            case "Expediată" -> StatusComanda.EXPEDIATA;
+            default -> StatusComanda.FINALIZATA;
+        };
+    }
+}
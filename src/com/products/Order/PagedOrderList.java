@@ -0,0 +1,216 @@
+package com.products.Order;
+
+import javafx.application.Platform;
+import javafx.collections.ObservableListBase;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Lista leneșă a rândurilor din tabelul comenzilor, citită din depozit pe pagini.
+ * Lista are dimensiunea depozitului, dar păstrează în memorie doar ultimele pagini accesate.
+ * O pagină lipsă este citită pe un fir separat, unde se construiesc și textele afișate; până la
+ * sosirea ei, rândurile sale apar ca fiind în curs de încărcare. Lista urmărește depozitul:
+ * comenzile noi sunt adăugate la final, în loturi, iar schimbările de status actualizează
+ * rândurile încărcate. Lista este accesată doar de pe firul JavaFX.
+ */
+class PagedOrderList extends ObservableListBase<PagedOrderList.Row> {
+    /** Numărul de comenzi dintr-o pagină */
+    static final int PAGE_SIZE = 200;
+
+    /** Numărul maxim de pagini păstrate în memorie */
+    static final int MAX_PAGES = 16;
+
+    /** Rândul afișat cât timp pagina sa este încărcată */
+    private static final Row LOADING = new Row(0, null, "Se încarcă...");
+
+    /**
+     * Rândul tabelului: identificatorul, statusul și textul detaliilor unei comenzi,
+     * calculat o singură dată la încărcarea paginii.
+     */
+    static final class Row {
+        private final long id;
+        private final StatusComanda status;
+        private final String details;
+
+        private Row(long id, StatusComanda status, String details) {
+            this.id = id;
+            this.status = status;
+            this.details = details;
+        }
+
+        /** @return Identificatorul comenzii; 0 pentru un rând în curs de încărcare */
+        long getId() {
+            return id;
+        }
+
+        /** @return Statusul comenzii; null pentru un rând în curs de încărcare */
+        StatusComanda getStatus() {
+            return status;
+        }
+
+        /** @return Detaliile comenzii, gata formatate */
+        String getDetails() {
+            return details;
+        }
+
+        /** @return true dacă rândul așteaptă încărcarea paginii sale */
+        boolean isLoading() {
+            return this == LOADING;
+        }
+    }
+
+    private final OrderStore store;
+
+    /** Numărul de comenzi anunțate tabelului */
+    private int size;
+
+    /** Comenzile adăugate în depozit și încă neanunțate tabelului */
+    private final AtomicInteger added = new AtomicInteger();
+
+    private final OrderStoreListener storeListener = new OrderStoreListener() {
+        @Override
+        public void onOrderAdded(Comanda comanda) {
+            if (added.getAndIncrement() == 0) {
+                Platform.runLater(PagedOrderList.this::announceAdded);
+            }
+        }
+
+        @Override
+        public void onStatusChanged(long id, StatusComanda status) {
+            Platform.runLater(() -> updateStatus(id, status));
+        }
+    };
+
+    /** Paginile încărcate, în ordinea accesării; cea mai veche este eliminată la depășirea limitei */
+    private final Map<Integer, Row[]> pages = new LinkedHashMap<>(MAX_PAGES, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, Row[]> eldest) {
+            return size() > MAX_PAGES;
+        }
+    };
+
+    /** Paginile cerute și încă neîncărcate */
+    private final Set<Integer> pending = new HashSet<>();
+
+    private final ExecutorService loader = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "order-page-loader");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Construiește lista pentru comenzile din depozit și începe urmărirea acestuia.
+     *
+     * @param store Depozitul comenzilor
+     */
+    PagedOrderList(OrderStore store) {
+        this.store = store;
+        this.size = store.size();
+        store.addListener(storeListener);
+    }
+
+    @Override
+    public Row get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        int page = index / PAGE_SIZE;
+        Row[] rows = pages.get(page);
+        int position = index - page * PAGE_SIZE;
+        if (rows == null || position >= rows.length) {
+            // Ultima pagină poate fi incompletă dacă au sosit comenzi după încărcarea ei
+            request(page);
+            return LOADING;
+        }
+        return rows[position];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returnează rândurile din paginile aflate în memorie, singurele care pot fi modificate din tabel.
+     *
+     * @return Rândurile încărcate
+     */
+    List<Row> loadedRows() {
+        return pages.values().stream().flatMap(Arrays::stream).toList();
+    }
+
+    /**
+     * Oprește urmărirea depozitului și firul de încărcare; paginile cerute ulterior nu mai sunt citite.
+     */
+    void close() {
+        store.removeListener(storeListener);
+        loader.shutdownNow();
+    }
+
+    private void request(int page) {
+        if (loader.isShutdown() || !pending.add(page)) {
+            return;
+        }
+        loader.execute(() -> {
+            int offset = page * PAGE_SIZE;
+            List<Comanda> comenzi = store.getPage(offset, PAGE_SIZE);
+            Row[] rows = new Row[comenzi.size()];
+            for (int i = 0; i < rows.length; i++) {
+                Comanda comanda = comenzi.get(i);
+                rows[i] = new Row(comanda.getId(), comanda.getStatus(), comanda.getDetails());
+            }
+            Platform.runLater(() -> install(page, rows));
+        });
+    }
+
+    private void install(int page, Row[] rows) {
+        pending.remove(page);
+        pages.put(page, rows);
+        int offset = page * PAGE_SIZE;
+        beginChange();
+        for (int i = 0; i < rows.length && offset + i < size; i++) {
+            nextSet(offset + i, LOADING);
+        }
+        endChange();
+    }
+
+    private void announceAdded() {
+        int count = added.getAndSet(0);
+        if (count == 0) {
+            return;
+        }
+        int from = size;
+        size += count;
+        beginChange();
+        nextAdd(from, size);
+        endChange();
+    }
+
+    private void updateStatus(long id, StatusComanda status) {
+        for (Map.Entry<Integer, Row[]> entry : pages.entrySet()) {
+            Row[] rows = entry.getValue();
+            for (int i = 0; i < rows.length; i++) {
+                if (rows[i].id == id && rows[i].status != status) {
+                    Row old = rows[i];
+                    // Un rând nou, pentru ca celula să observe schimbarea
+                    rows[i] = new Row(id, status, old.details);
+                    int index = entry.getKey() * PAGE_SIZE + i;
+                    if (index < size) {
+                        beginChange();
+                        nextSet(index, old);
+                        endChange();
+                    }
+                    return;
+                }
+            }
+        }
+    }
+}
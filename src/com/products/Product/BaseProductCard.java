@@ -1,64 +1,82 @@
 package com.products.Product;
 
-import com.products.ControllersManipulation;
+import com.products.Money;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.control.Label;
 import javafx.scene.layout.Pane;
 import javafx.scene.layout.VBox;
-import javafx.scene.text.Font;
-import javafx.scene.text.FontWeight;
 
+/**
+ * Cardul de bază al unui produs, utilizat atât în interfața utilizatorului, cât și în interfața de administrator.
+ * Nodurile cardului sunt create o singură dată, iar cardul poate fi legat succesiv la produse diferite,
+ * astfel încât grila de produse își refolosește cardurile la derulare.
+ * Aspectul cardului, inclusiv umbra la hover, este definit de clasele product-* din temă.
+ */
 public class BaseProductCard {
+    /** Nodul rădăcină al cardului */
+    protected final VBox productCard = new VBox(15);
+
+    /** Produsul afișat în prezent */
+    protected Produs produs;
+
+    private final Label productName = new Label();
+    private final Label productDescription = new Label();
+    private final Label productPrice = new Label();
+
     /**
-     * Creează un card de produs de bază utilizat atât în interfața utilizatorului, cât și în interfața de administrator.
-     *
-     * @param produs Obiectul produs care conține informațiile despre produs.
-     * @return Un obiect Pane care reprezintă cardul de produs de bază.
+     * Construiește nodurile cardului, fără un produs legat.
      */
-    protected static Pane createBaseProductCard(Produs produs) {
-        VBox productCard = new VBox(15);
+    protected BaseProductCard() {
         productCard.setAlignment(Pos.CENTER);
         productCard.setPadding(new Insets(15));
 
-        String baseStyle = """
-            -fx-background-color: white;
-            -fx-border-color: %s;
-            -fx-border-width: 2;
-            -fx-border-radius: 10;
-            -fx-background-radius: 10;
-            """.formatted(ControllersManipulation.PINK_COLOR);
-
-        productCard.setStyle(baseStyle);
-
-        Label productName = new Label(produs.getNume());
-        productName.setFont(Font.font("System", FontWeight.BOLD, 16));
-        productName.setStyle("-fx-text-fill: " + ControllersManipulation.DARK_PINK + ";");
+        productCard.getStyleClass().add("product-card");
+        productName.getStyleClass().add("product-name");
 
         VBox descriptionBox = new VBox(5);
+        descriptionBox.getStyleClass().add("product-description");
         Label descriptionTitle = new Label("Descriere:");
-        descriptionTitle.setFont(Font.font("System", FontWeight.MEDIUM, 14));
-        Label productDescription = new Label(produs.getDescriere());
+        descriptionTitle.getStyleClass().add("product-description-title");
         productDescription.setWrapText(true);
         descriptionBox.getChildren().addAll(descriptionTitle, productDescription);
 
-        String descriptionStyle = """
-            -fx-padding: 10;
-            -fx-background-color: #FFF0F5;
-            -fx-background-radius: 5;
-            """;
-        descriptionBox.setStyle(descriptionStyle);
-
-        Label productPrice = new Label(String.format("%.2f RON", produs.getPret()));
-        productPrice.setFont(Font.font("System", FontWeight.BOLD, 18));
-        productPrice.setStyle("-fx-text-fill: " + ControllersManipulation.DARK_PINK + ";");
+        productPrice.getStyleClass().add("product-price");
 
         productCard.getChildren().addAll(
                 productName,
                 descriptionBox,
                 productPrice
         );
+    }
+
+    /**
+     * Leagă cardul la produsul dat și actualizează conținutul afișat.
+     *
+     * @param produs Produsul afișat
+     */
+    public void bind(Produs produs) {
+        this.produs = produs;
+        update();
+    }
+
+    /**
+     * Actualizează conținutul afișat din câmpurile produsului legat.
+     * Subclasele care afișează câmpuri suplimentare suprascriu metoda și o apelează.
+     */
+    public void update() {
+        productName.setText(produs.getNume());
+        productDescription.setText(produs.getDescriere());
+        productPrice.setText(Money.format(produs.getPretBani()) + " RON");
+    }
+
+    /** @return Produsul afișat în prezent */
+    public Produs getProdus() {
+        return produs;
+    }
 
+    /** @return Nodul rădăcină al cardului */
+    public Pane getNode() {
         return productCard;
     }
-}
\ No newline at end of file
+}
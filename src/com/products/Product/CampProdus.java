@@ -0,0 +1,24 @@
+package com.products.Product;
+
+/**
+ * Enumerația câmpurilor modificabile ale unui produs.
+ * Este folosită în notificările trimise la fiecare modificare a unui produs din catalog.
+ */
+public enum CampProdus {
+    /** Prețul produsului */
+    PRET,
+    /** Descrierea produsului */
+    DESCRIERE,
+    /** Cantitatea disponibilă în stoc */
+    CANTITATE_DISPONIBILA,
+    /** Numele produsului */
+    NUME,
+    /** Data expirării produsului */
+    DATA_EXPIRARE,
+    /** Ratingul mediu al produsului */
+    RATING,
+    /** Numărul de cumpărări ale produsului */
+    NUMAR_CUMPARARI,
+    /** Numărul de ratinguri primite */
+    NR_RATINGURI
+}
@@ -0,0 +1,211 @@
+package com.products.Product;
+
+import com.products.OffHeapBuffer;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Clasa Catalog publică lista de produse sub forma unor versiuni imuabile.
+ * Cititorii (rapoarte, grile de produse, parsarea comenzilor) obțin versiunea curentă și o pot parcurge
+ * oricât de mult, fără blocare și fără ConcurrentModificationException. Scriitorii construiesc o versiune
+ * nouă și o publică atomic; dacă între timp a apărut altă versiune, modificarea este reaplicată pe aceasta.
+ * Catalogul notifică ascultătorii înregistrați despre produsele adăugate, eliminate sau modificate
+ * și menține pe această bază indexurile secundare sortate, indexul de căutare în text
+ * și coloanele primitive folosite de rapoarte.
+ * Fiecare produs primește la adăugare un identificator numeric unic. Identificatorii nu sunt refolosiți:
+ * la încărcare, catalogul pornește de la pragul salvat, care include și produsele șterse.
+ */
+public class Catalog {
+    /** Versiunea curentă a catalogului */
+    private final AtomicReference<CatalogSnapshot> current;
+
+    /** Ascultătorii notificați la modificarea catalogului */
+    private final List<CatalogListener> listeners = new CopyOnWriteArrayList<>();
+
+    /** Ascultătorul instalat pe fiecare produs din catalog, care retransmite modificările */
+    private final ProdusListener produsListener = this::fireProductChanged;
+
+    /** Indexurile secundare sortate ale catalogului */
+    private final CatalogIndex index;
+
+    /** Indexul inversat pentru căutarea în numele și descrierea produselor */
+    private final ProductSearchIndex searchIndex;
+
+    /** Câmpurile numerice ale produselor, păstrate pe coloane */
+    private final ProductColumns columns;
+
+    /** Următorul identificator atribuit unui produs nou */
+    private final AtomicInteger nextId = new AtomicInteger(1);
+
+    /**
+     * Construiește un catalog cu produsele inițiale.
+     *
+     * @param produse Produsele inițiale
+     */
+    public Catalog(List<Produs> produse) {
+        this(produse, 1);
+    }
+
+    /**
+     * Construiește un catalog cu produsele inițiale și pragul identificatorilor deja atribuiți.
+     *
+     * @param produse Produsele inițiale
+     * @param firstFreeId Următorul identificator salvat; identificatorii mai mici pot aparține unor produse șterse
+     */
+    public Catalog(List<Produs> produse, int firstFreeId) {
+        nextId.set(assignIds(produse, firstFreeId));
+        for (Produs produs : produse) {
+            produs.setListener(produsListener);
+        }
+        this.current = new AtomicReference<>(produse.isEmpty() ? CatalogSnapshot.EMPTY : CatalogSnapshot.of(produse));
+        this.index = new CatalogIndex(produse);
+        this.searchIndex = new ProductSearchIndex(produse);
+        this.columns = OffHeapBuffer.isEnabled()
+                ? new OffHeapProductColumns(produse, OffHeapBuffer.mappedFile("catalog.columns"))
+                : new HeapProductColumns(produse);
+        listeners.add(index);
+        listeners.add(searchIndex);
+        listeners.add(columns);
+    }
+
+    /**
+     * Atribuie identificatori produselor salvate fără identificator, după cel mai mare identificator existent.
+     *
+     * @param produse Produsele citite
+     * @param firstFreeId Următorul identificator salvat; identificatorii mai mici pot aparține unor produse șterse
+     * @return int Următorul identificator liber
+     */
+    public static int assignIds(List<Produs> produse, int firstFreeId) {
+        int next = Math.max(1, firstFreeId);
+        for (Produs produs : produse) {
+            next = Math.max(next, produs.getId() + 1);
+        }
+        for (Produs produs : produse) {
+            if (produs.getId() == 0) {
+                produs.setId(next++);
+            }
+        }
+        return next;
+    }
+
+    /**
+     * Returnează versiunea curentă a catalogului.
+     * Lista returnată nu se modifică niciodată, chiar dacă între timp se adaugă sau se șterg produse.
+     *
+     * @return CatalogSnapshot Versiunea curentă
+     */
+    public CatalogSnapshot snapshot() {
+        return current.get();
+    }
+
+    /**
+     * Returnează următorul identificator care va fi atribuit, mai mare decât al oricărui produs adăugat vreodată.
+     *
+     * @return int Următorul identificator
+     */
+    public int getNextId() {
+        return nextId.get();
+    }
+
+    /**
+     * Returnează produsul cu identificatorul dat.
+     *
+     * @param id Identificatorul produsului
+     * @return Produs Produsul găsit sau null dacă nu există în catalog
+     */
+    public Produs getById(int id) {
+        return columns.get(id);
+    }
+
+    /**
+     * Adaugă un produs la finalul catalogului.
+     *
+     * @param produs Produsul adăugat
+     */
+    public void add(Produs produs) {
+        if (produs.getId() == 0) {
+            produs.setId(nextId.getAndIncrement());
+        }
+        produs.setListener(produsListener);
+        current.updateAndGet(snapshot -> snapshot.withAdded(produs));
+        for (CatalogListener listener : listeners) {
+            listener.onProductAdded(produs);
+        }
+    }
+
+    /**
+     * Elimină un produs din catalog.
+     *
+     * @param produs Produsul eliminat
+     * @return true dacă produsul exista în catalog
+     */
+    public boolean remove(Produs produs) {
+        while (true) {
+            CatalogSnapshot snapshot = current.get();
+            int index = snapshot.indexOf(produs);
+            if (index < 0) {
+                return false;
+            }
+            if (current.compareAndSet(snapshot, snapshot.withRemoved(index))) {
+                produs.setListener(null);
+                for (CatalogListener listener : listeners) {
+                    listener.onProductRemoved(produs);
+                }
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Returnează indexurile secundare sortate, pentru interogări pe interval și ordonări.
+     *
+     * @return CatalogIndex Indexurile catalogului
+     */
+    public CatalogIndex getIndex() {
+        return index;
+    }
+
+    /**
+     * Returnează indexul de căutare în numele și descrierea produselor.
+     *
+     * @return ProductSearchIndex Indexul de căutare
+     */
+    public ProductSearchIndex getSearchIndex() {
+        return searchIndex;
+    }
+
+    /**
+     * Returnează coloanele primitive ale catalogului, pentru scanări rapide în rapoarte.
+     *
+     * @return ProductColumns Coloanele catalogului
+     */
+    public ProductColumns getColumns() {
+        return columns;
+    }
+
+    /**
+     * Înregistrează un ascultător pentru modificările catalogului.
+     *
+     * @param listener Ascultătorul înregistrat
+     */
+    public void addListener(CatalogListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Elimină un ascultător înregistrat anterior.
+     *
+     * @param listener Ascultătorul eliminat
+     */
+    public void removeListener(CatalogListener listener) {
+        listeners.remove(listener);
+    }
+
+    private void fireProductChanged(Produs produs, CampProdus camp, Object valoareVeche) {
+        for (CatalogListener listener : listeners) {
+            listener.onProductChanged(produs, camp, valoareVeche);
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.products.Product;
+
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Indexurile secundare sortate ale catalogului: preț, rating, număr de cumpărări,
+ * cantitate disponibilă și data expirării (ca zi epocală). Indexurile sunt actualizate la fiecare
+ * adăugare, eliminare sau modificare a unui produs, iar interogările costă O(log n + k).
+ */
+public class CatalogIndex implements CatalogListener {
+    /** Indexurile, după câmpul indexat */
+    private final Map<CampProdus, SortedIndex<?>> indexes = new EnumMap<>(CampProdus.class);
+
+    private final SortedIndex<Double> byPret = new SortedIndex<>(Produs::getPret, v -> (Double) v);
+    private final SortedIndex<Double> byRating = new SortedIndex<>(Produs::getRating, v -> (Double) v);
+    private final SortedIndex<Integer> byNumarCumparari = new SortedIndex<>(Produs::getNumarCumparari, v -> (Integer) v);
+    private final SortedIndex<Integer> byCantitate = new SortedIndex<>(Produs::getCantitateDisponibila, v -> (Integer) v);
+    private final SortedIndex<Integer> byExpirare = new SortedIndex<>(
+            p -> dayKey(p.getZiExpirare()), v -> dayKey(Produs.parseEpochDay((String) v)));
+
+    /**
+     * Construiește indexurile pentru produsele existente.
+     *
+     * @param produse Produsele din catalog
+     */
+    CatalogIndex(List<Produs> produse) {
+        indexes.put(CampProdus.PRET, byPret);
+        indexes.put(CampProdus.RATING, byRating);
+        indexes.put(CampProdus.NUMAR_CUMPARARI, byNumarCumparari);
+        indexes.put(CampProdus.CANTITATE_DISPONIBILA, byCantitate);
+        indexes.put(CampProdus.DATA_EXPIRARE, byExpirare);
+        for (Produs produs : produse) {
+            onProductAdded(produs);
+        }
+    }
+
+    @Override
+    public synchronized void onProductAdded(Produs produs) {
+        for (SortedIndex<?> index : indexes.values()) {
+            index.add(produs);
+        }
+    }
+
+    @Override
+    public synchronized void onProductRemoved(Produs produs) {
+        for (SortedIndex<?> index : indexes.values()) {
+            index.remove(produs);
+        }
+    }
+
+    @Override
+    public synchronized void onProductChanged(Produs produs, CampProdus camp, Object valoareVeche) {
+        SortedIndex<?> index = indexes.get(camp);
+        if (index != null) {
+            index.reindex(produs, valoareVeche);
+        }
+    }
+
+    /**
+     * Returnează produsele cu prețul în intervalul [min, max].
+     *
+     * @param min Prețul minim
+     * @param max Prețul maxim
+     * @return List&lt;Produs&gt; Produsele găsite, crescător după preț
+     */
+    public synchronized List<Produs> priceBetween(double min, double max) {
+        return byPret.range(min, true, max, true);
+    }
+
+    /**
+     * Returnează produsele cu ratingul cel puțin egal cu valoarea dată.
+     *
+     * @param minRating Ratingul minim
+     * @return List&lt;Produs&gt; Produsele găsite, crescător după rating
+     */
+    public synchronized List<Produs> ratingAtLeast(double minRating) {
+        return byRating.range(minRating, true, null, false);
+    }
+
+    /**
+     * Returnează produsele cu stocul strict sub limita dată.
+     *
+     * @param limit Limita de stoc
+     * @return List&lt;Produs&gt; Produsele găsite, crescător după cantitate
+     */
+    public synchronized List<Produs> stockBelow(int limit) {
+        return byCantitate.range(null, false, limit, false);
+    }
+
+    /**
+     * Returnează produsele aflate pe stoc (cantitate disponibilă strict pozitivă).
+     *
+     * @return List&lt;Produs&gt; Produsele găsite, crescător după cantitate
+     */
+    public synchronized List<Produs> inStock() {
+        return byCantitate.range(0, false, null, false);
+    }
+
+    /**
+     * Returnează produsele care expiră în intervalul (dupa, inainte).
+     *
+     * @param dupa Data după care expiră produsele sau null pentru orice dată anterioară
+     * @param inainte Data înainte de care expiră produsele
+     * @return List&lt;Produs&gt; Produsele găsite, crescător după data expirării
+     */
+    public synchronized List<Produs> expiringBetween(LocalDate dupa, LocalDate inainte) {
+        Integer from = dupa == null ? null : (int) dupa.toEpochDay();
+        return byExpirare.range(from, false, (int) inainte.toEpochDay(), false);
+    }
+
+    /**
+     * Returnează produsele cu cheia în intervalul dat, pentru un câmp indexat.
+     *
+     * @param camp Câmpul indexat (PRET, RATING, NUMAR_CUMPARARI, CANTITATE_DISPONIBILA sau DATA_EXPIRARE)
+     * @param min Limita inferioară inclusă sau null
+     * @param max Limita superioară inclusă sau null
+     * @param <K> Tipul cheii câmpului (Double, Integer; zi epocală pentru data expirării)
+     * @return List&lt;Produs&gt; Produsele găsite, crescător după câmp
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized <K extends Comparable<K>> List<Produs> range(CampProdus camp, K min, K max) {
+        return ((SortedIndex<K>) indexFor(camp)).range(min, true, max, true);
+    }
+
+    /**
+     * Returnează primele produse ordonate după un câmp indexat.
+     *
+     * @param camp Câmpul indexat
+     * @param descending true pentru ordine descrescătoare
+     * @param limit Numărul maxim de produse
+     * @return List&lt;Produs&gt; Produsele ordonate
+     */
+    public synchronized List<Produs> orderBy(CampProdus camp, boolean descending, int limit) {
+        return indexFor(camp).ordered(descending, limit);
+    }
+
+    private SortedIndex<?> indexFor(CampProdus camp) {
+        SortedIndex<?> index = indexes.get(camp);
+        if (index == null) {
+            throw new IllegalArgumentException("Câmpul " + camp + " nu este indexat.");
+        }
+        return index;
+    }
+
+    /**
+     * Transformă ziua epocală a unui produs în cheie de index.
+     *
+     * @param zi Ziua epocală sau Produs.NO_DATE
+     * @return Integer Cheia sau null dacă data lipsește ori este invalidă
+     */
+    private static Integer dayKey(int zi) {
+        return zi == Produs.NO_DATE ? null : zi;
+    }
+}
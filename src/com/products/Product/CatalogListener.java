@@ -0,0 +1,32 @@
+package com.products.Product;
+
+/**
+ * Ascultător pentru modificările catalogului de produse: produse adăugate, eliminate sau modificate.
+ */
+public interface CatalogListener {
+    /**
+     * Apelată după adăugarea unui produs în catalog.
+     *
+     * @param produs Produsul adăugat
+     */
+    default void onProductAdded(Produs produs) {
+    }
+
+    /**
+     * Apelată după eliminarea unui produs din catalog.
+     *
+     * @param produs Produsul eliminat
+     */
+    default void onProductRemoved(Produs produs) {
+    }
+
+    /**
+     * Apelată după modificarea unui câmp al unui produs din catalog.
+     *
+     * @param produs Produsul modificat
+     * @param camp Câmpul modificat
+     * @param valoareVeche Valoarea câmpului dinaintea modificării
+     */
+    default void onProductChanged(Produs produs, CampProdus camp, Object valoareVeche) {
+    }
+}
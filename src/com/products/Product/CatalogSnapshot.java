@@ -0,0 +1,113 @@
+package com.products.Product;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Versiune imuabilă a listei de produse din catalog.
+ * Produsele sunt păstrate în blocuri de câte 32, iar o versiune nouă refolosește blocurile
+ * neatinse de modificare, astfel încât adăugarea copiază doar ultimul bloc și tabela de blocuri.
+ * Orice încercare de a modifica lista aruncă UnsupportedOperationException.
+ */
+public final class CatalogSnapshot extends AbstractList<Produs> implements RandomAccess {
+    /** Numărul de biți ai poziției în bloc */
+    private static final int CHUNK_BITS = 5;
+    /** Numărul de produse dintr-un bloc */
+    private static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+    /** Masca pentru poziția în bloc */
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+    /** Versiunea goală a catalogului */
+    static final CatalogSnapshot EMPTY = new CatalogSnapshot(0, new Produs[0][], 0);
+
+    /** Numărul versiunii; crește cu fiecare modificare a catalogului */
+    private final long version;
+    /** Blocurile de produse; pot fi partajate între versiuni și nu sunt modificate niciodată */
+    private final Produs[][] chunks;
+    /** Numărul de produse din această versiune */
+    private final int size;
+
+    private CatalogSnapshot(long version, Produs[][] chunks, int size) {
+        this.version = version;
+        this.chunks = chunks;
+        this.size = size;
+    }
+
+    /**
+     * Construiește prima versiune a catalogului dintr-o listă de produse.
+     *
+     * @param produse Produsele inițiale
+     * @return CatalogSnapshot Versiunea inițială
+     */
+    static CatalogSnapshot of(List<Produs> produse) {
+        int count = produse.size();
+        Produs[][] chunks = new Produs[(count + CHUNK_MASK) >>> CHUNK_BITS][];
+        for (int c = 0; c < chunks.length; c++) {
+            int from = c << CHUNK_BITS;
+            chunks[c] = produse.subList(from, Math.min(count, from + CHUNK_SIZE)).toArray(new Produs[0]);
+        }
+        return new CatalogSnapshot(1, chunks, count);
+    }
+
+    @Override
+    public Produs get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", dimensiune: " + size);
+        }
+        return chunks[index >>> CHUNK_BITS][index & CHUNK_MASK];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /** @return Numărul versiunii catalogului */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Construiește versiunea următoare, cu un produs adăugat la final.
+     * Toate blocurile complete sunt partajate cu versiunea curentă.
+     *
+     * @param produs Produsul adăugat
+     * @return CatalogSnapshot Versiunea nouă
+     */
+    CatalogSnapshot withAdded(Produs produs) {
+        int chunk = size >>> CHUNK_BITS;
+        int offset = size & CHUNK_MASK;
+        Produs[][] newChunks = offset == 0 ? Arrays.copyOf(chunks, chunk + 1) : chunks.clone();
+        Produs[] last = offset == 0 ? new Produs[1] : Arrays.copyOf(chunks[chunk], offset + 1);
+        last[offset] = produs;
+        newChunks[chunk] = last;
+        return new CatalogSnapshot(version + 1, newChunks, size + 1);
+    }
+
+    /**
+     * Construiește versiunea următoare, fără produsul de la poziția dată.
+     * Blocurile dinaintea poziției sunt partajate; cele de după sunt reconstruite.
+     *
+     * @param index Poziția produsului eliminat
+     * @return CatalogSnapshot Versiunea nouă
+     */
+    CatalogSnapshot withRemoved(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", dimensiune: " + size);
+        }
+        int newSize = size - 1;
+        Produs[][] newChunks = Arrays.copyOf(chunks, (newSize + CHUNK_MASK) >>> CHUNK_BITS);
+        for (int c = index >>> CHUNK_BITS; c < newChunks.length; c++) {
+            int from = c << CHUNK_BITS;
+            Produs[] rebuilt = new Produs[Math.min(CHUNK_SIZE, newSize - from)];
+            for (int i = 0; i < rebuilt.length; i++) {
+                int source = from + i;
+                rebuilt[i] = get(source < index ? source : source + 1);
+            }
+            newChunks[c] = rebuilt;
+        }
+        return new CatalogSnapshot(version + 1, newChunks, newSize);
+    }
+}
@@ -0,0 +1,198 @@
+package com.products.Product;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Depozit pe coloane al câmpurilor numerice din catalog, păstrat în heap.
+ * Fiecare câmp este păstrat într-un vector primitiv separat, indexat după identificatorul produsului,
+ * astfel încât scanările din rapoarte (valoarea stocului, stoc redus, expirare) parcurg memorie
+ * contiguă în loc să urmeze referințe către obiecte Produs împrăștiate în heap.
+ */
+class HeapProductColumns implements ProductColumns {
+    /** Capacitatea inițială a coloanelor */
+    private static final int INITIAL_CAPACITY = 64;
+
+    /** Marcaj pentru pozițiile ocupate de un produs din catalog */
+    private boolean[] live = new boolean[INITIAL_CAPACITY];
+    /** Prețul fiecărui produs, în bani */
+    private long[] pretBani = new long[INITIAL_CAPACITY];
+    /** Cantitatea disponibilă a fiecărui produs */
+    private int[] cantitate = new int[INITIAL_CAPACITY];
+    /** Data expirării, ca zi epocală (Produs.NO_DATE dacă lipsește) */
+    private int[] expiryEpochDay = new int[INITIAL_CAPACITY];
+    /** Data adăugării, ca zi epocală (Produs.NO_DATE dacă lipsește) */
+    private int[] addedEpochDay = new int[INITIAL_CAPACITY];
+    /** Suma tuturor ratingurilor primite (rating mediu × număr de ratinguri) */
+    private double[] ratingSum = new double[INITIAL_CAPACITY];
+    /** Numărul de ratinguri primite */
+    private int[] ratingCount = new int[INITIAL_CAPACITY];
+    /** Numărul de cumpărări */
+    private int[] numarCumparari = new int[INITIAL_CAPACITY];
+    /** Produsul de pe fiecare poziție, pentru rezolvarea rezultatelor scanărilor */
+    private Produs[] products = new Produs[INITIAL_CAPACITY];
+    /** Cea mai mare poziție folosită plus unu */
+    private int limit;
+
+    /**
+     * Construiește coloanele pentru produsele existente.
+     *
+     * @param produse Produsele din catalog
+     */
+    HeapProductColumns(List<Produs> produse) {
+        for (Produs produs : produse) {
+            onProductAdded(produs);
+        }
+    }
+
+    @Override
+    public synchronized void onProductAdded(Produs produs) {
+        int id = produs.getId();
+        ensureCapacity(id + 1);
+        live[id] = true;
+        products[id] = produs;
+        limit = Math.max(limit, id + 1);
+        load(produs, id);
+    }
+
+    @Override
+    public synchronized void onProductRemoved(Produs produs) {
+        int id = produs.getId();
+        if (id < limit && products[id] == produs) {
+            live[id] = false;
+            products[id] = null;
+        }
+    }
+
+    @Override
+    public synchronized void onProductChanged(Produs produs, CampProdus camp, Object valoareVeche) {
+        int id = produs.getId();
+        if (id < limit && products[id] == produs) {
+            load(produs, id);
+        }
+    }
+
+    private void load(Produs produs, int id) {
+        pretBani[id] = produs.getPretBani();
+        cantitate[id] = produs.getCantitateDisponibila();
+        expiryEpochDay[id] = produs.getZiExpirare();
+        addedEpochDay[id] = produs.getZiAdaugarii();
+        ratingSum[id] = produs.getRating() * produs.getNrRatinguri();
+        ratingCount[id] = produs.getNrRatinguri();
+        numarCumparari[id] = produs.getNumarCumparari();
+    }
+
+    private void ensureCapacity(int required) {
+        if (required <= live.length) {
+            return;
+        }
+        int capacity = Math.max(required, live.length * 2);
+        live = Arrays.copyOf(live, capacity);
+        pretBani = Arrays.copyOf(pretBani, capacity);
+        cantitate = Arrays.copyOf(cantitate, capacity);
+        expiryEpochDay = Arrays.copyOf(expiryEpochDay, capacity);
+        addedEpochDay = Arrays.copyOf(addedEpochDay, capacity);
+        ratingSum = Arrays.copyOf(ratingSum, capacity);
+        ratingCount = Arrays.copyOf(ratingCount, capacity);
+        numarCumparari = Arrays.copyOf(numarCumparari, capacity);
+        products = Arrays.copyOf(products, capacity);
+    }
+
+    @Override
+    public synchronized Produs get(int id) {
+        return id > 0 && id < limit ? products[id] : null;
+    }
+
+    @Override
+    public synchronized int count() {
+        int count = 0;
+        for (int id = 0; id < limit; id++) {
+            if (live[id]) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public synchronized long sumPretBani() {
+        long sum = 0;
+        for (int id = 0; id < limit; id++) {
+            if (live[id]) {
+                sum += pretBani[id];
+            }
+        }
+        return sum;
+    }
+
+    @Override
+    public synchronized long stockValueBani() {
+        long sum = 0;
+        for (int id = 0; id < limit; id++) {
+            if (live[id]) {
+                sum += pretBani[id] * cantitate[id];
+            }
+        }
+        return sum;
+    }
+
+    @Override
+    public synchronized List<Produs> stockBetween(int min, int max) {
+        List<Produs> result = new ArrayList<>();
+        for (int id = 0; id < limit; id++) {
+            if (live[id] && cantitate[id] >= min && cantitate[id] <= max) {
+                result.add(products[id]);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public synchronized List<Produs> expiringBetween(int afterDay, int beforeDay, boolean includeMissing) {
+        return dateBetween(expiryEpochDay, afterDay, beforeDay, includeMissing);
+    }
+
+    @Override
+    public synchronized List<Produs> addedAfter(int afterDay, boolean includeMissing) {
+        return dateBetween(addedEpochDay, afterDay, Integer.MAX_VALUE, includeMissing);
+    }
+
+    private List<Produs> dateBetween(int[] days, int afterDay, int beforeDay, boolean includeMissing) {
+        List<Produs> result = new ArrayList<>();
+        for (int id = 0; id < limit; id++) {
+            if (!live[id]) {
+                continue;
+            }
+            int day = days[id];
+            if (day == Produs.NO_DATE ? includeMissing : day > afterDay && day < beforeDay) {
+                result.add(products[id]);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public synchronized double averageRating() {
+        double sum = 0;
+        long count = 0;
+        for (int id = 0; id < limit; id++) {
+            if (live[id]) {
+                sum += ratingSum[id];
+                count += ratingCount[id];
+            }
+        }
+        return count == 0 ? 0 : sum / count;
+    }
+
+    @Override
+    public synchronized long totalPurchases() {
+        long total = 0;
+        for (int id = 0; id < limit; id++) {
+            if (live[id]) {
+                total += numarCumparari[id];
+            }
+        }
+        return total;
+    }
+}
@@ -0,0 +1,210 @@
+package com.products.Product;
+
+import com.products.OffHeapBuffer;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Depozit al câmpurilor numerice din catalog păstrat în afara heap-ului, folosit în modul off-heap.
+ * Fiecare produs ocupă o înregistrare de lungime fixă, la poziția dată de identificatorul său,
+ * într-o zonă alocată prin Foreign Memory API sau mapată dintr-un fișier. În heap rămân doar
+ * referințele către obiectele Produs, folosite pentru rezolvarea rezultatelor scanărilor.
+ */
+class OffHeapProductColumns implements ProductColumns {
+    /** Deplasamentele câmpurilor în cadrul unei înregistrări */
+    private static final long PRET_BANI = 0;
+    private static final long RATING_SUM = 8;
+    private static final long CANTITATE = 16;
+    private static final long ZI_EXPIRARE = 20;
+    private static final long ZI_ADAUGARII = 24;
+    private static final long NR_RATINGURI = 28;
+    private static final long NUMAR_CUMPARARI = 32;
+    private static final long LIVE = 36;
+
+    /** Dimensiunea unei înregistrări, în octeți (multiplu de 8, pentru alinierea câmpurilor long) */
+    private static final long RECORD_BYTES = 40;
+
+    /** Capacitatea inițială, în înregistrări */
+    private static final int INITIAL_CAPACITY = 1024;
+
+    /** Zona off-heap cu înregistrările produselor */
+    private final OffHeapBuffer buffer;
+
+    /** Produsul de pe fiecare poziție, pentru rezolvarea rezultatelor scanărilor */
+    private Produs[] products = new Produs[INITIAL_CAPACITY];
+
+    /** Cea mai mare poziție folosită plus unu */
+    private int limit;
+
+    /**
+     * Construiește depozitul pentru produsele existente.
+     *
+     * @param produse Produsele din catalog
+     * @param file Fișierul din care este mapată zona sau null pentru memorie anonimă
+     */
+    OffHeapProductColumns(List<Produs> produse, Path file) {
+        this.buffer = new OffHeapBuffer(INITIAL_CAPACITY * RECORD_BYTES, file);
+        for (Produs produs : produse) {
+            onProductAdded(produs);
+        }
+    }
+
+    @Override
+    public synchronized void onProductAdded(Produs produs) {
+        int id = produs.getId();
+        if (id >= products.length) {
+            products = Arrays.copyOf(products, Math.max(id + 1, products.length * 2));
+        }
+        buffer.ensureCapacity((id + 1) * RECORD_BYTES);
+        products[id] = produs;
+        limit = Math.max(limit, id + 1);
+        load(produs, id);
+        buffer.segment().set(ValueLayout.JAVA_BYTE, id * RECORD_BYTES + LIVE, (byte) 1);
+    }
+
+    @Override
+    public synchronized void onProductRemoved(Produs produs) {
+        int id = produs.getId();
+        if (id < limit && products[id] == produs) {
+            buffer.segment().set(ValueLayout.JAVA_BYTE, id * RECORD_BYTES + LIVE, (byte) 0);
+            products[id] = null;
+        }
+    }
+
+    @Override
+    public synchronized void onProductChanged(Produs produs, CampProdus camp, Object valoareVeche) {
+        int id = produs.getId();
+        if (id < limit && products[id] == produs) {
+            load(produs, id);
+        }
+    }
+
+    private void load(Produs produs, int id) {
+        MemorySegment segment = buffer.segment();
+        long base = id * RECORD_BYTES;
+        segment.set(ValueLayout.JAVA_LONG, base + PRET_BANI, produs.getPretBani());
+        segment.set(ValueLayout.JAVA_DOUBLE, base + RATING_SUM, produs.getRating() * produs.getNrRatinguri());
+        segment.set(ValueLayout.JAVA_INT, base + CANTITATE, produs.getCantitateDisponibila());
+        segment.set(ValueLayout.JAVA_INT, base + ZI_EXPIRARE, produs.getZiExpirare());
+        segment.set(ValueLayout.JAVA_INT, base + ZI_ADAUGARII, produs.getZiAdaugarii());
+        segment.set(ValueLayout.JAVA_INT, base + NR_RATINGURI, produs.getNrRatinguri());
+        segment.set(ValueLayout.JAVA_INT, base + NUMAR_CUMPARARI, produs.getNumarCumparari());
+    }
+
+    private static boolean isLive(MemorySegment segment, long base) {
+        return segment.get(ValueLayout.JAVA_BYTE, base + LIVE) != 0;
+    }
+
+    @Override
+    public synchronized Produs get(int id) {
+        return id > 0 && id < limit ? products[id] : null;
+    }
+
+    @Override
+    public synchronized int count() {
+        MemorySegment segment = buffer.segment();
+        int count = 0;
+        for (long base = 0, end = limit * RECORD_BYTES; base < end; base += RECORD_BYTES) {
+            if (isLive(segment, base)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public synchronized long sumPretBani() {
+        MemorySegment segment = buffer.segment();
+        long sum = 0;
+        for (long base = 0, end = limit * RECORD_BYTES; base < end; base += RECORD_BYTES) {
+            if (isLive(segment, base)) {
+                sum += segment.get(ValueLayout.JAVA_LONG, base + PRET_BANI);
+            }
+        }
+        return sum;
+    }
+
+    @Override
+    public synchronized long stockValueBani() {
+        MemorySegment segment = buffer.segment();
+        long sum = 0;
+        for (long base = 0, end = limit * RECORD_BYTES; base < end; base += RECORD_BYTES) {
+            if (isLive(segment, base)) {
+                sum += segment.get(ValueLayout.JAVA_LONG, base + PRET_BANI) * segment.get(ValueLayout.JAVA_INT, base + CANTITATE);
+            }
+        }
+        return sum;
+    }
+
+    @Override
+    public synchronized List<Produs> stockBetween(int min, int max) {
+        MemorySegment segment = buffer.segment();
+        List<Produs> result = new ArrayList<>();
+        for (int id = 0; id < limit; id++) {
+            long base = id * RECORD_BYTES;
+            if (isLive(segment, base)) {
+                int cantitate = segment.get(ValueLayout.JAVA_INT, base + CANTITATE);
+                if (cantitate >= min && cantitate <= max) {
+                    result.add(products[id]);
+                }
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public synchronized List<Produs> expiringBetween(int afterDay, int beforeDay, boolean includeMissing) {
+        return dateBetween(ZI_EXPIRARE, afterDay, beforeDay, includeMissing);
+    }
+
+    @Override
+    public synchronized List<Produs> addedAfter(int afterDay, boolean includeMissing) {
+        return dateBetween(ZI_ADAUGARII, afterDay, Integer.MAX_VALUE, includeMissing);
+    }
+
+    private List<Produs> dateBetween(long field, int afterDay, int beforeDay, boolean includeMissing) {
+        MemorySegment segment = buffer.segment();
+        List<Produs> result = new ArrayList<>();
+        for (int id = 0; id < limit; id++) {
+            long base = id * RECORD_BYTES;
+            if (!isLive(segment, base)) {
+                continue;
+            }
+            int day = segment.get(ValueLayout.JAVA_INT, base + field);
+            if (day == Produs.NO_DATE ? includeMissing : day > afterDay && day < beforeDay) {
+                result.add(products[id]);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public synchronized double averageRating() {
+        MemorySegment segment = buffer.segment();
+        double sum = 0;
+        long count = 0;
+        for (long base = 0, end = limit * RECORD_BYTES; base < end; base += RECORD_BYTES) {
+            if (isLive(segment, base)) {
+                sum += segment.get(ValueLayout.JAVA_DOUBLE, base + RATING_SUM);
+                count += segment.get(ValueLayout.JAVA_INT, base + NR_RATINGURI);
+            }
+        }
+        return count == 0 ? 0 : sum / count;
+    }
+
+    @Override
+    public synchronized long totalPurchases() {
+        MemorySegment segment = buffer.segment();
+        long total = 0;
+        for (long base = 0, end = limit * RECORD_BYTES; base < end; base += RECORD_BYTES) {
+            if (isLive(segment, base)) {
+                total += segment.get(ValueLayout.JAVA_INT, base + NUMAR_CUMPARARI);
+            }
+        }
+        return total;
+    }
+}
@@ -0,0 +1,67 @@
+package com.products.Product;
+
+import java.util.List;
+
+/**
+ * Depozit pe coloane al câmpurilor numerice din catalog, sincronizat cu produsele prin evenimentele catalogului.
+ * Rapoartele folosesc scanările de aici în locul parcurgerii listei de produse.
+ * Implementarea implicită păstrează coloanele în vectori din heap; în modul off-heap acestea stau
+ * într-o zonă de memorie din afara heap-ului.
+ */
+public interface ProductColumns extends CatalogListener {
+
+    /**
+     * Returnează produsul cu identificatorul dat.
+     *
+     * @param id Identificatorul produsului
+     * @return Produs Produsul găsit sau null dacă nu există în catalog
+     */
+    Produs get(int id);
+
+    /** @return Numărul de produse din catalog */
+    int count();
+
+    /** @return Suma exactă a prețurilor tuturor produselor din catalog, în bani */
+    long sumPretBani();
+
+    /** @return Valoarea exactă a stocului (prețuri înmulțite cu cantitățile disponibile), în bani */
+    long stockValueBani();
+
+    /**
+     * Returnează produsele cu cantitatea disponibilă în intervalul [min, max].
+     *
+     * @param min Cantitatea minimă
+     * @param max Cantitatea maximă
+     * @return List&lt;Produs&gt; Produsele găsite, în ordinea identificatorilor
+     */
+    List<Produs> stockBetween(int min, int max);
+
+    /**
+     * Returnează produsele care expiră strict între cele două zile epocale.
+     *
+     * @param afterDay Ziua după care expiră produsele
+     * @param beforeDay Ziua înainte de care expiră produsele
+     * @param includeMissing true pentru a include și produsele fără dată validă de expirare
+     * @return List&lt;Produs&gt; Produsele găsite, în ordinea identificatorilor
+     */
+    List<Produs> expiringBetween(int afterDay, int beforeDay, boolean includeMissing);
+
+    /**
+     * Returnează produsele adăugate strict după ziua epocală dată.
+     *
+     * @param afterDay Ziua după care au fost adăugate produsele
+     * @param includeMissing true pentru a include și produsele fără dată validă de adăugare
+     * @return List&lt;Produs&gt; Produsele găsite, în ordinea identificatorilor
+     */
+    List<Produs> addedAfter(int afterDay, boolean includeMissing);
+
+    /**
+     * Returnează ratingul mediu al tuturor ratingurilor primite de produsele din catalog.
+     *
+     * @return double Media ratingurilor (0 dacă nu există ratinguri)
+     */
+    double averageRating();
+
+    /** @return Numărul total de cumpărări ale produselor din catalog */
+    long totalPurchases();
+}
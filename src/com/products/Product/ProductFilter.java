@@ -0,0 +1,112 @@
+package com.products.Product;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+
+/**
+ * Criteriile de filtrare a catalogului: text căutat, interval de preț, rating minim și disponibilitate.
+ * Filtrul pornește de la cel mai selectiv index disponibil (căutarea textuală sau indexul de preț,
+ * rating ori stoc) și verifică celelalte criterii doar pentru candidații obținuți.
+ * Obiectele sunt imuabile, deci pot fi aplicate pe un fir separat.
+ */
+public final class ProductFilter {
+    /** Numărul de candidați verificați între două verificări ale întreruperii */
+    private static final int CANCEL_CHECK_INTERVAL = 1024;
+
+    private final String text;
+    private final Double minPret;
+    private final Double maxPret;
+    private final double minRating;
+    private final boolean inStockOnly;
+
+    /**
+     * Construiește un filtru.
+     *
+     * @param text Textul căutat în nume și descriere; gol pentru orice text
+     * @param minPret Prețul minim, în lei, sau null
+     * @param maxPret Prețul maxim, în lei, sau null
+     * @param minRating Ratingul minim; 0 pentru orice rating
+     * @param inStockOnly true pentru a păstra doar produsele aflate pe stoc
+     */
+    public ProductFilter(String text, Double minPret, Double maxPret, double minRating, boolean inStockOnly) {
+        this.text = text == null ? "" : text.trim();
+        this.minPret = minPret;
+        this.maxPret = maxPret;
+        this.minRating = minRating;
+        this.inStockOnly = inStockOnly;
+    }
+
+    /** @return true dacă filtrul nu exclude niciun produs */
+    public boolean isEmpty() {
+        return text.isEmpty() && minPret == null && maxPret == null && minRating <= 0 && !inStockOnly;
+    }
+
+    /**
+     * Indică dacă modificarea câmpului dat al unui produs îi poate schimba rezultatul la acest filtru.
+     *
+     * @param camp Câmpul modificat
+     * @return true dacă filtrul are un criteriu pe acest câmp
+     */
+    public boolean dependsOn(CampProdus camp) {
+        switch (camp) {
+            case NUME:
+            case DESCRIERE:
+                return !text.isEmpty();
+            case PRET:
+                return minPret != null || maxPret != null;
+            case RATING:
+                return minRating > 0;
+            case CANTITATE_DISPONIBILA:
+                return inStockOnly;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Aplică filtrul asupra catalogului. Dacă firul curent este întrerupt în timpul filtrării,
+     * aceasta se oprește cu CancellationException.
+     *
+     * @param catalog Catalogul filtrat
+     * @return List&lt;Produs&gt; Produsele care îndeplinesc toate criteriile
+     */
+    public List<Produs> apply(Catalog catalog) {
+        if (isEmpty()) {
+            return catalog.snapshot();
+        }
+
+        List<Produs> candidates;
+        if (!text.isEmpty()) {
+            candidates = catalog.getSearchIndex().search(text, Integer.MAX_VALUE);
+        } else if (minPret != null || maxPret != null) {
+            candidates = catalog.getIndex().priceBetween(
+                    minPret != null ? minPret : Double.NEGATIVE_INFINITY,
+                    maxPret != null ? maxPret : Double.POSITIVE_INFINITY);
+        } else if (minRating > 0) {
+            candidates = catalog.getIndex().ratingAtLeast(minRating);
+        } else {
+            candidates = catalog.getIndex().inStock();
+        }
+
+        List<Produs> result = new ArrayList<>();
+        for (int i = 0; i < candidates.size(); i++) {
+            if (i % CANCEL_CHECK_INTERVAL == 0 && Thread.currentThread().isInterrupted()) {
+                throw new CancellationException("Filtrarea a fost anulată");
+            }
+            Produs produs = candidates.get(i);
+            if (matches(produs)) {
+                result.add(produs);
+            }
+        }
+        return result;
+    }
+
+    private boolean matches(Produs produs) {
+        double pret = produs.getPret();
+        return (minPret == null || pret >= minPret)
+                && (maxPret == null || pret <= maxPret)
+                && produs.getRating() >= minRating
+                && (!inStockOnly || produs.getCantitateDisponibila() > 0);
+    }
+}
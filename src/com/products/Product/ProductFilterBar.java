@@ -0,0 +1,182 @@
+package com.products.Product;
+
+import com.products.ControllersManipulation;
+import javafx.animation.PauseTransition;
+import javafx.application.Platform;
+import javafx.geometry.Pos;
+import javafx.scene.control.CheckBox;
+import javafx.scene.control.ComboBox;
+import javafx.scene.control.Label;
+import javafx.scene.control.TextField;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.Priority;
+import javafx.util.Duration;
+
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+/**
+ * Bara de filtrare a produselor: text, interval de preț, rating minim și disponibilitate.
+ * Modificările sunt grupate (debounce), iar filtrarea rulează pe un fir separat; o modificare nouă
+ * anulează filtrarea în curs. Rezultatul ultimei filtrări este predat pe firul JavaFX, dintr-o dată.
+ */
+public class ProductFilterBar {
+    /** Intervalul de liniște după care se aplică filtrul */
+    private static final Duration DEBOUNCE = Duration.millis(250);
+
+    /** Etichetele ratingului minim; poziția etichetei este ratingul minim */
+    private static final List<String> RATING_LABELS = List.of("Orice rating", "≥ 1 stea", "≥ 2 stele", "≥ 3 stele", "≥ 4 stele");
+
+    private final Catalog catalog;
+    private final Consumer<List<Produs>> onResults;
+
+    private final HBox bar = new HBox(10);
+    private TextField searchField;
+    private final TextField minPretField = new TextField();
+    private final TextField maxPretField = new TextField();
+    private final ComboBox<String> ratingBox = new ComboBox<>();
+    private final CheckBox inStockBox = new CheckBox("Doar pe stoc");
+
+    private final PauseTransition debounce = new PauseTransition(DEBOUNCE);
+
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "product-filter");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** Filtrarea în curs, anulată la următoarea modificare */
+    private Future<?> running;
+
+    /** Numărul ultimei filtrări pornite; rezultatele filtrărilor mai vechi sunt ignorate */
+    private long generation;
+
+    private ProductFilterBar(Catalog catalog, Consumer<List<Produs>> onResults) {
+        this.catalog = catalog;
+        this.onResults = onResults;
+
+        minPretField.setPromptText("Preț minim");
+        maxPretField.setPromptText("Preț maxim");
+        minPretField.setPrefWidth(90);
+        maxPretField.setPrefWidth(90);
+
+        ratingBox.getItems().setAll(RATING_LABELS);
+        ratingBox.getSelectionModel().selectFirst();
+
+        bar.setAlignment(Pos.CENTER_LEFT);
+    }
+
+    /**
+     * Construiește bara de filtrare și îi conectează câmpurile la filtrare.
+     *
+     * @param catalog Catalogul filtrat
+     * @param onResults Acțiunea apelată pe firul JavaFX cu produsele filtrate
+     * @return ProductFilterBar Bara de filtrare
+     */
+    public static ProductFilterBar create(Catalog catalog, Consumer<List<Produs>> onResults) {
+        ProductFilterBar filterBar = new ProductFilterBar(catalog, onResults);
+        filterBar.connect();
+        return filterBar;
+    }
+
+    /**
+     * Creează câmpul de căutare și înregistrează ascultătorii care programează filtrarea.
+     * Apelată după construire, astfel încât ascultătorii nu primesc o bară incomplet inițializată.
+     */
+    private void connect() {
+        searchField = new ControllersManipulation().createSearchField(catalog.getSearchIndex(), text -> schedule());
+        HBox.setHgrow(searchField, Priority.ALWAYS);
+
+        minPretField.textProperty().addListener((observable, oldText, text) -> schedule());
+        maxPretField.textProperty().addListener((observable, oldText, text) -> schedule());
+        ratingBox.valueProperty().addListener((observable, oldValue, value) -> schedule());
+        inStockBox.selectedProperty().addListener((observable, oldValue, value) -> schedule());
+
+        debounce.setOnFinished(e -> refresh());
+
+        bar.getChildren().addAll(searchField, minPretField, new Label("–"), maxPretField, ratingBox, inStockBox);
+    }
+
+    /** @return Nodul barei de filtrare */
+    public HBox getNode() {
+        return bar;
+    }
+
+    /**
+     * Aplică filtrul după intervalul de liniște; fiecare apel amână aplicarea.
+     */
+    public void schedule() {
+        debounce.playFromStart();
+    }
+
+    /**
+     * Aplică imediat filtrul curent, pe firul de filtrare, anulând filtrarea în curs.
+     * Trebuie apelată pe firul JavaFX.
+     */
+    public void refresh() {
+        debounce.stop();
+        if (running != null) {
+            running.cancel(true);
+        }
+        if (worker.isShutdown()) {
+            return;
+        }
+        ProductFilter filter = currentFilter();
+        long current = ++generation;
+        running = worker.submit(() -> {
+            try {
+                List<Produs> produse = filter.apply(catalog);
+                Platform.runLater(() -> {
+                    if (current == generation) {
+                        onResults.accept(produse);
+                    }
+                });
+            } catch (CancellationException ignored) {
+                // O filtrare mai nouă a fost deja pornită
+            }
+        });
+    }
+
+    /**
+     * Indică dacă modificarea câmpului dat al unui produs poate schimba rezultatele filtrului curent.
+     *
+     * @param camp Câmpul modificat
+     * @return true dacă filtrul curent are un criteriu pe acest câmp
+     */
+    public boolean dependsOn(CampProdus camp) {
+        return currentFilter().dependsOn(camp);
+    }
+
+    /**
+     * Oprește filtrarea, de exemplu la închiderea ferestrei.
+     */
+    public void close() {
+        debounce.stop();
+        worker.shutdownNow();
+    }
+
+    private ProductFilter currentFilter() {
+        int rating = Math.max(0, ratingBox.getSelectionModel().getSelectedIndex());
+        return new ProductFilter(searchField.getText(), parsePret(minPretField), parsePret(maxPretField),
+                rating, inStockBox.isSelected());
+    }
+
+    /**
+     * Citește un preț din câmpul dat; un câmp gol sau invalid nu limitează prețul.
+     */
+    private static Double parsePret(TextField field) {
+        String text = field.getText().trim().replace(',', '.');
+        if (text.isEmpty()) {
+            return null;
+        }
+        try {
+            return Double.parseDouble(text);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
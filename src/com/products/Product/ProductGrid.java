@@ -0,0 +1,284 @@
+package com.products.Product;
+
+import javafx.application.Platform;
+import javafx.collections.ObservableListBase;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.StackPane;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Grilă virtualizată de carduri de produs. Produsele sunt împărțite în rânduri de lungime fixă,
+ * afișate într-un ListView: doar rândurile vizibile au noduri, iar la derulare rândurile ieșite
+ * din ecran sunt refolosite și cardurile lor sunt legate la produsele noi.
+ * Numărul de noduri și timpul unui cadru nu depind astfel de dimensiunea catalogului.
+ * Legată la un catalog, grila se actualizează din evenimentele acestuia: un produs modificat
+ * actualizează doar cardul care îl afișează, iar la adăugări și ștergeri sunt anunțate ca modificate
+ * doar rândurile de la prima diferență încolo.
+ */
+public class ProductGrid {
+    /** Numărul de carduri pe rând */
+    private final int columns;
+
+    /** Fabrica de carduri, apelată doar la crearea unui rând nou */
+    private final Supplier<? extends BaseProductCard> cardFactory;
+
+    /** Lista virtualizată a rândurilor */
+    private final ListView<List<Produs>> listView = new ListView<>();
+
+    /** Stilul aplicat fiecărei poziții de card; null pentru niciun stil */
+    private String slotStyle;
+
+    /** Rândurile afișate, calculate din lista de produse */
+    private final Rows rows = new Rows();
+
+    /** Cardurile create de grilă; numărul lor depinde doar de rândurile vizibile */
+    private final List<BaseProductCard> cards = new ArrayList<>();
+
+    /** Catalogul la care este legată grila și ascultătorul înregistrat la acesta */
+    private Catalog catalog;
+    private CatalogListener catalogListener;
+
+    /**
+     * Construiește o grilă goală.
+     *
+     * @param columns Numărul de carduri pe rând
+     * @param cardFactory Fabrica de carduri
+     */
+    public ProductGrid(int columns, Supplier<? extends BaseProductCard> cardFactory) {
+        this.columns = columns;
+        this.cardFactory = cardFactory;
+        listView.setStyle("-fx-background-color: linear-gradient(to bottom right, #f8bbd0, #f48fb1);");
+        listView.setFocusTraversable(false);
+        listView.setCellFactory(view -> new RowCell());
+        listView.setItems(rows);
+    }
+
+    /**
+     * Setează stilul fiecărei poziții de card, de exemplu un chenar în jurul cardului.
+     * Trebuie apelată înainte de afișarea grilei.
+     *
+     * @param slotStyle Stilul CSS al pozițiilor
+     */
+    public void setSlotStyle(String slotStyle) {
+        this.slotStyle = slotStyle;
+    }
+
+    /** @return Nodul grilei, care se derulează singur */
+    public ListView<List<Produs>> getNode() {
+        return listView;
+    }
+
+    /** @return Produsele afișate în prezent */
+    public List<Produs> getProducts() {
+        return rows.produse;
+    }
+
+    /**
+     * Afișează produsele date. Lista este doar referită: rândurile sunt vederi asupra ei,
+     * calculate la cerere, astfel încât nu se alocă nimic proporțional cu numărul de produse.
+     * Față de lista anterioară sunt anunțate ca modificate doar rândurile de la prima diferență.
+     *
+     * @param produse Produsele afișate, care nu trebuie modificate cât timp sunt afișate
+     */
+    public void setProducts(List<Produs> produse) {
+        rows.replace(produse);
+    }
+
+    /**
+     * Actualizează cardul care afișează produsul dat, dacă acesta este vizibil.
+     *
+     * @param produs Produsul modificat
+     */
+    public void updateProduct(Produs produs) {
+        for (BaseProductCard card : cards) {
+            if (card.getProdus() == produs) {
+                card.update();
+            }
+        }
+    }
+
+    /**
+     * Leagă grila la catalog: produsele adăugate sau eliminate reîncarcă lista dată de sursă,
+     * iar produsele modificate actualizează doar cardul lor (lista este reîncărcată și când se schimbă
+     * numele sau descrierea, care pot schimba rezultatele unei căutări). Evenimentele primite pe alte fire
+     * sunt aplicate pe firul JavaFX.
+     *
+     * @param catalog Catalogul urmărit
+     * @param source Sursa listei afișate, de exemplu versiunea curentă a catalogului sau rezultatul unei căutări
+     */
+    public void attach(Catalog catalog, Supplier<List<Produs>> source) {
+        attach(catalog, () -> setProducts(source.get()));
+    }
+
+    /**
+     * Leagă grila la catalog, ca {@link #attach(Catalog, Supplier)}, dar lista este reîncărcată
+     * de acțiunea dată, care apelează ulterior setProducts, de exemplu după o filtrare pe alt fir.
+     *
+     * @param catalog Catalogul urmărit
+     * @param reload Acțiunea de reîncărcare a listei, apelată pe firul JavaFX
+     */
+    public void attach(Catalog catalog, Runnable reload) {
+        attach(catalog, reload, camp -> camp == CampProdus.NUME || camp == CampProdus.DESCRIERE);
+    }
+
+    /**
+     * Leagă grila la catalog, ca {@link #attach(Catalog, Runnable)}, dar lista este reîncărcată
+     * la modificarea câmpurilor indicate, de exemplu cele după care filtrează bara de filtrare activă.
+     *
+     * @param catalog Catalogul urmărit
+     * @param reload Acțiunea de reîncărcare a listei, apelată pe firul JavaFX
+     * @param reloadOn Câmpurile a căror modificare poate schimba lista afișată; evaluat pe firul JavaFX
+     */
+    public void attach(Catalog catalog, Runnable reload, Predicate<CampProdus> reloadOn) {
+        detach();
+        this.catalog = catalog;
+        this.catalogListener = new CatalogListener() {
+            @Override
+            public void onProductAdded(Produs produs) {
+                onFxThread(reload);
+            }
+
+            @Override
+            public void onProductRemoved(Produs produs) {
+                onFxThread(reload);
+            }
+
+            @Override
+            public void onProductChanged(Produs produs, CampProdus camp, Object valoareVeche) {
+                onFxThread(() -> {
+                    if (reloadOn.test(camp)) {
+                        // Produsul modificat poate intra sau ieși din lista afișată
+                        reload.run();
+                    }
+                    updateProduct(produs);
+                });
+            }
+        };
+        catalog.addListener(catalogListener);
+        reload.run();
+    }
+
+    /**
+     * Oprește urmărirea catalogului, de exemplu la închiderea ferestrei grilei.
+     */
+    public void detach() {
+        if (catalog != null) {
+            catalog.removeListener(catalogListener);
+            catalog = null;
+            catalogListener = null;
+        }
+    }
+
+    private static void onFxThread(Runnable action) {
+        if (Platform.isFxApplicationThread()) {
+            action.run();
+        } else {
+            Platform.runLater(action);
+        }
+    }
+
+    /**
+     * Lista observabilă a rândurilor. Rândurile sunt vederi asupra listei de produse,
+     * iar la înlocuirea listei sunt anunțate doar rândurile afectate.
+     */
+    private final class Rows extends ObservableListBase<List<Produs>> {
+        private List<Produs> produse = List.of();
+
+        @Override
+        public List<Produs> get(int row) {
+            return rowOf(produse, row);
+        }
+
+        @Override
+        public int size() {
+            return rowCount(produse);
+        }
+
+        private void replace(List<Produs> newProduse) {
+            List<Produs> old = produse;
+            int common = Math.min(old.size(), newProduse.size());
+            int firstDifference = 0;
+            while (firstDifference < common && old.get(firstDifference) == newProduse.get(firstDifference)) {
+                firstDifference++;
+            }
+            produse = newProduse;
+            if (firstDifference == old.size() && firstDifference == newProduse.size()) {
+                return;
+            }
+
+            int oldRows = rowCount(old);
+            int newRows = rowCount(newProduse);
+            beginChange();
+            for (int row = firstDifference / columns; row < Math.min(oldRows, newRows); row++) {
+                nextUpdate(row);
+            }
+            if (newRows > oldRows) {
+                nextAdd(oldRows, newRows);
+            } else if (newRows < oldRows) {
+                List<List<Produs>> removed = new ArrayList<>(oldRows - newRows);
+                for (int row = newRows; row < oldRows; row++) {
+                    removed.add(rowOf(old, row));
+                }
+                nextRemove(newRows, removed);
+            }
+            endChange();
+        }
+
+        private List<Produs> rowOf(List<Produs> list, int row) {
+            return list.subList(row * columns, Math.min(list.size(), (row + 1) * columns));
+        }
+
+        private int rowCount(List<Produs> list) {
+            return (list.size() + columns - 1) / columns;
+        }
+    }
+
+    /** Rândul refolosit al grilei, cu câte o poziție de card pentru fiecare coloană */
+    private final class RowCell extends ListCell<List<Produs>> {
+        private final HBox row = new HBox(10);
+        private final StackPane[] slots = new StackPane[columns];
+        private final BaseProductCard[] cards = new BaseProductCard[columns];
+
+        private RowCell() {
+            setStyle("-fx-background-color: transparent; -fx-padding: 5;");
+            for (int i = 0; i < columns; i++) {
+                slots[i] = new StackPane();
+                if (slotStyle != null) {
+                    slots[i].setStyle(slotStyle);
+                }
+                slots[i].prefWidthProperty().bind(listView.widthProperty().subtract(30 + 10 * columns).divide(columns));
+                slots[i].setMinWidth(0);
+                row.getChildren().add(slots[i]);
+            }
+        }
+
+        @Override
+        protected void updateItem(List<Produs> item, boolean empty) {
+            super.updateItem(item, empty);
+            if (empty || item == null) {
+                setGraphic(null);
+                return;
+            }
+            for (int i = 0; i < columns; i++) {
+                if (i < item.size()) {
+                    if (cards[i] == null) {
+                        cards[i] = cardFactory.get();
+                        ProductGrid.this.cards.add(cards[i]);
+                        slots[i].getChildren().add(cards[i].getNode());
+                    }
+                    cards[i].bind(item.get(i));
+                    slots[i].setVisible(true);
+                } else {
+                    slots[i].setVisible(false);
+                }
+            }
+            setGraphic(row);
+        }
+    }
+}
@@ -0,0 +1,306 @@
+package com.products.Product;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Index inversat pentru căutarea în textul produselor (nume și descriere).
+ * Termenii sunt normalizați: litere mici și diacritice românești eliminate (ă, â → a, î → i, ș → s, ț → t),
+ * astfel încât "paine" găsește "Pâine". Pentru fiecare termen, identificatorii produselor sunt păstrați
+ * într-un vector sortat de int-uri. Ultimul cuvânt din interogare este tratat ca prefix, pentru căutare
+ * în timp ce utilizatorul tastează. Indexul este actualizat incremental la modificarea catalogului.
+ */
+public class ProductSearchIndex implements CatalogListener {
+    /** Sub acest număr de candidați, prefixul este verificat direct pe termenii fiecărui produs */
+    private static final int SMALL_CANDIDATE_SET = 4096;
+
+    /** Lista de identificatori (sortată crescător) a produselor care conțin un termen */
+    private static final class Postings {
+        private int[] ids = new int[2];
+        private int size;
+
+        void add(int id) {
+            if (size > 0 && ids[size - 1] < id) {
+                ensureCapacity();
+                ids[size++] = id;
+                return;
+            }
+            int pos = Arrays.binarySearch(ids, 0, size, id);
+            if (pos >= 0) {
+                return;
+            }
+            pos = -pos - 1;
+            ensureCapacity();
+            System.arraycopy(ids, pos, ids, pos + 1, size - pos);
+            ids[pos] = id;
+            size++;
+        }
+
+        void remove(int id) {
+            int pos = Arrays.binarySearch(ids, 0, size, id);
+            if (pos >= 0) {
+                System.arraycopy(ids, pos + 1, ids, pos, size - pos - 1);
+                size--;
+            }
+        }
+
+        private void ensureCapacity() {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size + (size >> 1) + 1);
+            }
+        }
+    }
+
+    /** Termenii indexați, sortați, pentru căutarea după prefix */
+    private final TreeMap<String, Postings> terms = new TreeMap<>();
+
+    /** Produsele indexate, după identificator */
+    private Produs[] products = new Produs[16];
+
+    /** Termenii fiecărui produs indexat, după identificator, pentru reindexare și eliminare */
+    private String[][] productTerms = new String[16][];
+
+    /**
+     * Construiește indexul pentru produsele existente.
+     *
+     * @param produse Produsele din catalog
+     */
+    ProductSearchIndex(List<Produs> produse) {
+        for (Produs produs : produse) {
+            onProductAdded(produs);
+        }
+    }
+
+    @Override
+    public synchronized void onProductAdded(Produs produs) {
+        onProductRemoved(produs);
+        int id = produs.getId();
+        if (id >= products.length) {
+            int capacity = Math.max(id + 1, products.length * 2);
+            products = Arrays.copyOf(products, capacity);
+            productTerms = Arrays.copyOf(productTerms, capacity);
+        }
+        String[] tokens = tokenize(produs.getNume() + " " + produs.getDescriere());
+        for (String token : tokens) {
+            terms.computeIfAbsent(token, t -> new Postings()).add(id);
+        }
+        products[id] = produs;
+        productTerms[id] = tokens;
+    }
+
+    @Override
+    public synchronized void onProductRemoved(Produs produs) {
+        int id = produs.getId();
+        if (id >= products.length || products[id] != produs) {
+            return;
+        }
+        for (String token : productTerms[id]) {
+            Postings postings = terms.get(token);
+            if (postings != null) {
+                postings.remove(id);
+                if (postings.size == 0) {
+                    terms.remove(token);
+                }
+            }
+        }
+        products[id] = null;
+        productTerms[id] = null;
+    }
+
+    @Override
+    public void onProductChanged(Produs produs, CampProdus camp, Object valoareVeche) {
+        if (camp == CampProdus.NUME || camp == CampProdus.DESCRIERE) {
+            synchronized (this) {
+                onProductRemoved(produs);
+                onProductAdded(produs);
+            }
+        }
+    }
+
+    /**
+     * Caută produsele care conțin toate cuvintele interogării; ultimul cuvânt poate fi doar un prefix.
+     *
+     * @param query Textul căutat
+     * @param limit Numărul maxim de rezultate
+     * @return List&lt;Produs&gt; Produsele găsite
+     */
+    public synchronized List<Produs> search(String query, int limit) {
+        String[] tokens = tokenize(query);
+        List<Produs> result = new ArrayList<>();
+        if (tokens.length == 0) {
+            return result;
+        }
+
+        // Cuvintele complete se intersectează direct, pornind de la cea mai scurtă listă,
+        // astfel încât mulțimea candidaților este cât mai mică de la început
+        Postings[] complete = new Postings[tokens.length - 1];
+        for (int t = 0; t < complete.length; t++) {
+            complete[t] = terms.get(tokens[t]);
+            if (complete[t] == null) {
+                return result;
+            }
+        }
+        Arrays.sort(complete, Comparator.comparingInt(postings -> postings.size));
+
+        int[] candidates = null;
+        int candidateCount = 0;
+        for (Postings postings : complete) {
+            if (candidates == null) {
+                candidates = Arrays.copyOf(postings.ids, postings.size);
+                candidateCount = postings.size;
+            } else {
+                candidateCount = intersect(candidates, candidateCount, postings.ids, postings.size);
+            }
+            if (candidateCount == 0) {
+                return result;
+            }
+        }
+
+        String prefix = tokens[tokens.length - 1];
+        Map<String, Postings> prefixTerms = terms.subMap(prefix, true, prefix + Character.MAX_VALUE, false);
+
+        if (candidates == null) {
+            // Doar prefix: se parcurg termenii potriviți până la atingerea limitei
+            long[] seen = new long[(products.length >>> 6) + 1];
+            for (Postings postings : prefixTerms.values()) {
+                for (int i = 0; i < postings.size && result.size() < limit; i++) {
+                    int id = postings.ids[i];
+                    if ((seen[id >>> 6] & (1L << id)) == 0) {
+                        seen[id >>> 6] |= 1L << id;
+                        result.add(products[id]);
+                    }
+                }
+                if (result.size() >= limit) {
+                    break;
+                }
+            }
+        } else if (candidateCount <= SMALL_CANDIDATE_SET) {
+            // Puțini candidați: se verifică direct termenii fiecărui produs
+            for (int i = 0; i < candidateCount && result.size() < limit; i++) {
+                int id = candidates[i];
+                for (String term : productTerms[id]) {
+                    if (term.startsWith(prefix)) {
+                        result.add(products[id]);
+                        break;
+                    }
+                }
+            }
+        } else {
+            // Mulți candidați: prefixul se transformă într-o mulțime de biți
+            long[] prefixBits = new long[(products.length >>> 6) + 1];
+            for (Postings postings : prefixTerms.values()) {
+                for (int i = 0; i < postings.size; i++) {
+                    int id = postings.ids[i];
+                    prefixBits[id >>> 6] |= 1L << id;
+                }
+            }
+            for (int i = 0; i < candidateCount && result.size() < limit; i++) {
+                int id = candidates[i];
+                if ((prefixBits[id >>> 6] & (1L << id)) != 0) {
+                    result.add(products[id]);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Sugerează termeni care încep cu ultimul cuvânt al textului dat, ordonați după numărul de produse.
+     *
+     * @param text Textul tastat până acum
+     * @param limit Numărul maxim de sugestii
+     * @return List&lt;String&gt; Termenii sugerați, normalizați
+     */
+    public synchronized List<String> autocomplete(String text, int limit) {
+        String[] tokens = tokenize(text);
+        List<String> suggestions = new ArrayList<>();
+        if (tokens.length == 0) {
+            return suggestions;
+        }
+        String prefix = tokens[tokens.length - 1];
+        List<Map.Entry<String, Postings>> matches = new ArrayList<>();
+        for (Map.Entry<String, Postings> entry : terms.subMap(prefix, true, prefix + Character.MAX_VALUE, false).entrySet()) {
+            matches.add(entry);
+            if (matches.size() >= limit * 50) {
+                break;
+            }
+        }
+        matches.sort((a, b) -> Integer.compare(b.getValue().size, a.getValue().size));
+        for (int i = 0; i < matches.size() && i < limit; i++) {
+            suggestions.add(matches.get(i).getKey());
+        }
+        return suggestions;
+    }
+
+    /**
+     * Păstrează în primul vector doar identificatorii prezenți și în al doilea.
+     *
+     * @return int Numărul de identificatori rămași
+     */
+    private static int intersect(int[] a, int aSize, int[] b, int bSize) {
+        int i = 0, j = 0, k = 0;
+        while (i < aSize && j < bSize) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                a[k++] = a[i++];
+                j++;
+            }
+        }
+        return k;
+    }
+
+    /**
+     * Împarte textul în termeni normalizați, unici, eliminând diacriticele românești.
+     *
+     * @param text Textul de împărțit
+     * @return String[] Termenii găsiți, în ordinea apariției
+     */
+    static String[] tokenize(String text) {
+        if (text == null) {
+            return new String[0];
+        }
+        List<String> tokens = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        for (int i = 0; i <= text.length(); i++) {
+            char c = i < text.length() ? fold(text.charAt(i)) : ' ';
+            if (Character.isLetterOrDigit(c)) {
+                current.append(c);
+            } else if (current.length() > 0) {
+                String token = current.toString();
+                if (!tokens.contains(token)) {
+                    tokens.add(token);
+                }
+                current.setLength(0);
+            }
+        }
+        return tokens.toArray(new String[0]);
+    }
+
+    /**
+     * Transformă un caracter în literă mică, fără diacritice românești.
+     *
+     * @param c Caracterul de normalizat
+     * @return char Caracterul normalizat
+     */
+    static char fold(char c) {
+        switch (c) {
+            case 'ă': case 'Ă': case 'â': case 'Â':
+                return 'a';
+            case 'î': case 'Î':
+                return 'i';
+            case 'ș': case 'Ș': case 'ş': case 'Ş':
+                return 's';
+            case 'ț': case 'Ț': case 'ţ': case 'Ţ':
+                return 't';
+            default:
+                return c < 128 ? (char) (c | ((c >= 'A' && c <= 'Z') ? 0x20 : 0)) : Character.toLowerCase(c);
+        }
+    }
+}
@@ -9,22 +9,22 @@ import javafx.scene.control.*;
 import javafx.scene.layout.GridPane;
 import javafx.stage.Stage;
 import java.time.LocalDate;
-import java.util.List;
 
 /**
  * Clasa ProductView gestionează interfața utilizator pentru adăugarea și actualizarea produselor.
  */
 public class ProductView {
-    private List<Produs> produse;
+    private Catalog catalog;
     private AdminView adminView;
     /**
      * Constructorul clasei ProductView.
      *
-     * @param produse lista de produse gestionate.
-     * @param adminView instanța AdminView pentru a actualiza interfața.
+     * @param catalog catalogul de produse gestionat.
+     * @param adminView instanța AdminView căreia îi aparține vizualizarea; grila acesteia se actualizează
+     *                  singură din evenimentele catalogului.
      */
-    public ProductView(List<Produs> produse, AdminView adminView) {
-        this.produse = produse;
+    public ProductView(Catalog catalog, AdminView adminView) {
+        this.catalog = catalog;
         this.adminView = adminView;
     }
     /**
@@ -50,7 +50,6 @@ public class ProductView {
                 addNewProduct(numeField, descriereField, pret, cantitate, dateExpirarePicker, dataCurenta);
                 Alert.showAlert("Informare", "Produsul a fost adăugat cu succes!", "INFORMATION");
             }
-            adminView.refreshProductGrid();
             ((Stage) numeField.getScene().getWindow()).close();
         } catch (NumberFormatException ex) {
             Alert.showAlert("Eroare", "Introdu valori numerice valide pentru preț și cantitate.", "ERROR");
@@ -77,11 +76,10 @@ public class ProductView {
         produs.setPret(pret);
         produs.setCantitateDisponibila(cantitate);
         produs.setDataExpirare(dateExpirarePicker.getValue() != null ? dateExpirarePicker.getValue().toString() : "");
-        adminView.refreshProductGrid();
     }
 
     /**
-     * Adaugă un produs nou în lista de produse.
+     * Adaugă un produs nou în catalog.
      *
      * @param numeField câmpul pentru numele produsului.
      * @param descriereField câmpul pentru descrierea produsului.
@@ -93,8 +91,7 @@ public class ProductView {
     private void addNewProduct(TextField numeField, TextField descriereField, double pret, int cantitate, DatePicker dateExpirarePicker, String dataCurenta) {
         Produs newProdus = new Produs(pret, descriereField.getText(), cantitate, numeField.getText(), dataCurenta,
                 dateExpirarePicker.getValue() != null ? dateExpirarePicker.getValue().toString() : "", 0, 0, 0);
-        produse.add(newProdus);
-        adminView.refreshProductGrid();
+        catalog.add(newProdus);
     }
 
     /**
@@ -146,20 +143,6 @@ public class ProductView {
                 -fx-font-size: 13px;
                 """;
 
-        String buttonStyle = """
-                -fx-background-color: #ec407a;
-                -fx-text-fill: white;
-                -fx-font-weight: bold;
-                -fx-padding: 10 20;
-                -fx-background-radius: 5;
-                -fx-cursor: hand;
-                """;
-
-        String buttonHoverStyle = """
-                -fx-background-color: #d81b60;
-                -fx-effect: dropshadow(gaussian, rgba(0,0,0,0.2), 5, 0, 0, 1);
-                """;
-
         TextField numeField = new TextField(produs != null ? produs.getNume() : "");
         TextField descriereField = new TextField(produs != null ? produs.getDescriere() : "");
         TextField pretField = new TextField(produs != null ? String.valueOf(produs.getPret()) : "");
@@ -185,9 +168,7 @@ public class ProductView {
         dateExpirarePicker.setStyle(inputStyle);
 
         Button saveButton = new Button("Salvează");
-        saveButton.setStyle(buttonStyle);
-        saveButton.setOnMouseEntered(e -> saveButton.setStyle(buttonStyle + buttonHoverStyle));
-        saveButton.setOnMouseExited(e -> saveButton.setStyle(buttonStyle));
+        saveButton.getStyleClass().add("form-button");
 
         formLayout.add(numeLabel, 0, 0);
         formLayout.add(numeField, 1, 0);
@@ -212,9 +193,8 @@ public class ProductView {
      * @param produs produsul existent (poate fi null).
      */
 public void deleteProduct(Produs produs) {
-        produse.remove(produs);
+        catalog.remove(produs);
         Alert.showAlert("Informare","Produsul a fost eliminat cu succes!","INFORMATION");
-        adminView.refreshProductGrid();
     }
 
     /**
@@ -241,7 +221,6 @@ public void deleteProduct(Produs produs) {
         alert.showAndWait().ifPresent(response -> {
             if (response == ButtonType.OK) {
                 this.deleteProduct(produs);
-                adminView.refreshProductGrid();
             }
         });
     }
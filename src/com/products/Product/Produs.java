@@ -1,5 +1,9 @@
 package com.products.Product;
 
+import com.products.Money;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+
 /**
  * Clasa Produs reprezintă un produs din cadrul unui magazin online.
  * Aceasta include informații despre preț, descriere, cantitatea disponibilă,
@@ -7,8 +11,14 @@ package com.products.Product;
  */
 public class Produs {
 
-    /** Prețul produsului */
-    private double pret;
+    /** Ziua epocală folosită pentru o dată lipsă sau invalidă */
+    public static final int NO_DATE = Integer.MIN_VALUE;
+
+    /** Identificatorul produsului în catalog (0 dacă nu a fost încă atribuit) */
+    private int id;
+
+    /** Prețul produsului, în bani */
+    private long pretBani;
 
     /** Descrierea produsului */
     private String descriere;
@@ -25,6 +35,12 @@ public class Produs {
     /** Data expirării produsului, în format "yyyy-MM-dd" */
     private String dataExpirare;
 
+    /** Data adăugării, ca număr de zile de la 1970-01-01 (NO_DATE dacă lipsește sau este invalidă) */
+    private int ziAdaugarii;
+
+    /** Data expirării, ca număr de zile de la 1970-01-01 (NO_DATE dacă lipsește sau este invalidă) */
+    private int ziExpirare;
+
     /** Ratingul mediu al produsului */
     private double rating;
 
@@ -34,6 +50,9 @@ public class Produs {
     /** Numărul de ori când produsul a fost cumpărat */
     private int numarCumparari;
 
+    /** Ascultătorul notificat la modificarea produsului (catalogul din care face parte) */
+    private volatile ProdusListener listener;
+
     /**
      * Constructor pentru crearea unui nou produs.
      *
@@ -49,25 +68,71 @@ public class Produs {
      */
     public Produs(double pret, String descriere, int cantitateDisponibila, String nume,
                   String dataAdaugarii, String dataExpirare, double rating, int numarCumparari, int nrRatinguri) {
-        this.pret = pret;
+        this.pretBani = Money.fromLei(pret);
         this.descriere = descriere;
         this.cantitateDisponibila = cantitateDisponibila;
         this.nume = nume;
         this.dataAdaugarii = dataAdaugarii;
         this.dataExpirare = dataExpirare;
+        this.ziAdaugarii = parseEpochDay(dataAdaugarii);
+        this.ziExpirare = parseEpochDay(dataExpirare);
         this.rating = rating;
         this.numarCumparari = numarCumparari;
         this.nrRatinguri = nrRatinguri;
     }
 
-    /** @return Prețul produsului */
-    public double getPret() { return pret; }
+    /**
+     * Constructor pentru un produs existent, cu identificatorul său din catalog.
+     *
+     * @param id Identificatorul produsului (0 dacă nu are încă unul)
+     * @param pret Prețul produsului
+     * @param descriere Descrierea produsului
+     * @param cantitateDisponibila Cantitatea disponibilă în stoc
+     * @param nume Numele produsului
+     * @param dataAdaugarii Data adăugării produsului în stoc
+     * @param dataExpirare Data expirării produsului
+     * @param rating Ratingul inițial al produsului
+     * @param numarCumparari Numărul de cumpărări ale produsului
+     * @param nrRatinguri Numărul de ratinguri primite
+     */
+    public Produs(int id, double pret, String descriere, int cantitateDisponibila, String nume,
+                  String dataAdaugarii, String dataExpirare, double rating, int numarCumparari, int nrRatinguri) {
+        this(pret, descriere, cantitateDisponibila, nume, dataAdaugarii, dataExpirare, rating, numarCumparari, nrRatinguri);
+        this.id = id;
+    }
+
+    /** @return Identificatorul produsului în catalog (0 dacă nu a fost încă atribuit) */
+    public int getId() { return id; }
+
+    /**
+     * Setează identificatorul produsului; folosit de catalog la adăugarea produsului.
+     * @param id Noul identificator
+     */
+    void setId(int id) { this.id = id; }
+
+    /** @return Prețul produsului, în lei */
+    public double getPret() { return Money.toLei(pretBani); }
+
+    /** @return Prețul produsului, în bani */
+    public long getPretBani() { return pretBani; }
 
     /**
      * Setează prețul produsului.
-     * @param pret Noul preț al produsului
+     * @param pret Noul preț al produsului, în lei
      */
-    public void setPret(double pret) { this.pret = pret; }
+    public void setPret(double pret) {
+        setPretBani(Money.fromLei(pret));
+    }
+
+    /**
+     * Setează prețul produsului.
+     * @param pretBani Noul preț al produsului, în bani
+     */
+    public void setPretBani(long pretBani) {
+        double vechi = getPret();
+        this.pretBani = pretBani;
+        notifyChange(CampProdus.PRET, vechi);
+    }
 
     /** @return Descrierea produsului */
     public String getDescriere() { return descriere; }
@@ -76,7 +141,11 @@ public class Produs {
      * Setează descrierea produsului.
      * @param descriere Noua descriere a produsului
      */
-    public void setDescriere(String descriere) { this.descriere = descriere; }
+    public void setDescriere(String descriere) {
+        String vechi = this.descriere;
+        this.descriere = descriere;
+        notifyChange(CampProdus.DESCRIERE, vechi);
+    }
 
     /** @return Cantitatea disponibilă a produsului */
     public int getCantitateDisponibila() { return cantitateDisponibila; }
@@ -85,7 +154,11 @@ public class Produs {
      * Setează cantitatea disponibilă a produsului.
      * @param cantitateDisponibila Noua cantitate disponibilă
      */
-    public void setCantitateDisponibila(int cantitateDisponibila) { this.cantitateDisponibila = cantitateDisponibila; }
+    public void setCantitateDisponibila(int cantitateDisponibila) {
+        int vechi = this.cantitateDisponibila;
+        this.cantitateDisponibila = cantitateDisponibila;
+        notifyChange(CampProdus.CANTITATE_DISPONIBILA, vechi);
+    }
 
     /** @return Numele produsului */
     public String getNume() { return nume; }
@@ -94,19 +167,34 @@ public class Produs {
      * Setează numele produsului.
      * @param nume Noul nume al produsului
      */
-    public void setNume(String nume) { this.nume = nume; }
+    public void setNume(String nume) {
+        String vechi = this.nume;
+        this.nume = nume;
+        notifyChange(CampProdus.NUME, vechi);
+    }
 
     /** @return Data adăugării produsului */
     public String getDataAdaugarii() { return dataAdaugarii; }
 
+    /** @return Data adăugării, ca zi epocală (NO_DATE dacă lipsește sau este invalidă) */
+    public int getZiAdaugarii() { return ziAdaugarii; }
+
     /** @return Data expirării produsului */
     public String getDataExpirare() { return dataExpirare; }
 
+    /** @return Data expirării, ca zi epocală (NO_DATE dacă lipsește sau este invalidă) */
+    public int getZiExpirare() { return ziExpirare; }
+
     /**
      * Setează data expirării produsului.
      * @param dataExpirare Noua dată a expirării produsului
      */
-    public void setDataExpirare(String dataExpirare) { this.dataExpirare = dataExpirare; }
+    public void setDataExpirare(String dataExpirare) {
+        String vechi = this.dataExpirare;
+        this.dataExpirare = dataExpirare;
+        this.ziExpirare = parseEpochDay(dataExpirare);
+        notifyChange(CampProdus.DATA_EXPIRARE, vechi);
+    }
 
     /** @return Ratingul produsului */
     public double getRating() { return rating; }
@@ -115,7 +203,11 @@ public class Produs {
      * Setează ratingul produsului.
      * @param rating Noul rating al produsului
      */
-    public void setRating(double rating) { this.rating = rating; }
+    public void setRating(double rating) {
+        double vechi = this.rating;
+        this.rating = rating;
+        notifyChange(CampProdus.RATING, vechi);
+    }
 
     /** @return Numărul de cumpărări ale produsului */
     public int getNumarCumparari() { return numarCumparari; }
@@ -130,7 +222,8 @@ public class Produs {
     @Override
     public String toString() {
         return "Produs{" +
-                "pret=" + pret +
+                "id=" + id +
+                ", pret=" + Money.format(pretBani) +
                 ", descriere='" + descriere + '\'' +
                 ", cantitateDisponibila=" + cantitateDisponibila +
                 ", nume='" + nume + '\'' +
@@ -147,13 +240,56 @@ public class Produs {
      * Această metodă este folosită pentru a actualiza statisticile vânzărilor.
      */
     public void incrementNumarCumparari() {
+        int vechi = this.numarCumparari;
         this.numarCumparari++;
+        notifyChange(CampProdus.NUMAR_CUMPARARI, vechi);
     }
     /**
      * Incrementează numărul de ratinguri primite de produs.
      * Această metodă este folosită pentru actualizarea ratingului și a numărului de evaluări.
      */
     public void incrementNumarRatinguri() {
+        int vechi = this.nrRatinguri;
         this.nrRatinguri++;
+        notifyChange(CampProdus.NR_RATINGURI, vechi);
+    }
+
+    /**
+     * Transformă o dată în format "yyyy-MM-dd" în numărul de zile de la 1970-01-01.
+     *
+     * @param data Data de transformat
+     * @return int Ziua epocală sau NO_DATE dacă data lipsește ori este invalidă
+     */
+    public static int parseEpochDay(String data) {
+        if (data == null || data.isEmpty()) {
+            return NO_DATE;
+        }
+        try {
+            return (int) LocalDate.parse(data).toEpochDay();
+        } catch (DateTimeParseException e) {
+            return NO_DATE;
+        }
+    }
+
+    /**
+     * Setează ascultătorul notificat la modificarea produsului.
+     *
+     * @param listener Ascultătorul nou sau null pentru a opri notificările
+     */
+    void setListener(ProdusListener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Notifică ascultătorul, dacă există, despre modificarea unui câmp.
+     *
+     * @param camp Câmpul modificat
+     * @param valoareVeche Valoarea câmpului dinaintea modificării
+     */
+    private void notifyChange(CampProdus camp, Object valoareVeche) {
+        ProdusListener current = listener;
+        if (current != null) {
+            current.onProdusChanged(this, camp, valoareVeche);
+        }
     }
 }
@@ -0,0 +1,16 @@
+package com.products.Product;
+
+/**
+ * Ascultător notificat de un produs după fiecare modificare a unuia dintre câmpurile sale.
+ */
+@FunctionalInterface
+interface ProdusListener {
+    /**
+     * Apelată după modificarea unui câmp al produsului.
+     *
+     * @param produs Produsul modificat
+     * @param camp Câmpul modificat
+     * @param valoareVeche Valoarea câmpului dinaintea modificării
+     */
+    void onProdusChanged(Produs produs, CampProdus camp, Object valoareVeche);
+}
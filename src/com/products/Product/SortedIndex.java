@@ -0,0 +1,121 @@
+package com.products.Product;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+/**
+ * Index sortat al produselor după o cheie (preț, rating, stoc etc.).
+ * Cheile sunt păstrate într-un arbore echilibrat, deci o interogare pe interval costă O(log n + k),
+ * unde k este numărul de produse returnate. Produsele fără cheie (de exemplu fără dată de expirare)
+ * nu sunt indexate.
+ *
+ * @param <K> Tipul cheii
+ */
+class SortedIndex<K extends Comparable<K>> {
+    /** Produsele grupate după cheie; produsele cu aceeași cheie păstrează ordinea adăugării */
+    private final TreeMap<K, Set<Produs>> entries = new TreeMap<>();
+
+    /** Funcția care extrage cheia curentă a unui produs */
+    private final Function<Produs, K> keyOf;
+
+    /** Funcția care transformă valoarea veche a câmpului (din notificare) în cheie */
+    private final Function<Object, K> keyOfFieldValue;
+
+    /**
+     * Construiește un index gol.
+     *
+     * @param keyOf Funcția care extrage cheia curentă a unui produs
+     * @param keyOfFieldValue Funcția care transformă valoarea veche a câmpului în cheie
+     */
+    SortedIndex(Function<Produs, K> keyOf, Function<Object, K> keyOfFieldValue) {
+        this.keyOf = keyOf;
+        this.keyOfFieldValue = keyOfFieldValue;
+    }
+
+    void add(Produs produs) {
+        K key = keyOf.apply(produs);
+        if (key != null) {
+            entries.computeIfAbsent(key, k -> new LinkedHashSet<>()).add(produs);
+        }
+    }
+
+    void remove(Produs produs) {
+        removeWithKey(produs, keyOf.apply(produs));
+    }
+
+    /**
+     * Mută un produs de la cheia veche la cheia curentă, după modificarea câmpului indexat.
+     *
+     * @param produs Produsul modificat
+     * @param valoareVeche Valoarea câmpului dinaintea modificării
+     */
+    void reindex(Produs produs, Object valoareVeche) {
+        removeWithKey(produs, keyOfFieldValue.apply(valoareVeche));
+        add(produs);
+    }
+
+    private void removeWithKey(Produs produs, K key) {
+        if (key == null) {
+            return;
+        }
+        Set<Produs> bucket = entries.get(key);
+        if (bucket != null && bucket.remove(produs) && bucket.isEmpty()) {
+            entries.remove(key);
+        }
+    }
+
+    /**
+     * Returnează produsele cu cheia în intervalul dat, în ordinea crescătoare a cheii.
+     *
+     * @param from Limita inferioară sau null pentru interval nemărginit inferior
+     * @param fromInclusive true dacă limita inferioară este inclusă
+     * @param to Limita superioară sau null pentru interval nemărginit superior
+     * @param toInclusive true dacă limita superioară este inclusă
+     * @return List&lt;Produs&gt; Produsele găsite
+     */
+    List<Produs> range(K from, boolean fromInclusive, K to, boolean toInclusive) {
+        NavigableMap<K, Set<Produs>> view = entries;
+        if (from != null && to != null) {
+            if (from.compareTo(to) > 0) {
+                return Collections.emptyList();
+            }
+            view = entries.subMap(from, fromInclusive, to, toInclusive);
+        } else if (from != null) {
+            view = entries.tailMap(from, fromInclusive);
+        } else if (to != null) {
+            view = entries.headMap(to, toInclusive);
+        }
+        return flatten(view.values(), Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returnează primele produse ordonate după cheie.
+     *
+     * @param descending true pentru ordine descrescătoare
+     * @param limit Numărul maxim de produse returnate
+     * @return List&lt;Produs&gt; Produsele ordonate
+     */
+    List<Produs> ordered(boolean descending, int limit) {
+        return flatten(descending ? entries.descendingMap().values() : entries.values(), limit);
+    }
+
+    private static List<Produs> flatten(Collection<Set<Produs>> buckets, int limit) {
+        List<Produs> result = new ArrayList<>();
+        for (Set<Produs> bucket : buckets) {
+            for (Produs produs : bucket) {
+                if (result.size() >= limit) {
+                    return result;
+                }
+                result.add(produs);
+            }
+        }
+        return result;
+    }
+}
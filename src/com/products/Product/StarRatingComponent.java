@@ -17,7 +17,7 @@ public class StarRatingComponent extends HBox {
     /**
      * Constructorul clasei StarRatingComponent.
      *
-     * @param produs Produsul pentru care se face evaluarea.
+     * @param produs Produsul pentru care se face evaluarea (poate fi null până la apelul setProdus).
      */
     public StarRatingComponent(Produs produs) {
         this.setSpacing(2);
@@ -44,51 +44,43 @@ public class StarRatingComponent extends HBox {
 
         Button confirmButton = new Button("Confirmă Rating");
         confirmButton.setOnAction(event -> {
-            if (currentSelectedRating > 0) {
-                double totalRating = produs.getRating() * produs.getNrRatinguri();
-                produs.incrementNumarRatinguri();
+            Produs evaluat = this.produs;
+            if (currentSelectedRating > 0 && evaluat != null) {
+                double totalRating = evaluat.getRating() * evaluat.getNrRatinguri();
+                evaluat.incrementNumarRatinguri();
                 totalRating += currentSelectedRating;
-                produs.setRating(totalRating / produs.getNrRatinguri());
+                evaluat.setRating(totalRating / evaluat.getNrRatinguri());
                 currentSelectedRating = 0;
                 updateStars();
             }
         });
 
-        confirmButton.setStyle("-fx-background-color: #ff69b4; " +
-                "-fx-text-fill: white; " +
-                "-fx-font-size: 10px; " +
-                "-fx-padding: 10 20; " +
-                "-fx-border-radius: 15; " +
-                "-fx-background-radius: 15; " +
-                "-fx-effect: dropshadow(gaussian, rgba(0, 0, 0, 0.2), 5, 0.0, 0, 1);");
-
-        confirmButton.setOnMouseEntered(event ->
-                confirmButton.setStyle("-fx-background-color: #ff1493; " +
-                        "-fx-text-fill: white; " +
-                        "-fx-font-size: 10px; " +
-                        "-fx-padding: 10 20; " +
-                        "-fx-border-radius: 15; " +
-                        "-fx-background-radius: 15; " +
-                        "-fx-effect: dropshadow(gaussian, rgba(0, 0, 0, 0.2), 5, 0.0, 0, 1);"));
-
-        confirmButton.setOnMouseExited(event ->
-                confirmButton.setStyle("-fx-background-color: #ff69b4; " +
-                        "-fx-text-fill: white; " +
-                        "-fx-font-size: 10px; " +
-                        "-fx-padding: 10 20; " +
-                        "-fx-border-radius: 15; " +
-                        "-fx-background-radius: 15; " +
-                        "-fx-effect: dropshadow(gaussian, rgba(0, 0, 0, 0.2), 5, 0.0, 0, 1);"));
+        confirmButton.getStyleClass().add("rating-button");
 
         this.getChildren().add(confirmButton);
         updateStars();
     }
 
+    /**
+     * Leagă componenta la alt produs, de exemplu când cardul care o conține este refolosit.
+     * Selecția neconfirmată pentru produsul anterior este anulată.
+     *
+     * @param produs Produsul pentru care se face evaluarea.
+     */
+    public void setProdus(Produs produs) {
+        if (this.produs != produs) {
+            currentSelectedRating = 0;
+        }
+        this.produs = produs;
+        updateStars();
+    }
+
     /**
      * Actualizează stelele afișate în funcție de ratingul selectat și ratingul produsului.
      */
     private void updateStars() {
-        int fullStars = (int) Math.round(currentSelectedRating > 0 ? currentSelectedRating : produs.getRating());
+        double rating = currentSelectedRating > 0 ? currentSelectedRating : produs != null ? produs.getRating() : 0;
+        int fullStars = (int) Math.round(rating);
 
         for (int i = 0; i < MAX_STARS; i++) {
             if (i < fullStars) {
@@ -8,52 +8,42 @@ import javafx.geometry.Pos;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
 import javafx.scene.control.TextField;
-import javafx.scene.effect.DropShadow;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Pane;
 import javafx.scene.layout.VBox;
+
+/**
+ * Cardul de produs pentru utilizatori, cu evaluarea prin stele și adăugarea în coș.
+ * Butoanele acționează asupra produsului legat în momentul apăsării.
+ */
 public class UserProductCard extends BaseProductCard {
     static ControllersManipulation controllersManipulation=new ControllersManipulation();
+
+    private final StarRatingComponent ratingStars = new StarRatingComponent(null);
+    private final Label ratingLabel = new Label();
+    private final Label purchasesLabel = new Label();
+    private final TextField quantityField = new TextField("1");
+
     /**
-     * Creează un card de produs pentru utilizatori.
+     * Construiește un card de produs pentru utilizatori, fără un produs legat.
      *
-     * @param produs   Obiectul produs care conține informațiile despre produs.
      * @param userView Instanța interfeței utilizatorului.
      * @param cartView Instanța vizualizării coșului de cumpărături.
-     * @return Un obiect Pane care reprezintă cardul de produs pentru utilizatori.
      */
-    public static Pane createUserProductCard(Produs produs, UserView userView, CartView cartView) {
-        VBox productCard = (VBox) createBaseProductCard(produs);
-
-        DropShadow defaultShadow = ControllersManipulation.createDefaultShadow();
-        DropShadow hoverShadow = ControllersManipulation.createHoverShadow();
-        productCard.setOnMouseEntered(e-> productCard.setEffect(hoverShadow));
-        productCard.setOnMouseExited(e-> productCard.setEffect(defaultShadow));
-
+    public UserProductCard(UserView userView, CartView cartView) {
         VBox ratingBox = new VBox(10);
         ratingBox.setAlignment(Pos.CENTER);
-        StarRatingComponent ratingStars = new StarRatingComponent(produs);
 
-        Label ratingLabel = new Label(String.format("%.1f/5.0", produs.getRating()));
-        ratingLabel.setStyle("-fx-text-fill: " + ControllersManipulation.DARK_PINK + "; -fx-font-size: 14px;");
-        Label purchasesLabel = new Label(String.format("(%d cumpărări)", produs.getNumarCumparari()));
-        purchasesLabel.setStyle("-fx-text-fill: grey; -fx-font-size: 12px;");
+        ratingLabel.getStyleClass().add("product-rating");
+        purchasesLabel.getStyleClass().add("product-purchases");
         ratingBox.getChildren().addAll(ratingStars, ratingLabel, purchasesLabel);
 
         HBox quantityBox = new HBox(10);
         quantityBox.setAlignment(Pos.CENTER);
         Label hintQuantity = new Label("Cantitate:");
-        TextField quantityField = new TextField("1");
         quantityField.setPrefWidth(60);
 
-        String quantityFieldStyle = """
-            -fx-background-radius: 5;
-            -fx-border-radius: 5;
-            -fx-border-color: %s;
-            -fx-border-width: 1;
-            """.formatted(ControllersManipulation.PINK_COLOR);
-
-        quantityField.setStyle(quantityFieldStyle);
+        quantityField.getStyleClass().add("quantity-field");
         quantityBox.getChildren().addAll(hintQuantity, quantityField);
 
         Button addToCartButton = ControllersManipulation.createShoppingCartButton();
@@ -71,7 +61,40 @@ public class UserProductCard extends BaseProductCard {
                 quantityBox,
                 addToCartButton
         );
+    }
 
-        return productCard;
+    /**
+     * Leagă cardul la produsul dat; cantitatea introdusă pentru produsul anterior este resetată.
+     *
+     * @param produs Produsul afișat
+     */
+    @Override
+    public void bind(Produs produs) {
+        if (this.produs != produs) {
+            quantityField.setText("1");
+        }
+        super.bind(produs);
+    }
+
+    @Override
+    public void update() {
+        super.update();
+        ratingStars.setProdus(produs);
+        ratingLabel.setText(String.format("%.1f/5.0", produs.getRating()));
+        purchasesLabel.setText(String.format("(%d cumpărări)", produs.getNumarCumparari()));
+    }
+
+    /**
+     * Creează un card de produs pentru utilizatori.
+     *
+     * @param produs   Obiectul produs care conține informațiile despre produs.
+     * @param userView Instanța interfeței utilizatorului.
+     * @param cartView Instanța vizualizării coșului de cumpărături.
+     * @return Un obiect Pane care reprezintă cardul de produs pentru utilizatori.
+     */
+    public static Pane createUserProductCard(Produs produs, UserView userView, CartView cartView) {
+        UserProductCard card = new UserProductCard(userView, cartView);
+        card.bind(produs);
+        return card.getNode();
     }
-}
\ No newline at end of file
+}
@@ -1,21 +1,29 @@
 package com.products.Report;
 
+import com.products.File.DataRepository;
+import com.products.File.FileOperationException;
+import com.products.File.OrderArchive;
+import com.products.Money;
 import com.products.Order.Comanda;
+import com.products.Order.OrderStore;
 import com.products.Order.StatusComanda;
+import com.products.Product.Catalog;
+import com.products.Product.ProductColumns;
 import com.products.Product.Produs;
 import java.io.BufferedWriter;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -29,30 +37,119 @@ public class Raport {
      */
     private String numeRaport;
     /**
-     * Lista de produse disponibile în sistem.
+     * Catalogul de produse din sistem. Fiecare raport parcurge versiunea curentă, imuabilă,
+     * astfel încât modificările făcute în paralel de administrator nu afectează un raport în curs.
      */
-    private List<Produs> produse;
+    private Catalog catalog;
 
     /**
-     * Lista de comenzi efectuate.
+     * Sursa comenzilor efectuate, citită la generarea fiecărui raport.
      */
-    private List<Comanda> comenzi;
+    private Supplier<List<Comanda>> comenzi;
+
+    /**
+     * Arhiva comenzilor finalizate, parcursă în flux de rapoartele pe comenzi (null dacă nu există).
+     */
+    private OrderArchive arhiva;
+
+    /**
+     * Depozitul din care sunt citite, în flux, comenzile salvate dar neîncărcate în memorie,
+     * de exemplu segmentele vechi ale depozitului segmentat (null dacă nu există).
+     */
+    private DataRepository depozit;
     private static final String REPORTS_DIR = "Rapoarte";
 
     /**
      * Constructorul pentru clasa Raport.
      *
      * @param numeRaport Numele raportului
-     * @param produse    Lista de produse disponibile
+     * @param catalog    Catalogul de produse disponibile
      * @param comenzi    Lista de comenzi efectuate
      */
-    public Raport(String numeRaport, List<Produs> produse, List<Comanda> comenzi) {
+    public Raport(String numeRaport, Catalog catalog, List<Comanda> comenzi) {
+        this(numeRaport, catalog, comenzi, null);
+    }
+
+    /**
+     * Constructorul pentru clasa Raport, cu arhiva comenzilor finalizate.
+     * Rapoartele pe comenzi includ și comenzile arhivate, decomprimate bloc cu bloc.
+     *
+     * @param numeRaport Numele raportului
+     * @param catalog    Catalogul de produse disponibile
+     * @param comenzi    Lista de comenzi efectuate
+     * @param arhiva     Arhiva comenzilor finalizate sau null
+     */
+    public Raport(String numeRaport, Catalog catalog, List<Comanda> comenzi, OrderArchive arhiva) {
+        this(numeRaport, catalog, () -> comenzi, arhiva);
+    }
+
+    /**
+     * Constructorul pentru clasa Raport, cu depozitul comun al comenzilor și arhiva comenzilor finalizate.
+     * Fiecare raport citește comenzile din depozit la generare, deci include și comenzile
+     * trimise în sesiunea curentă.
+     *
+     * @param numeRaport Numele raportului
+     * @param catalog    Catalogul de produse disponibile
+     * @param orderStore Depozitul comun al comenzilor
+     * @param arhiva     Arhiva comenzilor finalizate sau null
+     */
+    public Raport(String numeRaport, Catalog catalog, OrderStore orderStore, OrderArchive arhiva) {
+        this(numeRaport, catalog, orderStore, arhiva, null);
+    }
+
+    /**
+     * Constructorul pentru clasa Raport, cu depozitul comun al comenzilor, arhiva comenzilor finalizate
+     * și mecanismul de persistență. Rapoartele pe comenzi includ și comenzile salvate pe care
+     * mecanismul nu le încarcă la pornire, citite segment cu segment.
+     *
+     * @param numeRaport Numele raportului
+     * @param catalog    Catalogul de produse disponibile
+     * @param orderStore Depozitul comun al comenzilor
+     * @param arhiva     Arhiva comenzilor finalizate sau null
+     * @param depozit    Mecanismul de persistență al comenzilor sau null
+     */
+    public Raport(String numeRaport, Catalog catalog, OrderStore orderStore, OrderArchive arhiva, DataRepository depozit) {
+        this(numeRaport, catalog, orderStore::getOrders, arhiva);
+        this.depozit = depozit;
+    }
+
+    private Raport(String numeRaport, Catalog catalog, Supplier<List<Comanda>> comenzi, OrderArchive arhiva) {
         this.numeRaport = numeRaport;
-        this.produse = produse;
+        this.catalog = catalog;
         this.comenzi = comenzi;
+        this.arhiva = arhiva;
         createReportsDirectory();
     }
 
+    /**
+     * Aplică acțiunea comenzilor din memorie, comenzilor salvate dar neîncărcate și apoi comenzilor arhivate,
+     * fără a le încărca pe toate deodată.
+     */
+    private void pentruFiecareComanda(Consumer<Comanda> actiune) {
+        comenzi.get().forEach(actiune);
+        pentruFiecareComandaNeincarcata(actiune);
+        if (arhiva != null) {
+            try {
+                arhiva.forEach(catalog::getById, null, null, actiune);
+            } catch (FileOperationException e) {
+                System.err.println(e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Aplică acțiunea comenzilor salvate pe care mecanismul de persistență nu le-a încărcat în memorie.
+     */
+    private void pentruFiecareComandaNeincarcata(Consumer<Comanda> actiune) {
+        if (depozit != null) {
+            try {
+                depozit.forEachUnloadedOrder(catalog.snapshot(), actiune);
+            } catch (FileOperationException e) {
+                System.err.println(e.getMessage());
+            }
+        }
+    }
+
     private void createReportsDirectory() {
         try {
             Path dirPath = Paths.get(REPORTS_DIR);
@@ -75,16 +172,18 @@ public class Raport {
      * @param filename Numele fișierului în care va fi salvat raportul
      */
     public void genereazaRaportTotalVanzari(String filename) {
-        double totalVanzari = 0;
-        for (Comanda comanda : comenzi) {
-            totalVanzari += comanda.getTotalValue();
-        }
+        long[] totaluri = new long[2];
+        pentruFiecareComanda(comanda -> {
+            totaluri[0] += comanda.getTotalBani();
+            totaluri[1]++;
+        });
+        long totalVanzari = totaluri[0];
 
         try (BufferedWriter writer = new BufferedWriter(new FileWriter(getReportPath(filename)))) {
             writer.write("Raport Total Vanzari\n");
             writer.write("========================\n");
-            writer.write("Total Vanzari: " + totalVanzari + " lei\n");
-            writer.write("Numar Total Comenzi: " + comenzi.size() + "\n");
+            writer.write("Total Vanzari: " + Money.format(totalVanzari) + " lei\n");
+            writer.write("Numar Total Comenzi: " + totaluri[1] + "\n");
         } catch (IOException e) {
             e.printStackTrace();
         }
@@ -96,15 +195,13 @@ public class Raport {
      * @param filename Numele fișierului în care va fi salvat raportul
      */
     public void genereazaRaportProdusePeStoc(String filename) {
+        List<Produs> produse = catalog.getColumns().stockBetween(1, Integer.MAX_VALUE);
         try (BufferedWriter writer = new BufferedWriter(new FileWriter(getReportPath(filename)))) {
             writer.write("Raport Produse pe Stoc\n");
             writer.write("========================\n");
             for (Produs produs : produse) {
-                if(produs.getCantitateDisponibila()>0)
-                {
-                    writer.write("Produs: " + produs.getNume() +
-                            ", Cantitate Disponibila: " + produs.getCantitateDisponibila() + "\n");
-                }
+                writer.write("Produs: " + produs.getNume() +
+                        ", Cantitate Disponibila: " + produs.getCantitateDisponibila() + "\n");
             }
         } catch (IOException e) {
             e.printStackTrace();
@@ -117,22 +214,18 @@ public class Raport {
      * @param filename Numele fișierului în care va fi salvat raportul
      */
     public void genereazaRaportProduseAdaugateRecent(String filename) {
-        LocalDate today = LocalDate.now();
-        LocalDate limita = today.minusDays(30);
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+        int limita = (int) LocalDate.now().minusDays(30).toEpochDay();
+        List<Produs> produse = catalog.getColumns().addedAfter(limita, true);
 
         try (BufferedWriter writer = new BufferedWriter(new FileWriter(getReportPath(filename)))) {
             writer.write("Raport Produse Adăugate Recent\n");
             writer.write("================================\n");
 
             for (Produs produs : produse) {
-                try {
-                    LocalDate dataAdaugare = LocalDate.parse(produs.getDataAdaugarii(), formatter);
-                    if (dataAdaugare.isAfter(limita)) {
-                        writer.write("Produs: " + produs.getNume() +
-                                ", Data Adăugare: " + produs.getDataAdaugarii() + "\n");
-                    }
-                } catch (DateTimeParseException e) {
+                if (produs.getZiAdaugarii() != Produs.NO_DATE) {
+                    writer.write("Produs: " + produs.getNume() +
+                            ", Data Adăugare: " + produs.getDataAdaugarii() + "\n");
+                } else {
                     writer.write("Produs: " + produs.getNume() +
                             ", Data Adăugare invalidă: " + produs.getDataAdaugarii() + "\n");
                 }
@@ -148,24 +241,17 @@ public class Raport {
      * @param filename Numele fișierului în care va fi salvat raportul
      */
     public void genereazaRaportProduseAproapeExpirate(String filename) {
-        LocalDate today = LocalDate.now();
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+        int today = (int) LocalDate.now().toEpochDay();
+        List<Produs> produse = catalog.getColumns().expiringBetween(today, today + 30, true);
 
         try (BufferedWriter writer = new BufferedWriter(new FileWriter(getReportPath(filename)))) {
             writer.write("Raport Produse Aproape Expirate\n");
             writer.write("================================\n");
 
             for (Produs produs : produse) {
-                try {
-                    if (produs.getDataExpirare() != null && !produs.getDataExpirare().isEmpty()) {
-                        LocalDate dataExpirare = LocalDate.parse(produs.getDataExpirare(), formatter);
-                        if (dataExpirare.isBefore(today.plusDays(30)) && dataExpirare.isAfter(today)) {
-                            writer.write("Produs: " + produs.getNume() + ", Data Expirare: " + produs.getDataExpirare() + "\n");
-                        }
-                    } else {
-                        writer.write("Produs: " + produs.getNume() + ", Data Expirare invalidă: " + produs.getDataExpirare() + "\n");
-                    }
-                } catch (DateTimeParseException e) {
+                if (produs.getZiExpirare() != Produs.NO_DATE) {
+                    writer.write("Produs: " + produs.getNume() + ", Data Expirare: " + produs.getDataExpirare() + "\n");
+                } else {
                     writer.write("Produs: " + produs.getNume() + ", Data Expirare invalidă: " + produs.getDataExpirare() + "\n");
                 }
             }
@@ -182,20 +268,20 @@ public class Raport {
      * @param filename Numele fișierului în care va fi salvat raportul
      */
     public void genereazaRaportGeneralStoc(String filename) {
-        int numarProduse = produse.size();
-        double valoareTotalaStoc = produse.stream().mapToDouble(Produs::getPret).sum();
+        ProductColumns columns = catalog.getColumns();
+        int numarProduse = columns.count();
+        long valoareTotalaStoc = columns.sumPretBani();
+        List<Produs> stocRedus = columns.stockBetween(Integer.MIN_VALUE, 4);
 
         try (BufferedWriter writer = new BufferedWriter(new FileWriter(getReportPath(filename)))) {
             writer.write("Raport General al Stocului\n");
             writer.write("=============================\n");
             writer.write("Număr Total de Produse: " + numarProduse + "\n");
-            writer.write("Valoare Totală a Stocului: " + valoareTotalaStoc + "\n");
+            writer.write("Valoare Totală a Stocului: " + Money.format(valoareTotalaStoc) + "\n");
             writer.write("Produse Sub Limita Minimă de Stoc:\n");
 
-            for (Produs produs : produse) {
-                if (produs.getCantitateDisponibila() < 5) {
-                    writer.write("Produs: " + produs.getNume() + ", Cantitate Disponibilă: " + produs.getCantitateDisponibila() + "\n");
-                }
+            for (Produs produs : stocRedus) {
+                writer.write("Produs: " + produs.getNume() + ", Cantitate Disponibilă: " + produs.getCantitateDisponibila() + "\n");
             }
         } catch (IOException e) {
             e.printStackTrace();
@@ -208,21 +294,27 @@ public class Raport {
      * @param filename Numele fișierului în care va fi salvat raportul
      */
     public void genereazaRaportTendinteVanzari(String filename) {
-        Map<LocalDate, Double> vanzariZilnice = new HashMap<>();
+        Map<LocalDate, long[]> vanzariZilnice = new HashMap<>();
 
-        for (Comanda comanda : comenzi) {
+        pentruFiecareComanda(comanda -> {
             LocalDate dataComenzii = LocalDate.from(comanda.getOrderDateTime());
-            double totalComanda = comanda.getProducts().stream().mapToDouble(Produs::getPret).sum();
-
-            vanzariZilnice.put(dataComenzii, vanzariZilnice.getOrDefault(dataComenzii, 0.0) + totalComanda);
-        }
+            long[] totalZi = vanzariZilnice.computeIfAbsent(dataComenzii, d -> new long[1]);
+            if (!comanda.hasLinePrices()) {
+                // Comenzile salvate fără prețuri pe linii contribuie cu totalul salvat
+                totalZi[0] += comanda.getTotalBani();
+                return;
+            }
+            for (int i = 0; i < comanda.getLineCount(); i++) {
+                totalZi[0] += comanda.getLineTotalBani(i);
+            }
+        });
 
         try (BufferedWriter writer = new BufferedWriter(new FileWriter(getReportPath(filename)))) {
             writer.write("Raport Tendințe în Vânzări\n");
             writer.write("===========================\n");
 
-            for (Map.Entry<LocalDate, Double> entry : vanzariZilnice.entrySet()) {
-                writer.write("Data: " + entry.getKey() + ", Vânzări: " + entry.getValue() + "\n");
+            for (Map.Entry<LocalDate, long[]> entry : vanzariZilnice.entrySet()) {
+                writer.write("Data: " + entry.getKey() + ", Vânzări: " + Money.format(entry.getValue()[0]) + "\n");
             }
         } catch (IOException e) {
             e.printStackTrace();
@@ -234,6 +326,7 @@ public class Raport {
      * @param filename Numele fișierului în care va fi salvat raportul
      */
     public void genereazaRaportRatinguriProduseMatrice(String filename) {
+        List<Produs> produse = catalog.snapshot();
         double[][] ratinguriMatrice = new double[produse.size()][2];
 
         for (int i = 0; i < produse.size(); i++) {
@@ -258,11 +351,13 @@ public class Raport {
     /**
      * Generează un raport cu comenzile finalizate.
      * Include lista cu detaliile comenzilor, dar și numărul total al lor și valoarea totală.
+     * Comenzile arhivate și cele neîncărcate în memorie sunt scrise în raport pe măsură ce sunt citite.
      *
      * @param filename Numele fișierului în care va fi salvat raportul
+     * @return List&lt;Comanda&gt; Comenzile finalizate din memorie (fără cele arhivate)
      */
     public List<Comanda> genereazaRaportComenziFinalizate(String filename) {
-        List<Comanda> comenziFinalizate = comenzi.stream()
+        List<Comanda> comenziFinalizate = comenzi.get().stream()
                 .filter(c -> c.getStatus() == StatusComanda.FINALIZATA)
                 .collect(Collectors.toList());
 
@@ -270,18 +365,32 @@ public class Raport {
             writer.write("Raport Comenzi Finalizate\n");
             writer.write("========================\n\n");
 
-            double totalValoare = 0;
-            for (Comanda comanda : comenziFinalizate) {
-                totalValoare += comanda.getTotalValue();
-                writer.write(String.format("Comandă: %s\n", comanda.getProducts()));
-                writer.write(String.format("Data: %s\n", comanda.getOrderDateTime()));
-                writer.write(String.format("Valoare: %.2f lei\n", comanda.getTotalValue()));
-                writer.write("---------------------\n");
+            long[] totaluri = new long[2];
+            Consumer<Comanda> scrieComanda = comanda -> {
+                totaluri[0] += comanda.getTotalBani();
+                totaluri[1]++;
+                try {
+                    writer.write(String.format("Comandă: %s\n", comanda.getProducts()));
+                    writer.write(String.format("Data: %s\n", comanda.getOrderDateTime()));
+                    writer.write("Valoare: " + Money.format(comanda.getTotalBani()) + " lei\n");
+                    writer.write("---------------------\n");
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            };
+            comenziFinalizate.forEach(scrieComanda);
+            pentruFiecareComandaNeincarcata(comanda -> {
+                if (comanda.getStatus() == StatusComanda.FINALIZATA) {
+                    scrieComanda.accept(comanda);
+                }
+            });
+            if (arhiva != null) {
+                arhiva.forEach(catalog::getById, null, null, scrieComanda);
             }
 
-            writer.write(String.format("\nTotal Comenzi Finalizate: %d\n", comenziFinalizate.size()));
-            writer.write(String.format("Valoare Totală: %.2f lei\n", totalValoare));
-        } catch (IOException e) {
+            writer.write(String.format("\nTotal Comenzi Finalizate: %d\n", totaluri[1]));
+            writer.write("Valoare Totală: " + Money.format(totaluri[0]) + " lei\n");
+        } catch (IOException | UncheckedIOException | FileOperationException e) {
             e.printStackTrace();
         }
         return comenziFinalizate;
@@ -294,11 +403,11 @@ public class Raport {
     public void genereazaRaportFrecventaComenzi(String filename) {
         int[][] matrice = new int[31][24];
 
-        for (Comanda comanda : comenzi) {
+        pentruFiecareComanda(comanda -> {
             int dayOfMonth = comanda.getOrderDateTime().getDayOfMonth() - 1;
             int hourOfDay = comanda.getOrderDateTime().getHour();
             matrice[dayOfMonth][hourOfDay]++;
-        }
+        });
 
         try (BufferedWriter writer = new BufferedWriter(new FileWriter(getReportPath(filename)))) {
             writer.write("Raport Frecvență Comenzi pe Zilele Calendaristice și Ore\n");
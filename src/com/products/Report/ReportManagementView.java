@@ -2,8 +2,9 @@ package com.products.Report;
 
 import com.products.Alert;
 import com.products.ControllersManipulation;
-import com.products.Order.Comanda;
-import com.products.Product.Produs;
+import com.products.File.FileManager;
+import com.products.Order.OrderStore;
+import com.products.Product.Catalog;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.Scene;
@@ -13,7 +14,6 @@ import javafx.stage.Stage;
 import java.io.File;
 import java.awt.Desktop;
 import java.io.IOException;
-import java.util.List;
 
 /**
  * Clasă responsabilă pentru interfața grafică de gestionare a rapoartelor.
@@ -39,11 +39,12 @@ public class ReportManagementView {
      * Constructorul pentru interfața de gestionare a rapoartelor.
      * Inițializează interfața grafică și setează stilizarea de bază.
      *
-     * @param produse Lista de produse disponibile în sistem
-     * @param comenzi Lista de comenzi efectuate
+     * @param catalog Catalogul de produse din sistem
+     * @param orderStore Depozitul comun al comenzilor; comenzile arhivate sunt citite din arhivă la generarea rapoartelor
      */
-    public ReportManagementView(List<Produs> produse, List<Comanda> comenzi) {
-        this.raport = new Raport("Raport Vânzări", produse, comenzi);
+    public ReportManagementView(Catalog catalog, OrderStore orderStore) {
+        this.raport = new Raport("Raport Vânzări", catalog, orderStore, FileManager.getInstance().getArchive(),
+                FileManager.getInstance().getRepository());
         this.mainLayout = new VBox(15);
         mainLayout.setAlignment(Pos.CENTER);
         mainLayout.setPadding(new Insets(20));
@@ -0,0 +1,95 @@
+package com.products;
+
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+
+import java.io.InputStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cache comun pentru imaginile folosite de cardurile de produs.
+ * Fiecare imagine din resurse este decodată o singură dată, iar obiectele Image (care nu sunt noduri)
+ * sunt partajate între toate cardurile; fiecare card creează doar propriile ImageView.
+ * Umbrele cardurilor sunt definite în temă (vezi {@link Theme}). Cache-ul numără accesările găsite și ratate, precum și octeții
+ * de pixeli care nu au mai fost decodați datorită reutilizării.
+ */
+public final class ResourceCache {
+    /** Imaginile decodate, după calea resursei */
+    private static final Map<String, Image> IMAGES = new ConcurrentHashMap<>();
+
+    /** Numărul de imagini găsite în cache */
+    private static final LongAdder HITS = new LongAdder();
+
+    /** Numărul de imagini decodate */
+    private static final LongAdder MISSES = new LongAdder();
+
+    /** Octeții de pixeli (4 pe pixel) care nu au mai fost decodați */
+    private static final LongAdder BYTES_SAVED = new LongAdder();
+
+    private ResourceCache() {
+    }
+
+    /**
+     * Returnează imaginea din resursa dată, decodând-o doar la prima cerere.
+     *
+     * @param path Calea resursei, de exemplu "/pencil.png"
+     * @return Image Imaginea partajată
+     */
+    public static Image image(String path) {
+        Image cached = IMAGES.get(path);
+        if (cached != null) {
+            HITS.increment();
+            BYTES_SAVED.add((long) cached.getWidth() * (long) cached.getHeight() * 4);
+            return cached;
+        }
+        return IMAGES.computeIfAbsent(path, key -> {
+            MISSES.increment();
+            InputStream in = ResourceCache.class.getResourceAsStream(key);
+            if (in == null) {
+                throw new IllegalArgumentException("Resursa nu există: " + key);
+            }
+            return new Image(in);
+        });
+    }
+
+    /**
+     * Creează o iconiță pătrată cu imaginea din resursa dată.
+     *
+     * @param path Calea resursei
+     * @param size Latura iconiței, în pixeli
+     * @return ImageView Nodul nou, care folosește imaginea partajată
+     */
+    public static ImageView icon(String path, double size) {
+        ImageView icon = new ImageView(image(path));
+        icon.setFitHeight(size);
+        icon.setFitWidth(size);
+        return icon;
+    }
+
+    /** @return Numărul de imagini găsite în cache */
+    public static long getHits() {
+        return HITS.sum();
+    }
+
+    /** @return Numărul de imagini decodate */
+    public static long getMisses() {
+        return MISSES.sum();
+    }
+
+    /** @return Octeții de pixeli care nu au mai fost decodați datorită cache-ului */
+    public static long getBytesSaved() {
+        return BYTES_SAVED.sum();
+    }
+
+    /**
+     * Descrie starea cache-ului, pentru jurnal.
+     *
+     * @return String Numărul de imagini decodate, accesările găsite și octeții economisiți
+     */
+    public static String statistics() {
+        return String.format("Cache resurse: %d imagini decodate, %d reutilizări, %d KiB economisiți",
+                getMisses(), getHits(), getBytesSaved() / 1024);
+    }
+}
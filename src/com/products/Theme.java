@@ -0,0 +1,60 @@
+package com.products;
+
+import javafx.collections.ListChangeListener;
+import javafx.scene.Scene;
+import javafx.stage.Window;
+
+import java.net.URL;
+
+/**
+ * Tema vizuală a aplicației, definită în foaia de stil theme.css din resurse.
+ * Foaia de stil este parsată o singură dată de JavaFX și partajată de toate scenele;
+ * nodurile primesc doar clase de stil, iar stările de hover sunt tratate prin pseudo-clasa :hover.
+ */
+public final class Theme {
+    /** Adresa foii de stil a temei */
+    public static final String STYLESHEET = locate("/theme.css");
+
+    private Theme() {
+    }
+
+    /**
+     * Aplică tema fiecărei ferestre deschise de aplicație, inclusiv ferestrelor deschise ulterior
+     * și scenelor înlocuite într-o fereastră existentă. Trebuie apelată pe firul JavaFX.
+     */
+    public static void install() {
+        Window.getWindows().forEach(Theme::watch);
+        Window.getWindows().addListener((ListChangeListener<Window>) change -> {
+            while (change.next()) {
+                change.getAddedSubList().forEach(Theme::watch);
+            }
+        });
+    }
+
+    /**
+     * Adaugă foaia de stil a temei unei scene, dacă nu o conține deja.
+     *
+     * @param scene Scena stilizată; poate fi null
+     */
+    public static void apply(Scene scene) {
+        if (scene != null && !scene.getStylesheets().contains(STYLESHEET)) {
+            scene.getStylesheets().add(STYLESHEET);
+        }
+    }
+
+    private static void watch(Window window) {
+        apply(window.getScene());
+        // O fereastră ascunsă și reafișată revine în listă; ascultătorul se adaugă o singură dată
+        if (window.getProperties().putIfAbsent(Theme.class, Boolean.TRUE) == null) {
+            window.sceneProperty().addListener((observable, oldScene, scene) -> apply(scene));
+        }
+    }
+
+    private static String locate(String path) {
+        URL url = Theme.class.getResource(path);
+        if (url == null) {
+            throw new IllegalStateException("Foaia de stil nu există: " + path);
+        }
+        return url.toExternalForm();
+    }
+}
@@ -0,0 +1,220 @@
+package com.products;
+
+import javafx.animation.PauseTransition;
+import javafx.application.Platform;
+import javafx.collections.ListChangeListener;
+import javafx.geometry.Pos;
+import javafx.scene.control.Label;
+import javafx.scene.layout.VBox;
+import javafx.stage.Popup;
+import javafx.stage.PopupWindow;
+import javafx.stage.Window;
+import javafx.util.Duration;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Coada de notificări nemodale ale aplicației, afișate ca toast-uri în colțul ferestrei active.
+ * Notificările nu blochează utilizatorul și dispar singure. O notificare identică (același tip, titlu
+ * și mesaj) cu una afișată sau aflată în așteptare nu creează un toast nou: toast-ul existent afișează
+ * numărul de apariții, iar durata sa de afișare este reluată. Apelantul poate grupa și mesaje diferite
+ * de același fel, de exemplu produsele adăugate în coș, printr-o cheie de grupare explicită;
+ * toast-ul grupat afișează atunci ultimul mesaj.
+ * Sunt afișate cel mult {@value #MAX_VISIBLE} toast-uri simultan; celelalte așteaptă în coadă, la fel ca
+ * notificările primite cât timp nu este deschisă nicio fereastră, care sunt afișate la deschiderea primei ferestre.
+ */
+public final class Toasts {
+    /** Numărul maxim de toast-uri afișate simultan */
+    public static final int MAX_VISIBLE = 4;
+
+    /** Durata afișării unui toast, reluată la fiecare mesaj grupat în el */
+    private static final Duration VISIBLE_FOR = Duration.seconds(3);
+
+    /** Distanța toast-urilor față de marginile ferestrei */
+    private static final double MARGIN = 20;
+
+    /** Lățimea toast-urilor */
+    private static final double WIDTH = 320;
+
+    /** Toast-urile afișate sau în așteptare, după cheia de grupare */
+    private static final Map<String, Toast> ACTIVE = new HashMap<>();
+
+    /** Toast-urile care așteaptă un loc liber */
+    private static final Deque<Toast> QUEUE = new ArrayDeque<>();
+
+    /** Indicator că lista ferestrelor este urmărită, pentru notificările primite fără nicio fereastră deschisă */
+    private static boolean watchingWindows;
+
+    /** Fereastra nemodală în care sunt afișate toast-urile; creată la prima notificare */
+    private static Popup popup;
+    private static VBox container;
+
+    private Toasts() {
+    }
+
+    /**
+     * Afișează o notificare nemodală; doar repetările identice sunt grupate. Poate fi apelată de pe orice fir.
+     *
+     * @param title Titlul notificării
+     * @param message Mesajul notificării
+     * @param error true pentru o notificare de eroare
+     */
+    public static void show(String title, String message, boolean error) {
+        show(title + "\n" + message, title, message, error);
+    }
+
+    /**
+     * Afișează o notificare nemodală, grupată cu celelalte notificări de același tip care au aceeași cheie.
+     * Poate fi apelată de pe orice fir.
+     *
+     * @param key Cheia de grupare, de exemplu felul operației
+     * @param title Titlul notificării
+     * @param message Mesajul notificării
+     * @param error true pentru o notificare de eroare
+     */
+    public static void show(String key, String title, String message, boolean error) {
+        String fullKey = (error ? "E:" : "I:") + key;
+        if (Platform.isFxApplicationThread()) {
+            enqueue(fullKey, title, message, error);
+        } else {
+            Platform.runLater(() -> enqueue(fullKey, title, message, error));
+        }
+    }
+
+    private static void enqueue(String key, String title, String message, boolean error) {
+        Toast existing = ACTIVE.get(key);
+        if (existing != null) {
+            existing.count++;
+            existing.message = message;
+            existing.refresh();
+            if (existing.node.getParent() != null) {
+                existing.timer.playFromStart();
+            }
+            return;
+        }
+
+        Toast toast = new Toast(key, title, message, error);
+        ACTIVE.put(key, toast);
+        QUEUE.addLast(toast);
+        showQueued();
+    }
+
+    /**
+     * Afișează toast-urile din coadă, în ordine, cât timp există loc și o fereastră deschisă.
+     */
+    private static void showQueued() {
+        while (!QUEUE.isEmpty() && (container == null || container.getChildren().size() < MAX_VISIBLE)) {
+            // Toast-ul este scos din coadă înainte de afișare, deoarece deschiderea ferestrei toast-urilor
+            // modifică lista ferestrelor și poate reapela această metodă
+            Toast next = QUEUE.pollFirst();
+            if (!display(next)) {
+                QUEUE.addFirst(next);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Afișează un toast în fereastra activă.
+     *
+     * @return false dacă nu este deschisă nicio fereastră; toast-ul rămâne atunci în coadă
+     */
+    private static boolean display(Toast toast) {
+        Window owner = activeWindow();
+        if (owner == null) {
+            if (!watchingWindows) {
+                watchingWindows = true;
+                Window.getWindows().addListener((ListChangeListener<Window>) change -> showQueued());
+            }
+            return false;
+        }
+        if (popup == null) {
+            container = new VBox(8);
+            container.setPrefWidth(WIDTH);
+            container.setAlignment(Pos.BOTTOM_RIGHT);
+            popup = new Popup();
+            popup.getContent().add(container);
+            container.heightProperty().addListener((observable, oldHeight, height) -> anchor());
+        }
+        container.getChildren().add(toast.node);
+        toast.timer.playFromStart();
+        if (!popup.isShowing() || popup.getOwnerWindow() != owner) {
+            popup.hide();
+            popup.show(owner);
+        }
+        anchor();
+        return true;
+    }
+
+    private static void dismiss(Toast toast) {
+        container.getChildren().remove(toast.node);
+        ACTIVE.remove(toast.key);
+        showQueued();
+        if (container.getChildren().isEmpty()) {
+            popup.hide();
+        }
+    }
+
+    /**
+     * Așază toast-urile în colțul din dreapta jos al ferestrei proprietar.
+     */
+    private static void anchor() {
+        Window owner = popup.getOwnerWindow();
+        if (owner == null || !popup.isShowing()) {
+            return;
+        }
+        popup.setX(owner.getX() + owner.getWidth() - WIDTH - MARGIN);
+        popup.setY(owner.getY() + owner.getHeight() - container.getHeight() - MARGIN);
+    }
+
+    /**
+     * Returnează fereastra care are focusul sau, dacă niciuna nu îl are, ultima fereastră deschisă.
+     */
+    private static Window activeWindow() {
+        Window candidate = null;
+        for (Window window : Window.getWindows()) {
+            if (window instanceof PopupWindow || !window.isShowing()) {
+                continue;
+            }
+            if (window.isFocused()) {
+                return window;
+            }
+            candidate = window;
+        }
+        return candidate;
+    }
+
+    /** Un toast afișat sau în așteptare */
+    private static final class Toast {
+        private final String key;
+        private final String title;
+        private final Label node = new Label();
+        private final PauseTransition timer = new PauseTransition(VISIBLE_FOR);
+        private String message;
+        private int count = 1;
+
+        private Toast(String key, String title, String message, boolean error) {
+            this.key = key;
+            this.title = title;
+            this.message = message;
+            node.getStyleClass().add(error ? "toast-error" : "toast");
+            node.setWrapText(true);
+            node.setMaxWidth(WIDTH);
+            node.setOnMouseClicked(e -> {
+                timer.stop();
+                dismiss(this);
+            });
+            timer.setOnFinished(e -> dismiss(this));
+            refresh();
+        }
+
+        private void refresh() {
+            node.setText(count == 1
+                    ? title + "\n" + message
+                    : title + " (×" + count + ")\n" + message);
+        }
+    }
+}
@@ -1,15 +1,17 @@
 package com.products;
-import com.products.Cart.Cart;
+import com.products.Cart.CartSession;
+import com.products.Cart.CartSessionManager;
 import com.products.Cart.CartView;
-import com.products.Order.Comanda;
+import com.products.File.FileManager;
 import com.products.Order.OrderView;
-import com.products.Product.Produs;
+import com.products.Product.Catalog;
+import com.products.Product.ProductFilterBar;
+import com.products.Product.ProductGrid;
 import com.products.Product.UserProductCard;
 import javafx.application.Platform;
 import javafx.geometry.Pos;
 import javafx.scene.Scene;
 import javafx.scene.control.*;
-import javafx.scene.effect.DropShadow;
 import javafx.scene.layout.*;
 import javafx.scene.paint.Color;
 import javafx.scene.text.Font;
@@ -17,8 +19,6 @@ import javafx.scene.text.FontWeight;
 import javafx.stage.Stage;
 import javafx.geometry.Insets;
 
-import java.util.List;
-
 /**
  * Reprezintă interfața grafică pentru utilizatorii obișnuiți ai sistemului de gestiune a produselor.
  * Această clasă gestionează toate operațiunile disponibile utilizatorilor, inclusiv vizualizarea
@@ -26,14 +26,14 @@ import java.util.List;
  */
 public class UserView {
     /**
-     * Lista produselor disponibile pentru vizualizare și cumpărare.
+     * Catalogul produselor disponibile pentru vizualizare și cumpărare.
      */
-    private List<Produs> produse;
+    private final Catalog catalog = FileManager.getInstance().getCatalog();
 
     /**
-     * Coșul de cumpărături asociat sesiunii curente a utilizatorului.
+     * Sesiunea de cumpărături a utilizatorului curent, care deține coșul acestuia.
      */
-    private Cart cart = new Cart();
+    private final CartSession session = CartSessionManager.getInstance().openPinnedSession();
 
     /**
      * Stage-ul principal al aplicației JavaFX.
@@ -63,24 +63,14 @@ public class UserView {
      */
     public UserView(Stage primaryStage) {
         this.primaryStage = primaryStage;
-        this.orderView = new OrderView(cart);
-        this.cartView = new CartView(cart, orderView);
+        this.orderView = new OrderView(Main.getOrderStore(), session);
+        this.cartView = new CartView(session, orderView);
     }
 
     /**
-     * Constructor implicit care inițializează un nou coș și încarcă comenzile existente.
+     * Constructor implicit care deschide o nouă sesiune de cumpărături, cu un coș gol.
      */
     public UserView() {
-        this.cart = new Cart();
-    }
-
-    /**
-     * Setează lista de produse disponibile utilizatorului.
-     *
-     * @param produse Lista de produse ce va fi afișată
-     */
-    public void setProduse(List<Produs> produse) {
-        this.produse = produse;
     }
 
     /**
@@ -103,36 +93,9 @@ public class UserView {
         userMenuLayout.setPadding(new Insets(40));
         userMenuLayout.setStyle("-fx-background-color: linear-gradient(to bottom right, #f8bbd0, #f48fb1);");
 
-        String buttonStyle = """
-        -fx-background-color: white;
-        -fx-text-fill: #f50057;
-        -fx-font-size: 14px;
-        -fx-font-weight: bold;
-        -fx-padding: 15 30;
-        -fx-background-radius: 5;
-        -fx-min-width: 200px;
-        -fx-min-height: 50px;
-        """;
-
-        String buttonHoverStyle = """
-        -fx-background-color: #f8bbd0;
-        -fx-text-fill: #d5006d;
-        -fx-cursor: hand;
-        -fx-font-size: 14px;
-        -fx-font-weight: bold;
-        -fx-padding: 15 30;
-        -fx-background-radius: 5;
-        -fx-min-width: 200px;
-        -fx-min-height: 50px;
-        """;
-
-        DropShadow shadow = new DropShadow();
-        shadow.setRadius(10.0);
-        shadow.setColor(Color.rgb(0, 0, 0, 0.3));
-
-        Button viewProductsButton = controllersManipulation.createStyledButton("Vizualizează produse", buttonStyle, buttonHoverStyle, shadow);
-        Button viewCartButton = controllersManipulation.createStyledButton("Vizualizează coșul", buttonStyle, buttonHoverStyle, shadow);
-        Button exitApplication = controllersManipulation.createStyledButton("Închide aplicația", buttonStyle, buttonHoverStyle, shadow);
+        Button viewProductsButton = controllersManipulation.createStyledButton("Vizualizează produse");
+        Button viewCartButton = controllersManipulation.createStyledButton("Vizualizează coșul");
+        Button exitApplication = controllersManipulation.createStyledButton("Închide aplicația");
 
         viewProductsButton.setOnAction(e -> {
             userStage.close();
@@ -164,46 +127,32 @@ public class UserView {
         productStage.setMinHeight(600);
         productStage.setMinWidth(800);
 
-        GridPane productGrid = new GridPane();
-        productGrid.setHgap(10);
-        productGrid.setVgap(10);
-        productGrid.setStyle("-fx-background-color: linear-gradient(to bottom right, #f8bbd0, #f48fb1);");
-
-        for (int i = 0; i < 3; i++) {
-            ColumnConstraints columnConstraints = new ColumnConstraints();
-            columnConstraints.setPercentWidth(33.33);
-            productGrid.getColumnConstraints().add(columnConstraints);
-        }
-
-        for (int i = 0; i < produse.size(); i++) {
-            Produs produs = produse.get(i);
-            VBox productBox = new VBox();
-            productBox.setStyle("-fx-border-color: #000; -fx-border-radius: 5; -fx-background-color: white; -fx-padding: 10;");
-            productBox.setPrefWidth(150);
-            productBox.getChildren().add(UserProductCard.createUserProductCard(produs, this, cartView));
-            productGrid.add(productBox, i % 3, i / 3);
-        }
+        ProductGrid productGrid = new ProductGrid(3, () -> new UserProductCard(this, cartView));
+        productGrid.setSlotStyle("-fx-border-color: #000; -fx-border-radius: 5; -fx-background-color: white; -fx-padding: 10;");
+        ProductFilterBar filterBar = ProductFilterBar.create(catalog, productGrid::setProducts);
+        productGrid.setProducts(catalog.snapshot());
+        productGrid.attach(catalog, filterBar::refresh, filterBar::dependsOn);
+        productStage.setOnHidden(e -> {
+            productGrid.detach();
+            filterBar.close();
+        });
 
-        ScrollPane scrollPane = new ScrollPane(productGrid);
-        scrollPane.setFitToWidth(true);
+        ListView<?> gridView = productGrid.getNode();
+        VBox.setVgrow(gridView, Priority.ALWAYS);
 
-        VBox mainLayout = new VBox(10, scrollPane);
+        VBox mainLayout = new VBox(10, filterBar.getNode(), gridView);
         mainLayout.setPadding(new Insets(10));
         mainLayout.setAlignment(Pos.CENTER);
 
         Button backButton = new Button("Înapoi către meniu");
-        backButton.setStyle("-fx-background-color:pink;-fx-padding: 10; -fx-font-weight: bold;");
-        backButton.setOnMouseEntered(e -> backButton.setStyle("-fx-background-color:white;-fx-padding: 10; -fx-font-weight: bold;"));
-        backButton.setOnMouseExited(e -> backButton.setStyle("-fx-background-color:pink;-fx-padding: 10; -fx-font-weight: bold;"));
+        backButton.getStyleClass().add("nav-button");
         backButton.setOnAction(e -> {
             productStage.close();
             openUserMenu();
         });
 
         Button viewCartButton = new Button("Vizualizează coșul");
-        viewCartButton.setStyle("-fx-background-color:pink;-fx-padding: 10; -fx-font-weight: bold;");
-        viewCartButton.setOnMouseEntered(e -> viewCartButton.setStyle("-fx-background-color:white;-fx-padding: 10; -fx-font-weight: bold;"));
-        viewCartButton.setOnMouseExited(e -> viewCartButton.setStyle("-fx-background-color:pink;-fx-padding: 10; -fx-font-weight: bold;"));
+        viewCartButton.getStyleClass().add("nav-button");
         viewCartButton.setOnAction(e -> {
             productStage.close();
             cartView.openCartView();
@@ -224,6 +173,8 @@ public class UserView {
      */
     private void closeApplication() {
         System.out.println("Buton apasat!");
+        // Comenzile aflate încă în coadă sunt salvate înainte de ieșire
+        Main.shutdownOrderPipeline();
         if (primaryStage != null) {
             primaryStage.close();
         }
@@ -2,6 +2,7 @@ module your.module.name {
     requires javafx.controls;
     requires javafx.fxml;
     requires java.desktop;
+    requires java.sql;
     requires org.json;
     exports com.products;
     exports com.products.Cart;